@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.benchmarks.beans.ApplicationCounter;
+import org.jboss.weld.benchmarks.beans.ChainedCounter;
+import org.jboss.weld.benchmarks.beans.ChainedInterceptors;
+import org.jboss.weld.benchmarks.beans.DecoratedCounter;
+import org.jboss.weld.benchmarks.beans.DependentCounter;
+import org.jboss.weld.benchmarks.beans.FastCounter;
+import org.jboss.weld.benchmarks.beans.InterceptedCounter;
+import org.jboss.weld.benchmarks.beans.MeasuredInterceptor;
+import org.jboss.weld.benchmarks.beans.NestedCounterDecorator;
+import org.jboss.weld.benchmarks.beans.PingObservers;
+import org.jboss.weld.benchmarks.beans.RequestCounter;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boots a Weld SE container with discovery disabled and a fixed set of bean classes once per trial. Subclasses may
+ * override {@link #configure(Weld)} to set configuration properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractWeldBenchmark {
+
+    static final Class<?>[] BEAN_CLASSES = { ApplicationCounter.class, ChainedCounter.class, ChainedInterceptors.First.class,
+            ChainedInterceptors.Second.class, ChainedInterceptors.Third.class, DecoratedCounter.class, DependentCounter.class,
+            FastCounter.class, InterceptedCounter.class, MeasuredInterceptor.class, NestedCounterDecorator.class,
+            PingObservers.class, RequestCounter.class };
+
+    protected WeldContainer container;
+
+    @Setup(Level.Trial)
+    public void startContainer() {
+        container = configure(new Weld(getClass().getName()).disableDiscovery().skipShutdownHook().beanClasses(BEAN_CLASSES))
+                .initialize();
+        init();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContainer() {
+        container.shutdown();
+    }
+
+    protected Weld configure(Weld weld) {
+        return weld;
+    }
+
+    /**
+     * Invoked once the container is running.
+     */
+    protected void init() {
+    }
+
+}
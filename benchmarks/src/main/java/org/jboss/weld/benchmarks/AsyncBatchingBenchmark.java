@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.events.WeldNotificationOptions;
+import org.jboss.weld.events.WeldNotificationOptions.NotificationMode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Bursts of asynchronous events delivered one task per event (per observer method in the parallel mode) or coalesced in
+ * batches through {@link ObserverNotifier#ASYNC_BATCH_WINDOW}. The {@code submissions} counter reports the tasks
+ * submitted to the executor.
+ */
+@OperationsPerInvocation(AsyncBatchingBenchmark.EVENTS)
+public class AsyncBatchingBenchmark extends AbstractWeldBenchmark {
+
+    static final int EVENTS = 64;
+
+    @Param({ "SERIAL", "PARALLEL" })
+    public String mode;
+
+    @Param({ "false", "true" })
+    public boolean batched;
+
+    private ExecutorService delegate;
+
+    private Event<Tick> event;
+
+    private CountingExecutor executor;
+
+    private NotificationOptions options;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(TickObservers.class);
+    }
+
+    @Override
+    protected void init() {
+        delegate = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        executor = new CountingExecutor(delegate);
+        event = container.getBeanManager().getEvent().select(Tick.class);
+        NotificationOptions.Builder builder = NotificationOptions.builder().setExecutor(executor)
+                .set(WeldNotificationOptions.MODE, NotificationMode.valueOf(mode));
+        if (batched) {
+            builder.set(ObserverNotifier.ASYNC_BATCH_WINDOW, 0L);
+        }
+        options = builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownExecutor() {
+        delegate.shutdownNow();
+    }
+
+    @Benchmark
+    public void fireBurst(Submissions submissions) {
+        long before = executor.submissions.get();
+        CompletableFuture<?>[] results = new CompletableFuture<?>[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            results[i] = event.fireAsync(new Tick(i), options).toCompletableFuture();
+        }
+        CompletableFuture.allOf(results).join();
+        submissions.submissions += executor.submissions.get() - before;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Submissions {
+
+        public long submissions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            submissions = 0;
+        }
+
+    }
+
+    public static class Tick {
+
+        private final int value;
+
+        Tick(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+    }
+
+    public static class TickObservers {
+
+        private final AtomicLong received = new AtomicLong();
+
+        void first(@ObservesAsync Tick tick) {
+            received.addAndGet(tick.getValue());
+        }
+
+        void second(@ObservesAsync Tick tick) {
+            received.addAndGet(tick.getValue());
+        }
+
+        void third(@ObservesAsync Tick tick) {
+            received.addAndGet(tick.getValue());
+        }
+
+    }
+
+    static class CountingExecutor implements Executor {
+
+        private final Executor delegate;
+
+        private final AtomicLong submissions = new AtomicLong();
+
+        CountingExecutor(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            submissions.incrementAndGet();
+            delegate.execute(command);
+        }
+
+    }
+
+}
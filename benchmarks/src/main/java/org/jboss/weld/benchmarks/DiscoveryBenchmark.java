@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Scanning;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.deployment.discovery.AbstractDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveScanner.ScanResult;
+import org.jboss.weld.environment.deployment.discovery.ReflectionDiscoveryStrategy;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.metadata.BeansXmlImpl;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean archive discovery on a synthetic class path of jar files, with and without an executor for parallel discovery. Only
+ * the handling of the archives is measured - the scan results are computed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscoveryBenchmark {
+
+    @Param({ "500" })
+    public int jars;
+
+    @Param({ "200" })
+    public int classesPerJar;
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    private Path directory;
+
+    private List<ScanResult> scanResults;
+
+    private ExecutorServices executorServices;
+
+    @Setup(Level.Trial)
+    public void createClassPath() throws IOException {
+        directory = Files.createTempDirectory("weld-discovery-benchmark");
+        BeansXml beansXml = new BeansXmlImpl(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Scanning.EMPTY_SCANNING, null, BeanDiscoveryMode.ALL, null, false);
+        scanResults = new ArrayList<>(jars);
+        for (int i = 0; i < jars; i++) {
+            File jar = directory.resolve("lib" + i + ".jar").toFile();
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+                write(out, "META-INF/beans.xml", new byte[0]);
+                for (int j = 0; j < classesPerJar; j++) {
+                    write(out, "org/acme/lib" + i + "/pkg" + (j % 10) + "/Bean" + j + ".class", new byte[64]);
+                }
+            }
+            scanResults.add(new ScanResult(beansXml, jar.getPath(), "lib" + i));
+        }
+        if (parallel) {
+            executorServices = new FixedThreadPoolExecutorServices(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClassPath() throws IOException {
+        if (executorServices != null) {
+            executorServices.cleanup();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Set<WeldBeanDeploymentArchive> performDiscovery() {
+        AbstractDiscoveryStrategy strategy = new ReflectionDiscoveryStrategy(
+                new ClassLoaderResourceLoader(getClass().getClassLoader()), null, Collections.emptySet(),
+                BeanDiscoveryMode.ANNOTATED);
+        strategy.setScanner(() -> scanResults);
+        strategy.setExecutorServices(executorServices);
+        return strategy.performDiscovery();
+    }
+
+    private static void write(JarOutputStream out, String name, byte[] content) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(content);
+        out.closeEntry();
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.weld.benchmarks.beans.Fast;
+import org.jboss.weld.benchmarks.beans.Ping;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Event delivery through {@code ObserverNotifier}, both synchronous and asynchronous, with observer methods invoked through
+ * compiled method handles or reflection.
+ */
+public class EventBenchmark extends AbstractWeldBenchmark {
+
+    private static final Ping PING = new Ping(1);
+
+    @Param({ "true", "false" })
+    public boolean methodHandleDispatch;
+
+    private Event<Ping> event;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.property(ConfigurationKey.OBSERVER_METHOD_HANDLE_DISPATCH.get(), methodHandleDispatch);
+    }
+
+    @Override
+    protected void init() {
+        event = container.getBeanManager().getEvent().select(Ping.class);
+    }
+
+    @Benchmark
+    public void fire() {
+        event.fire(PING);
+    }
+
+    @Benchmark
+    public void selectQualifiedAndFire() {
+        event.select(Fast.Literal.INSTANCE).fire(PING);
+    }
+
+    @Benchmark
+    public Ping fireAsync() {
+        return event.fireAsync(PING).toCompletableFuture().join();
+    }
+
+}
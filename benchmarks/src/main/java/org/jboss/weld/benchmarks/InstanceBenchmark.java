@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Instance.Handle;
+
+import org.jboss.weld.benchmarks.beans.ApplicationCounter;
+import org.jboss.weld.benchmarks.beans.DependentCounter;
+import org.jboss.weld.benchmarks.beans.Fast;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Programmatic lookup through {@code InstanceImpl}.
+ */
+public class InstanceBenchmark extends AbstractWeldBenchmark {
+
+    private Instance<ApplicationCounter> applicationCounter;
+
+    private Instance<DependentCounter> dependentCounter;
+
+    @Override
+    protected void init() {
+        applicationCounter = container.select(ApplicationCounter.class);
+        dependentCounter = container.select(DependentCounter.class);
+    }
+
+    @Benchmark
+    public int get() {
+        return applicationCounter.get().increment();
+    }
+
+    @Benchmark
+    public int selectQualifiedAndGet() {
+        return applicationCounter.select(Fast.Literal.INSTANCE).get().increment();
+    }
+
+    @Benchmark
+    public int getDependentHandle() {
+        // Dependent instances must be destroyed, otherwise they are held by the Instance until the container shuts down
+        try (Handle<DependentCounter> handle = dependentCounter.getHandle()) {
+            return handle.get().increment();
+        }
+    }
+
+}
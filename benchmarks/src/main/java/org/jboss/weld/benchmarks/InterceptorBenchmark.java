@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import org.jboss.weld.benchmarks.beans.ApplicationCounter;
+import org.jboss.weld.benchmarks.beans.ChainedCounter;
+import org.jboss.weld.benchmarks.beans.Counter;
+import org.jboss.weld.benchmarks.beans.DecoratedCounter;
+import org.jboss.weld.benchmarks.beans.InterceptedCounter;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Invocation of an intercepted business method, i.e. the intercepted subclass and {@code InterceptorMethodHandler}, with the
+ * interceptor methods invoked through method handles or reflection. The non-intercepted invocation serves as a baseline.
+ * {@link #invokeChained()} goes through a chain of three interceptors; its {@code gc.alloc.rate.norm} is the number of bytes
+ * allocated per intercepted invocation. {@link #invokeNested()} goes through the chain, a decorator and a nested intercepted
+ * bean, i.e. it starts several interception contexts and proceeds through four interceptors per invocation.
+ */
+public class InterceptorBenchmark extends AbstractWeldBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean methodHandleDispatch;
+
+    private Counter intercepted;
+
+    private Counter chained;
+
+    private Counter nested;
+
+    private Counter plain;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.property(ConfigurationKey.INTERCEPTOR_METHOD_HANDLE_DISPATCH.get(), methodHandleDispatch);
+    }
+
+    @Override
+    protected void init() {
+        intercepted = container.select(InterceptedCounter.class).get();
+        chained = container.select(ChainedCounter.class).get();
+        nested = container.select(DecoratedCounter.class).get();
+        plain = container.select(ApplicationCounter.class).get();
+    }
+
+    @Benchmark
+    public int invokeIntercepted() {
+        return intercepted.increment();
+    }
+
+    @Benchmark
+    public int invokeChained() {
+        return chained.increment();
+    }
+
+    @Benchmark
+    public int invokeNested() {
+        return nested.increment();
+    }
+
+    @Benchmark
+    public int invokePlain() {
+        return plain.increment();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.PassivationCapable;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Many threads creating distinct contextual instances in the same shared (application) context. Every operation creates an
+ * instance and destroys it again, so that each {@code get()} has to acquire the creation lock.
+ */
+@Threads(64)
+public class LockStoreContentionBenchmark extends AbstractWeldBenchmark {
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    @Param({ "SYNCHRONIZED", "CONCURRENT" })
+    public String lockStoreType;
+
+    private AlterableContext context;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.property(ConfigurationKey.CONTEXT_LOCK_STORE_TYPE.get(), lockStoreType);
+    }
+
+    @Override
+    protected void init() {
+        context = (AlterableContext) container.getBeanManager().getContext(ApplicationScoped.class);
+    }
+
+    /**
+     * A distinct contextual per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadContextual implements Contextual<Object>, PassivationCapable {
+
+        private String id;
+
+        private CreationalContext<Object> creationalContext;
+
+        @Setup
+        public void setup(LockStoreContentionBenchmark benchmark) {
+            id = LockStoreContentionBenchmark.class.getName() + IDS.incrementAndGet();
+            creationalContext = benchmark.container.getBeanManager().createCreationalContext(this);
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+    }
+
+    @Benchmark
+    public Object createAndDestroy(ThreadContextual contextual) {
+        Object instance = context.get(contextual, contextual.creationalContext);
+        context.destroy(contextual);
+        return instance;
+    }
+
+}
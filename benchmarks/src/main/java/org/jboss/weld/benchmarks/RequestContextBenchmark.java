@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.context.control.RequestContextController;
+
+import org.jboss.weld.benchmarks.beans.Counter;
+import org.jboss.weld.benchmarks.beans.RequestCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Request context activation and deactivation, optionally with a request-scoped instance created in between.
+ */
+public class RequestContextBenchmark extends AbstractWeldBenchmark {
+
+    private Counter requestCounter;
+
+    @Override
+    protected void init() {
+        requestCounter = container.select(RequestCounter.class).get();
+    }
+
+    /**
+     * The request context is bound to a thread, so each benchmark thread needs its own controller.
+     */
+    @State(Scope.Thread)
+    public static class Controller {
+
+        RequestContextController controller;
+
+        @Setup
+        public void setup(RequestContextBenchmark benchmark) {
+            controller = benchmark.container.select(RequestContextController.class).get();
+        }
+
+    }
+
+    @Benchmark
+    public boolean activateDeactivate(Controller state) {
+        boolean activated = state.controller.activate();
+        state.controller.deactivate();
+        return activated;
+    }
+
+    @Benchmark
+    public int activateUseDeactivate(Controller state) {
+        state.controller.activate();
+        try {
+            return requestCounter.increment();
+        } finally {
+            state.controller.deactivate();
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.weld.benchmarks.beans.Counter;
+import org.jboss.weld.benchmarks.beans.RequestCounter;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.contexts.cache.RequestScopedItem;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Allocation of the request scoped cache over the life of a request. Compare {@code gc.alloc.rate.norm} reported by the GC
+ * profiler - in the steady state the cache itself should not allocate, whether the registry is retained by the thread or taken
+ * from the shared pool.
+ */
+public class RequestScopedCacheBenchmark extends AbstractWeldBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean retainRegistry;
+
+    private BoundRequestContext requestContext;
+
+    private Counter requestCounter;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.property(ConfigurationKey.RETAIN_REQUEST_SCOPED_CACHE.get(), retainRegistry);
+    }
+
+    @Override
+    protected void init() {
+        requestContext = container.select(BoundRequestContext.class).get();
+        requestCounter = container.select(RequestCounter.class).get();
+    }
+
+    /**
+     * Pre-allocated items and bound request storage for each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Request {
+
+        @Param({ "1", "32" })
+        public int items;
+
+        RequestScopedItem[] cacheItems;
+
+        final Map<String, Object> storage = new HashMap<String, Object>();
+
+        @Setup
+        public void setup() {
+            cacheItems = new RequestScopedItem[items];
+            for (int i = 0; i < items; i++) {
+                final ThreadLocal<Object> threadLocal = new ThreadLocal<Object>();
+                cacheItems[i] = new RequestScopedItem() {
+                    @Override
+                    public void invalidate() {
+                        threadLocal.remove();
+                    }
+                };
+            }
+        }
+
+    }
+
+    @Benchmark
+    public boolean beginAddEnd(Request request) {
+        RequestScopedCache.beginRequest(retainRegistry);
+        boolean added = false;
+        for (RequestScopedItem item : request.cacheItems) {
+            added |= RequestScopedCache.addItemIfActive(item);
+        }
+        RequestScopedCache.endRequest();
+        return added;
+    }
+
+    /**
+     * A request scoped bean is cached in the request scoped cache when invoked through its client proxy.
+     */
+    @Benchmark
+    public int boundRequest(Request request) {
+        requestContext.associate(request.storage);
+        requestContext.activate();
+        try {
+            return requestCounter.increment();
+        } finally {
+            requestContext.invalidate();
+            requestContext.deactivate();
+            requestContext.dissociate(request.storage);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import org.jboss.weld.benchmarks.beans.Counter;
+import org.jboss.weld.benchmarks.beans.RequestCounter;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A {@link RequestScoped}-heavy workload served by platform threads (a fixed pool) or virtual threads (one per request),
+ * with the request scoped cache held in thread-locals or by the request context. Virtual threads require Java 21 or
+ * newer.
+ */
+@OperationsPerInvocation(VirtualThreadRequestBenchmark.REQUESTS)
+public class VirtualThreadRequestBenchmark extends AbstractWeldBenchmark {
+
+    static final int REQUESTS = 256;
+
+    private static final int INVOCATIONS_PER_BEAN = 8;
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    public String threads;
+
+    @Param({ "THREAD_LOCAL", "REQUEST_CONTEXT" })
+    public String cacheMode;
+
+    private ExecutorService executor;
+
+    private List<Callable<Integer>> requests;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(First.class, Second.class, Third.class)
+                .property(ConfigurationKey.REQUEST_SCOPED_CACHE_MODE.get(), cacheMode);
+    }
+
+    @Override
+    protected void init() {
+        final BoundRequestContext requestContext = container.select(BoundRequestContext.class).get();
+        final Counter[] counters = { container.select(RequestCounter.class).get(), container.select(First.class).get(),
+                container.select(Second.class).get(), container.select(Third.class).get() };
+        executor = "VIRTUAL".equals(threads) ? newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        requests = new ArrayList<Callable<Integer>>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    Map<String, Object> storage = new HashMap<String, Object>();
+                    requestContext.associate(storage);
+                    requestContext.activate();
+                    try {
+                        int sum = 0;
+                        for (int j = 0; j < INVOCATIONS_PER_BEAN; j++) {
+                            for (Counter counter : counters) {
+                                sum += counter.increment();
+                            }
+                        }
+                        return sum;
+                    } finally {
+                        requestContext.invalidate();
+                        requestContext.deactivate();
+                        requestContext.dissociate(storage);
+                    }
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveRequests() throws InterruptedException, ExecutionException {
+        int sum = 0;
+        for (Future<Integer> result : executor.invokeAll(requests)) {
+            sum += result.get();
+        }
+        return sum;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or newer", e);
+        }
+    }
+
+    @RequestScoped
+    public static class First extends AbstractCounter {
+    }
+
+    @RequestScoped
+    public static class Second extends AbstractCounter {
+    }
+
+    @RequestScoped
+    public static class Third extends AbstractCounter {
+    }
+
+    public abstract static class AbstractCounter implements Counter {
+
+        private int value;
+
+        @Override
+        public int increment() {
+            return ++value;
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.beans;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Three pass-through interceptors bound to {@link Chained}, so that the measured cost is a typical interceptor chain, e.g.
+ * transactions, metrics and security. None of them accesses the context data.
+ */
+public final class ChainedInterceptors {
+
+    private ChainedInterceptors() {
+    }
+
+    @Chained
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION)
+    public static class First {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Chained
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 1)
+    public static class Second {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Chained
+    @Interceptor
+    @Priority(Interceptor.Priority.APPLICATION + 2)
+    public static class Third {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.beans;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+
+/**
+ * Synchronous and asynchronous observers of {@link Ping}.
+ */
+@ApplicationScoped
+public class PingObservers {
+
+    private final LongAdder received = new LongAdder();
+
+    void observe(@Observes Ping ping) {
+        received.add(ping.getValue());
+    }
+
+    void observeFast(@Observes @Fast Ping ping) {
+        received.add(ping.getValue());
+    }
+
+    void observeAsync(@ObservesAsync Ping ping) {
+        received.add(ping.getValue());
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+}
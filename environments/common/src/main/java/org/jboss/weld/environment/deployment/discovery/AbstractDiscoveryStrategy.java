@@ -23,14 +23,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import jakarta.annotation.Priority;
 
+import org.jboss.weld.bootstrap.BootstrapProfiler;
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.bootstrap.spi.BeansXml;
@@ -39,6 +43,8 @@ import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveScanner.ScanResult;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.resources.spi.ResourceLoader;
 import org.jboss.weld.util.ServiceLoader;
@@ -53,6 +59,10 @@ import org.jboss.weld.util.ServiceLoader;
  */
 public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
+    static final String SCAN_SUFFIX = " (scan)";
+
+    static final String PROCESS_SUFFIX = " (process)";
+
     protected ResourceLoader resourceLoader;
 
     protected Bootstrap bootstrap;
@@ -65,6 +75,10 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
     private final BeanDiscoveryMode emptyBeansXmlDiscoveryMode;
 
+    private ExecutorServices executorServices;
+
+    private BootstrapProfiler profiler;
+
     protected AbstractDiscoveryStrategy() {
         handlers = new LinkedList<BeanArchiveHandler>();
         this.emptyBeansXmlDiscoveryMode = BeanDiscoveryMode.ANNOTATED;
@@ -106,6 +120,28 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         this.initialBeanDefiningAnnotations = initialBeanDefiningAnnotations;
     }
 
+    /**
+     * If set, bean archive references are handled and the discovered classes are filtered concurrently using the task executor
+     * of the given {@link ExecutorServices}. In that case all the {@link BeanArchiveHandler}s and the
+     * {@code process*Discovery()} methods must be thread-safe. The resulting set of bean archives is ordered by the scan
+     * results no matter which mode is used.
+     *
+     * @param executorServices the executor services to use or <code>null</code> to perform the discovery sequentially
+     */
+    public void setExecutorServices(ExecutorServices executorServices) {
+        this.executorServices = executorServices;
+    }
+
+    /**
+     * If set, the time spent in handling and processing each bean archive is recorded in the given profiler, under the bean
+     * archive id followed by {@value #SCAN_SUFFIX} and {@value #PROCESS_SUFFIX} respectively.
+     *
+     * @param profiler the profiler to use or <code>null</code> if the discovery should not be profiled
+     */
+    public void setBootstrapProfiler(BootstrapProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     @Override
     public Set<WeldBeanDeploymentArchive> performDiscovery() {
 
@@ -118,52 +154,50 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
         List<BeanArchiveHandler> beanArchiveHandlers = initBeanArchiveHandlers();
 
+        final List<ScanResult> scanResults = new ArrayList<ScanResult>();
         for (ScanResult scanResult : scanner.scan()) {
             final String ref = scanResult.getBeanArchiveRef();
             if (processedRefs.contains(ref)) {
                 throw CommonLogger.LOG.invalidScanningResult(ref);
             }
-            CommonLogger.LOG.processingBeanArchiveReference(ref);
             processedRefs.add(ref);
-            BeanArchiveBuilder builder = null;
-            for (BeanArchiveHandler handler : beanArchiveHandlers) {
-                builder = handler.handle(ref);
+            scanResults.add(scanResult);
+        }
+
+        if (executorServices != null) {
+            List<Callable<BeanArchiveBuilder>> tasks = new ArrayList<Callable<BeanArchiveBuilder>>(scanResults.size());
+            for (ScanResult scanResult : scanResults) {
+                tasks.add(() -> handle(scanResult, beanArchiveHandlers));
+            }
+            for (BeanArchiveBuilder builder : invokeAll(tasks)) {
                 if (builder != null) {
-                    CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
-                    builder.setId(scanResult.getBeanArchiveId());
-                    builder.setBeansXml(scanResult.getBeansXml());
                     beanArchiveBuilders.add(builder);
-                    break;
                 }
             }
-            if (builder == null) {
-                CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(ref, beanArchiveHandlers);
+        } else {
+            for (ScanResult scanResult : scanResults) {
+                BeanArchiveBuilder builder = handle(scanResult, beanArchiveHandlers);
+                if (builder != null) {
+                    beanArchiveBuilders.add(builder);
+                }
             }
         }
 
         beforeDiscovery(beanArchiveBuilders);
-        Set<WeldBeanDeploymentArchive> archives = new HashSet<WeldBeanDeploymentArchive>();
-
-        for (Iterator<BeanArchiveBuilder> iterator = beanArchiveBuilders.iterator(); iterator.hasNext();) {
-            BeanArchiveBuilder builder = iterator.next();
-            BeansXml beansXml = builder.getBeansXml();
-            if (beansXml != null) {
-                switch (beansXml.getBeanDiscoveryMode()) {
-                    case ALL:
-                        addToArchives(archives, processAllDiscovery(builder));
-                        break;
-                    case ANNOTATED:
-                        addToArchives(archives, processAnnotatedDiscovery(builder));
-                        break;
-                    case NONE:
-                        addToArchives(archives, processNoneDiscovery(builder));
-                        break;
-                    default:
-                        throw CommonLogger.LOG.undefinedBeanDiscoveryValue(beansXml.getBeanDiscoveryMode());
-                }
-            } else {
-                // A candidate for an implicit bean archive with no beans.xml
-                addToArchives(archives, processAnnotatedDiscovery(builder));
+        Set<WeldBeanDeploymentArchive> archives = new LinkedHashSet<WeldBeanDeploymentArchive>();
+
+        if (executorServices != null) {
+            List<Callable<WeldBeanDeploymentArchive>> tasks = new ArrayList<Callable<WeldBeanDeploymentArchive>>(
+                    beanArchiveBuilders.size());
+            for (BeanArchiveBuilder builder : beanArchiveBuilders) {
+                tasks.add(() -> process(builder));
+            }
+            for (WeldBeanDeploymentArchive archive : invokeAll(tasks)) {
+                addToArchives(archives, archive);
+            }
+        } else {
+            for (BeanArchiveBuilder builder : beanArchiveBuilders) {
+                addToArchives(archives, process(builder));
             }
         }
         for (WeldBeanDeploymentArchive archive : archives) {
@@ -173,6 +207,99 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         return archives;
     }
 
+    private BeanArchiveBuilder handle(ScanResult scanResult, List<BeanArchiveHandler> beanArchiveHandlers) {
+        if (profiler == null) {
+            return doHandle(scanResult, beanArchiveHandlers);
+        }
+        final long start = System.nanoTime();
+        try {
+            return doHandle(scanResult, beanArchiveHandlers);
+        } finally {
+            profiler.record(BootstrapProfiler.ARCHIVE, scanResult.getBeanArchiveId() + SCAN_SUFFIX, start);
+        }
+    }
+
+    private BeanArchiveBuilder doHandle(ScanResult scanResult, List<BeanArchiveHandler> beanArchiveHandlers) {
+        final String ref = scanResult.getBeanArchiveRef();
+        CommonLogger.LOG.processingBeanArchiveReference(ref);
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            BeanArchiveBuilder builder = handler.handle(ref);
+            if (builder != null) {
+                CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
+                builder.setId(scanResult.getBeanArchiveId());
+                builder.setBeansXml(scanResult.getBeansXml());
+                return builder;
+            }
+        }
+        CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(ref, beanArchiveHandlers);
+        return null;
+    }
+
+    private WeldBeanDeploymentArchive process(BeanArchiveBuilder builder) {
+        if (profiler == null) {
+            return doProcess(builder);
+        }
+        final long start = System.nanoTime();
+        try {
+            return doProcess(builder);
+        } finally {
+            profiler.record(BootstrapProfiler.ARCHIVE, builder.getId() + PROCESS_SUFFIX, start);
+        }
+    }
+
+    private WeldBeanDeploymentArchive doProcess(BeanArchiveBuilder builder) {
+        BeansXml beansXml = builder.getBeansXml();
+        if (beansXml != null) {
+            switch (beansXml.getBeanDiscoveryMode()) {
+                case ALL:
+                    return processAllDiscovery(builder);
+                case ANNOTATED:
+                    return processAnnotatedDiscovery(builder);
+                case NONE:
+                    return processNoneDiscovery(builder);
+                default:
+                    throw CommonLogger.LOG.undefinedBeanDiscoveryValue(beansXml.getBeanDiscoveryMode());
+            }
+        } else {
+            // A candidate for an implicit bean archive with no beans.xml
+            return processAnnotatedDiscovery(builder);
+        }
+    }
+
+    /**
+     * Executes the tasks using the task executor and returns the results in the order of the given tasks. The TCCL of the
+     * calling thread is propagated to the tasks so that class loading behaves the same as in the sequential mode.
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        List<Callable<T>> wrapped = new ArrayList<Callable<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(() -> {
+                final Thread thread = Thread.currentThread();
+                final ClassLoader oldTccl = thread.getContextClassLoader();
+                thread.setContextClassLoader(tccl);
+                try {
+                    return task.call();
+                } finally {
+                    thread.setContextClassLoader(oldTccl);
+                }
+            });
+        }
+        List<T> results = new ArrayList<T>(tasks.size());
+        for (Future<T> future : executorServices.invokeAllAndCheckForExceptions(wrapped)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WeldException(e);
+            } catch (ExecutionException e) {
+                // Not reachable - exceptions are already rethrown by invokeAllAndCheckForExceptions()
+                throw new WeldException(e.getCause());
+            }
+        }
+        return results;
+    }
+
     @Override
     public ClassFileServices getClassFileServices() {
         // By default no bytecode scanning facility available
@@ -32,6 +32,10 @@ import java.util.ServiceLoader;
  * derived from the order they were
  * inserted.
  * </p>
+ * <p>
+ * If the discovery strategy is configured to perform the discovery in parallel, {@link #handle(String)} may be invoked
+ * concurrently for different bean archive references.
+ * </p>
  *
  * @author Martin Kouba
  * @see DiscoveryStrategy#registerHandler(BeanArchiveHandler)
@@ -0,0 +1,221 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * A Weld-specific index of a bean archive, usually generated at build time and stored in {@value #INDEX_NAME}. For each class
+ * the index holds the names of the annotations declared on the class and whether the class declares an annotation that is
+ * bean defining by means of a meta-annotation (stereotype, normal scope), an observer method or a producer. This is enough to
+ * decide whether a class is a bean in an {@code annotated} bean archive without loading the class.
+ * <p>
+ * The index is stored in a line-based text format. The first line is the header, each following line describes a single class
+ * - the class name, the flags and the comma-separated annotation names, separated by a space. A dash denotes no flags or no
+ * annotations.
+ * </p>
+ *
+ * @see BeanIndexDiscoveryStrategy
+ */
+public final class BeanIndex {
+
+    public static final String INDEX_NAME = "META-INF/weld-index.idx";
+
+    static final String ATTRIBUTE_NAME = BeanIndex.class.getName();
+
+    private static final String HEADER = "weld-index:1";
+
+    private static final String NONE = "-";
+
+    private static final char BEAN_DEFINING_META_ANNOTATION = 'B';
+
+    private static final char OBSERVER_METHOD = 'O';
+
+    private static final char PRODUCER = 'P';
+
+    private final Map<String, Entry> entries;
+
+    public BeanIndex(Collection<Entry> entries) {
+        Map<String, Entry> map = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            map.put(entry.getClassName(), entry);
+        }
+        this.entries = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     *
+     * @param in the input stream, not closed by this method
+     * @return the index
+     * @throws IOException if the stream cannot be read or the format is not valid
+     */
+    public static BeanIndex read(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        if (!HEADER.equals(line)) {
+            throw new IOException("Unsupported bean index header: " + line);
+        }
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] parts = line.split(" ");
+            if (parts.length != 3) {
+                throw new IOException("Invalid bean index line: " + line);
+            }
+            String flags = parts[1];
+            Set<String> annotations = NONE.equals(parts[2]) ? Collections.emptySet()
+                    : ImmutableSet.of(parts[2].split(","));
+            entries.put(parts[0], new Entry(parts[0], annotations, flags.indexOf(BEAN_DEFINING_META_ANNOTATION) >= 0,
+                    flags.indexOf(OBSERVER_METHOD) >= 0, flags.indexOf(PRODUCER) >= 0));
+        }
+        return new BeanIndex(entries.values());
+    }
+
+    /**
+     *
+     * @param out the output stream, not closed by this method
+     * @throws IOException
+     */
+    public void write(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Entry entry : entries.values()) {
+            writer.write(entry.getClassName());
+            writer.write(' ');
+            StringBuilder flags = new StringBuilder();
+            if (entry.hasBeanDefiningMetaAnnotation()) {
+                flags.append(BEAN_DEFINING_META_ANNOTATION);
+            }
+            if (entry.hasObserverMethod()) {
+                flags.append(OBSERVER_METHOD);
+            }
+            if (entry.hasProducer()) {
+                flags.append(PRODUCER);
+            }
+            writer.write(flags.length() == 0 ? NONE : flags.toString());
+            writer.write(' ');
+            writer.write(entry.getAnnotations().isEmpty() ? NONE : String.join(",", entry.getAnnotations()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     *
+     * @param className
+     * @return the entry for the given class or <code>null</code> if the class is not indexed
+     */
+    public Entry get(String className) {
+        return entries.get(className);
+    }
+
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    public static final class Entry {
+
+        private final String className;
+
+        private final Set<String> annotations;
+
+        private final boolean beanDefiningMetaAnnotation;
+
+        private final boolean observerMethod;
+
+        private final boolean producer;
+
+        /**
+         *
+         * @param className the class name
+         * @param annotations the names of the annotations declared on the class
+         * @param beanDefiningMetaAnnotation whether any of the annotations is annotated with a bean defining meta-annotation
+         * @param observerMethod whether the class declares an observer method
+         * @param producer whether the class declares a producer method or field
+         */
+        public Entry(String className, Set<String> annotations, boolean beanDefiningMetaAnnotation, boolean observerMethod,
+                boolean producer) {
+            this.className = className;
+            this.annotations = annotations;
+            this.beanDefiningMetaAnnotation = beanDefiningMetaAnnotation;
+            this.observerMethod = observerMethod;
+            this.producer = producer;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public Set<String> getAnnotations() {
+            return annotations;
+        }
+
+        public boolean hasBeanDefiningMetaAnnotation() {
+            return beanDefiningMetaAnnotation;
+        }
+
+        public boolean hasObserverMethod() {
+            return observerMethod;
+        }
+
+        public boolean hasProducer() {
+            return producer;
+        }
+
+        /**
+         *
+         * @param beanDefiningAnnotations the names of the bean defining annotations
+         * @return <code>true</code> if the class declares a bean defining annotation, <code>false</code> otherwise
+         */
+        public boolean hasBeanDefiningAnnotation(Set<String> beanDefiningAnnotations) {
+            if (beanDefiningMetaAnnotation) {
+                return true;
+            }
+            for (String annotation : annotations) {
+                if (beanDefiningAnnotations.contains(annotation)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return className;
+        }
+
+    }
+
+}
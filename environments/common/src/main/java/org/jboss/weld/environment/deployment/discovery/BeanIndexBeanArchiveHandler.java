@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.jboss.logging.Logger;
+import org.jboss.weld.environment.logging.CommonLogger;
+
+/**
+ * Uses the {@link BeanIndex} stored in {@value BeanIndex#INDEX_NAME} of a JAR file or a directory to list the classes of the
+ * bean archive. If no index is available the {@link #handle(String)} method returns null. Nested archives are not supported.
+ *
+ * @see BeanIndexDiscoveryStrategy
+ */
+public class BeanIndexBeanArchiveHandler implements BeanArchiveHandler {
+
+    private static final Logger log = Logger.getLogger(BeanIndexBeanArchiveHandler.class);
+
+    @Override
+    public BeanArchiveBuilder handle(String path) {
+        File file = new File(path);
+        if (!file.canRead()) {
+            return null;
+        }
+        BeanIndex index;
+        try {
+            index = file.isDirectory() ? readFromDirectory(file) : readFromArchive(file);
+        } catch (IOException e) {
+            throw CommonLogger.LOG.cannotReadBeanIndex(path, e);
+        }
+        log.debugv("Bean index {0}found: {1}", index == null ? "NOT " : "", path);
+        if (index == null) {
+            return null;
+        }
+        BeanArchiveBuilder builder = new BeanArchiveBuilder().setAttribute(BeanIndex.ATTRIBUTE_NAME, index);
+        for (BeanIndex.Entry entry : index.getEntries()) {
+            builder.addClass(entry.getClassName());
+        }
+        return builder;
+    }
+
+    private BeanIndex readFromDirectory(File directory) throws IOException {
+        File indexFile = new File(directory, BeanIndex.INDEX_NAME);
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(indexFile.toPath())) {
+            return BeanIndex.read(in);
+        }
+    }
+
+    private BeanIndex readFromArchive(File archive) throws IOException {
+        ZipFile zip;
+        try {
+            zip = new ZipFile(archive);
+        } catch (ZipException e) {
+            // Not an archive - let other handlers decide
+            return null;
+        }
+        try {
+            ZipEntry entry = zip.getEntry(BeanIndex.INDEX_NAME);
+            if (entry == null) {
+                return null;
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                return BeanIndex.read(in);
+            }
+        } finally {
+            zip.close();
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.lang.annotation.Annotation;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * A discovery strategy which trusts the {@link BeanIndex} of each bean archive and never loads a class to decide whether it is
+ * a bean. Bean archives with bean discovery mode {@code all} do not need an index, their classes are listed from the file
+ * system. Bean archives with bean discovery mode {@code annotated} must contain an index, otherwise the discovery fails.
+ * Candidates for an implicit bean archive with no beans.xml and no index are ignored.
+ *
+ * @see BeanIndex
+ */
+public class BeanIndexDiscoveryStrategy extends AbstractDiscoveryStrategy {
+
+    private final Set<String> beanDefiningAnnotations;
+
+    public BeanIndexDiscoveryStrategy(ResourceLoader resourceLoader, Bootstrap bootstrap,
+            Set<Class<? extends Annotation>> initialBeanDefiningAnnotations,
+            BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
+        super(resourceLoader, bootstrap, initialBeanDefiningAnnotations, emptyBeansXmlDiscoveryMode);
+        ImmutableSet.Builder<String> names = ImmutableSet.builder();
+        for (Class<? extends Annotation> annotation : initialBeanDefiningAnnotations) {
+            names.add(annotation.getName());
+        }
+        this.beanDefiningAnnotations = names.build();
+        registerHandler(new BeanIndexBeanArchiveHandler());
+        registerHandler(new FileSystemBeanArchiveHandler());
+    }
+
+    @Override
+    protected WeldBeanDeploymentArchive processAnnotatedDiscovery(BeanArchiveBuilder builder) {
+        BeanIndex index = (BeanIndex) builder.getAttribute(BeanIndex.ATTRIBUTE_NAME);
+        if (index == null) {
+            if (builder.getBeansXml() == null) {
+                // A candidate for an implicit bean archive with no beans.xml and no index
+                return null;
+            }
+            throw CommonLogger.LOG.beanIndexNotFound(builder.getId(), BeanIndex.INDEX_NAME);
+        }
+        Iterator<String> classIterator = builder.getClassIterator();
+        while (classIterator.hasNext()) {
+            BeanIndex.Entry entry = index.get(classIterator.next());
+            if (entry == null || !entry.hasBeanDefiningAnnotation(beanDefiningAnnotations)) {
+                if (entry != null && (entry.hasObserverMethod() || entry.hasProducer())) {
+                    CommonLogger.LOG.classWithoutBeanDefiningAnnotationIgnored(entry.getClassName());
+                }
+                classIterator.remove();
+            }
+        }
+        return builder.build();
+    }
+
+}
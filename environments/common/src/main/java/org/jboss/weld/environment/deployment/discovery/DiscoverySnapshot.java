@@ -0,0 +1,412 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Filter;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.bootstrap.spi.SystemPropertyActivation;
+import org.jboss.weld.environment.deployment.AbstractWeldDeployment;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.resources.spi.ResourceLoader;
+
+/**
+ * A snapshot of the result of {@link DiscoveryStrategy#performDiscovery()} stored in a local file. The snapshot is keyed by a
+ * hash of the class path entries, of the bean archive roots visible to the {@link ResourceLoader} (their paths, sizes and last
+ * modification times), of the discovery settings and of the system properties the scanning filters of the beans.xml descriptors
+ * depend on, so that a warm restart with an unchanged class path may skip the archive scanning and the bean class filtering.
+ * Note that the files of a directory entry are still listed to compute the key.
+ * <p>
+ * The snapshot holds the id, the bean classes, the known classes and the location of the beans.xml descriptor of each bean
+ * archive. Descriptors are parsed again when the snapshot is loaded. Bean archives whose descriptor has no location cannot be
+ * stored.
+ * </p>
+ */
+public final class DiscoverySnapshot {
+
+    private static final String HEADER = "# Weld discovery snapshot v1";
+    private static final String KEY = "key=";
+    private static final String ARCHIVE = "archive=";
+    private static final String BEANS_XML = "beansXml=";
+    private static final String CLASS = "class=";
+    private static final String KNOWN_CLASSES = "knownClasses";
+    private static final String KNOWN_CLASS = "known=";
+    private static final String SYSTEM_PROPERTY = "systemProperty=";
+    private static final String INVERSION = "!";
+
+    private final Path file;
+
+    private final String key;
+
+    private DiscoverySnapshot(Path file, String key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     *
+     * @param file the snapshot file
+     * @param resourceLoader the resource loader used to find the bean archives
+     * @param bootstrap the bootstrap used to parse the beans.xml descriptors
+     * @param discriminators the settings which affect the discovery, e.g. the set of bean defining annotations
+     * @return the snapshot for the current class path, the bean archives visible to the given resource loader and the given
+     *         settings
+     */
+    public static DiscoverySnapshot of(Path file, ResourceLoader resourceLoader, Bootstrap bootstrap,
+            Collection<String> discriminators) {
+        return of(file, System.getProperty(ClassPathBeanArchiveScanner.JAVA_CLASS_PATH_SYSTEM_PROPERTY), resourceLoader,
+                bootstrap, discriminators);
+    }
+
+    /**
+     *
+     * @param file the snapshot file
+     * @param classPath the class path, entries separated with {@link File#pathSeparator}
+     * @param resourceLoader the resource loader used to find the bean archives
+     * @param bootstrap the bootstrap used to parse the beans.xml descriptors, may be <code>null</code> if the descriptors
+     *        should not be inspected
+     * @param discriminators the settings which affect the discovery, e.g. the set of bean defining annotations
+     * @return the snapshot for the given class path, the bean archives visible to the given resource loader and the given
+     *         settings
+     */
+    public static DiscoverySnapshot of(Path file, String classPath, ResourceLoader resourceLoader, Bootstrap bootstrap,
+            Collection<String> discriminators) {
+        // A resource loader may see archives which are not on the class path, e.g. if backed by a custom class loader
+        Set<String> roots = new LinkedHashSet<>();
+        // An exclude filter activated by a system property depends on the value of the property
+        Set<String> systemProperties = new TreeSet<>();
+        for (String resource : AbstractWeldDeployment.RESOURCES) {
+            for (URL url : resourceLoader.getResources(resource)) {
+                roots.add(getRoot(url, resource));
+                if (bootstrap != null) {
+                    addSystemProperties(bootstrap, url, systemProperties);
+                }
+            }
+        }
+        List<String> allDiscriminators = new ArrayList<>(discriminators);
+        for (String name : systemProperties) {
+            allDiscriminators.add(SYSTEM_PROPERTY + name + "=" + System.getProperty(name));
+        }
+        return new DiscoverySnapshot(file, computeKey(classPath, roots, allDiscriminators));
+    }
+
+    /**
+     *
+     * @param file the snapshot file
+     * @param classPath the class path, entries separated with {@link File#pathSeparator}
+     * @param discriminators the settings which affect the discovery, e.g. the set of bean defining annotations
+     * @return the snapshot for the given class path and settings
+     */
+    public static DiscoverySnapshot of(Path file, String classPath, Collection<String> discriminators) {
+        return new DiscoverySnapshot(file, computeKey(classPath, Collections.emptySet(), discriminators));
+    }
+
+    /**
+     *
+     * @param bootstrap
+     * @param url the URL of a beans.xml descriptor
+     * @param systemProperties the names of the system properties the scanning filters of the descriptor depend on
+     */
+    static void addSystemProperties(Bootstrap bootstrap, URL url, Set<String> systemProperties) {
+        BeansXml beansXml;
+        try {
+            beansXml = bootstrap.parse(url);
+        } catch (RuntimeException e) {
+            // The descriptor is part of the key anyway, the discovery reports the problem
+            CommonLogger.LOG.catchingDebug(e);
+            return;
+        }
+        if (beansXml == null || beansXml.getScanning() == null) {
+            return;
+        }
+        addSystemProperties(beansXml.getScanning().getExcludes(), systemProperties);
+        addSystemProperties(beansXml.getScanning().getIncludes(), systemProperties);
+    }
+
+    private static void addSystemProperties(Collection<Metadata<Filter>> filters, Set<String> systemProperties) {
+        for (Metadata<Filter> filter : filters) {
+            Collection<Metadata<SystemPropertyActivation>> activations = filter.getValue().getSystemPropertyActivations();
+            if (activations == null) {
+                continue;
+            }
+            for (Metadata<SystemPropertyActivation> activation : activations) {
+                String name = activation.getValue().getName();
+                if (name != null) {
+                    systemProperties.add(name.startsWith(INVERSION) ? name.substring(INVERSION.length()) : name);
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * @param url the URL of a resource
+     * @param resource the resource name
+     * @return the file system path of the archive or directory which contains the resource, or the URL if unknown
+     */
+    static String getRoot(URL url, String resource) {
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                return Paths.get(((JarURLConnection) url.openConnection()).getJarFileURL().toURI()).toString();
+            }
+            if ("file".equals(url.getProtocol())) {
+                Path path = Paths.get(url.toURI());
+                for (int i = 0; i < Paths.get(resource).getNameCount() && path != null; i++) {
+                    path = path.getParent();
+                }
+                if (path != null) {
+                    return path.toString();
+                }
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // Fall back to the URL
+        }
+        return url.toExternalForm();
+    }
+
+    static String computeKey(String classPath, Collection<String> roots, Collection<String> discriminators) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String discriminator : discriminators) {
+            builder.append(discriminator).append('\n');
+        }
+        Set<String> entries = new LinkedHashSet<>();
+        if (classPath != null) {
+            for (String entry : classPath.split(File.pathSeparator)) {
+                entries.add(new File(entry).getAbsolutePath());
+            }
+        }
+        entries.addAll(roots);
+        for (String entry : entries) {
+            builder.append(entry).append('|');
+            // A root which is not a local file is represented by its URL
+            if (new File(entry).isAbsolute()) {
+                appendFingerprint(builder, new File(entry).toPath());
+            }
+            builder.append('\n');
+        }
+        byte[] hash = digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void appendFingerprint(StringBuilder builder, Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (attributes.isDirectory()) {
+                // A change of a nested file does not modify the directory itself
+                List<String> files = new ArrayList<>();
+                // The visitor is given the attributes read while listing the directory, i.e. a file is only read once
+                Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path nested, BasicFileAttributes nestedAttributes) {
+                        files.add(path.relativize(nested) + ":" + nestedAttributes.size() + ":"
+                                + nestedAttributes.lastModifiedTime().toMillis());
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path nested, IOException e) {
+                        files.add(path.relativize(nested).toString());
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+                files.sort(Comparator.naturalOrder());
+                for (String nested : files) {
+                    builder.append(nested).append(';');
+                }
+            } else {
+                builder.append(attributes.size()).append(':').append(attributes.lastModifiedTime().toMillis());
+            }
+        } catch (NoSuchFileException e) {
+            builder.append("missing");
+        } catch (IOException e) {
+            builder.append("unreadable");
+        }
+    }
+
+    /**
+     *
+     * @return the key of this snapshot
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     *
+     * @param bootstrap
+     * @param emptyBeansXmlDiscoveryMode
+     * @param resourceLoader
+     * @return the bean archives or <code>null</code> if the snapshot does not exist or is stale
+     */
+    public Set<WeldBeanDeploymentArchive> load(Bootstrap bootstrap, BeanDiscoveryMode emptyBeansXmlDiscoveryMode,
+            ResourceLoader resourceLoader) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Set<WeldBeanDeploymentArchive> archives = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine()) || !(KEY + key).equals(reader.readLine())) {
+                CommonLogger.LOG.discoverySnapshotStale(file);
+                return null;
+            }
+            String id = null;
+            BeansXml beansXml = null;
+            Set<String> beanClasses = null;
+            Set<String> knownClasses = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ARCHIVE)) {
+                    if (id != null) {
+                        archives.add(new WeldBeanDeploymentArchive(id, beanClasses, knownClasses, beansXml));
+                    }
+                    id = line.substring(ARCHIVE.length());
+                    beansXml = null;
+                    beanClasses = new HashSet<>();
+                    knownClasses = null;
+                } else if (line.startsWith(BEANS_XML)) {
+                    String url = line.substring(BEANS_XML.length());
+                    beansXml = url.isEmpty() ? null : bootstrap.parse(new URL(url), emptyBeansXmlDiscoveryMode);
+                } else if (line.startsWith(CLASS)) {
+                    beanClasses.add(line.substring(CLASS.length()));
+                } else if (line.equals(KNOWN_CLASSES)) {
+                    knownClasses = new HashSet<>();
+                } else if (line.startsWith(KNOWN_CLASS)) {
+                    knownClasses.add(line.substring(KNOWN_CLASS.length()));
+                }
+            }
+            if (id != null) {
+                archives.add(new WeldBeanDeploymentArchive(id, beanClasses, knownClasses, beansXml));
+            }
+        } catch (IOException | RuntimeException e) {
+            CommonLogger.LOG.cannotReadDiscoverySnapshot(file, e);
+            return null;
+        }
+        for (WeldBeanDeploymentArchive archive : archives) {
+            archive.getServices().add(ResourceLoader.class, resourceLoader);
+        }
+        CommonLogger.LOG.discoverySnapshotLoaded(file, archives.size());
+        return archives;
+    }
+
+    /**
+     * Stores the given bean archives. The file is replaced atomically if supported by the file system.
+     *
+     * @param archives
+     * @return <code>true</code> if the snapshot was stored, <code>false</code> otherwise
+     */
+    public boolean store(Collection<WeldBeanDeploymentArchive> archives) {
+        for (WeldBeanDeploymentArchive archive : archives) {
+            if (archive.getBeansXml() != null && archive.getBeansXml().getUrl() == null) {
+                CommonLogger.LOG.debugv("Discovery snapshot not stored - beans.xml of {0} has no location", archive.getId());
+                return false;
+            }
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                write(tmp, archives);
+                try {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                // Only exists if the snapshot could not be written or moved
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            CommonLogger.LOG.cannotWriteDiscoverySnapshot(file, e);
+            return false;
+        }
+        CommonLogger.LOG.discoverySnapshotStored(file, archives.size());
+        return true;
+    }
+
+    private void write(Path tmp, Collection<WeldBeanDeploymentArchive> archives) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            writeLine(writer, HEADER);
+            writeLine(writer, KEY + key);
+            for (WeldBeanDeploymentArchive archive : archives) {
+                writeLine(writer, ARCHIVE + archive.getId());
+                URL url = archive.getBeansXml() != null ? archive.getBeansXml().getUrl() : null;
+                writeLine(writer, BEANS_XML + (url != null ? url.toExternalForm() : ""));
+                for (String beanClass : archive.getBeanClasses()) {
+                    writeLine(writer, CLASS + beanClass);
+                }
+                // By default, the known classes are the bean classes
+                if (!new HashSet<>(archive.getKnownClasses()).equals(new HashSet<>(archive.getBeanClasses()))) {
+                    writeLine(writer, KNOWN_CLASSES);
+                    for (String knownClass : archive.getKnownClasses()) {
+                        writeLine(writer, KNOWN_CLASS + knownClass);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+    }
+
+}
@@ -34,6 +34,11 @@ import org.jboss.weld.environment.util.Files;
 
 /**
  * Handles JAR files and directories.
+ * <p>
+ * The entries of JAR files, including nested archives which are stored without compression, are listed from the central
+ * directory without inflating any entry. Archives that cannot be read this way (e.g. ZIP64 archives) are listed using
+ * {@link ZipFile} and {@link ZipInputStream}.
+ * </p>
  *
  * @author Pete Muir
  * @author Marko Luksa
@@ -85,10 +90,17 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
     protected void handleFile(File file, BeanArchiveBuilder builder) throws IOException {
         log.debugv("Handle archive file: {0}", file);
+        ZipCentralDirectory centralDirectory = readCentralDirectory(file);
+        ZipFileEntry entry = new ZipFileEntry(
+                PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR);
+        if (centralDirectory != null) {
+            for (ZipCentralDirectory.Entry zipEntry : centralDirectory.getEntries()) {
+                add(entry.setName(zipEntry.getName()), builder);
+            }
+            return;
+        }
         try (ZipFile zip = new ZipFile(file)) {
             Enumeration<? extends ZipEntry> entries = zip.entries();
-            ZipFileEntry entry = new ZipFileEntry(
-                    PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR);
             while (entries.hasMoreElements()) {
                 add(entry.setName(entries.nextElement().getName()), builder);
             }
@@ -123,6 +135,35 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
             throw new IllegalArgumentException("Recursive nested archives are not supported");
         }
 
+        ZipCentralDirectory centralDirectory = readCentralDirectory(file);
+        if (centralDirectory == null) {
+            handleNestedZipFile(nestedEntryName, file, builder);
+            return;
+        }
+        for (ZipCentralDirectory.Entry zipEntry : centralDirectory.getEntries()) {
+            if (zipEntry.getName().equals(nestedEntryName)) {
+                // Nested jar entry
+                ZipFileEntry entry = getZipFileEntry(file, zipEntry.getName());
+                ZipCentralDirectory nestedCentralDirectory = getNestedCentralDirectory(centralDirectory, zipEntry);
+                if (nestedCentralDirectory != null) {
+                    // Stored nested archive - list the entries without reading its content
+                    for (ZipCentralDirectory.Entry nestedEntry : nestedCentralDirectory.getEntries()) {
+                        add(entry.setName(nestedEntry.getName()), builder);
+                    }
+                } else {
+                    try (ZipFile zip = new ZipFile(file)) {
+                        addNestedEntries(zip, zip.getEntry(nestedEntryName), entry, builder);
+                    }
+                }
+            } else if (zipEntry.getName().startsWith(nestedEntryName)) {
+                // Nested file entries
+                add(getZipFileEntry(file, zipEntry.getName())
+                        .setName(zipEntry.getName().substring(nestedEntryName.length() + 1)), builder);
+            }
+        }
+    }
+
+    private void handleNestedZipFile(String nestedEntryName, File file, BeanArchiveBuilder builder) throws IOException {
         try (ZipFile zip = new ZipFile(file)) {
 
             Enumeration<? extends ZipEntry> entries = zip.entries();
@@ -133,29 +174,61 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
                 if (zipEntry.getName().equals(nestedEntryName)) {
                     // Nested jar entry
-                    ZipFileEntry entry = getZipFileEntry(file, zipEntry);
-                    // Add entries from the nested archive
-                    try (ZipInputStream nestedZip = new ZipInputStream(zip.getInputStream(zipEntry))) {
-                        ZipEntry nestedEntry;
-                        while ((nestedEntry = nestedZip.getNextEntry()) != null) {
-                            add(entry.setName(nestedEntry.getName()), builder);
-                        }
-                    }
+                    addNestedEntries(zip, zipEntry, getZipFileEntry(file, zipEntry.getName()), builder);
                 } else if (zipEntry.getName().startsWith(nestedEntryName)) {
                     // Nested file entries
-                    add(getZipFileEntry(file, zipEntry).setName(zipEntry.getName().substring(nestedEntryName.length() + 1)),
-                            builder);
+                    add(getZipFileEntry(file, zipEntry.getName())
+                            .setName(zipEntry.getName().substring(nestedEntryName.length() + 1)), builder);
                 }
             }
         }
     }
 
-    private ZipFileEntry getZipFileEntry(File file, ZipEntry zipEntry) throws MalformedURLException {
+    private void addNestedEntries(ZipFile zip, ZipEntry zipEntry, ZipFileEntry entry, BeanArchiveBuilder builder)
+            throws IOException {
+        // Add entries from the nested archive
+        try (ZipInputStream nestedZip = new ZipInputStream(zip.getInputStream(zipEntry))) {
+            ZipEntry nestedEntry;
+            while ((nestedEntry = nestedZip.getNextEntry()) != null) {
+                add(entry.setName(nestedEntry.getName()), builder);
+            }
+        }
+    }
+
+    private ZipFileEntry getZipFileEntry(File file, String entryName) throws MalformedURLException {
         // Reconstruct the archive URL. It might be like either of the following:
         // "jar:file:/home/duke/duke.jar!/classes"
         // "jar:file:/home/duke/duke.jar!/lib/foo.jar"
         return new ZipFileEntry(
-                PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR + zipEntry.getName());
+                PROCOTOL_JAR + ":" + file.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR + entryName);
+    }
+
+    /**
+     * Reads the central directory of the given archive so that the entries can be listed without inflating anything.
+     *
+     * @return the central directory or <code>null</code> if the archive is not supported and {@link ZipFile} should be used
+     *         instead
+     */
+    private ZipCentralDirectory readCentralDirectory(File file) {
+        try {
+            return ZipCentralDirectory.read(file);
+        } catch (IOException e) {
+            log.debugv("Unable to read the central directory of {0}, falling back to ZipFile: {1}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private ZipCentralDirectory getNestedCentralDirectory(ZipCentralDirectory centralDirectory,
+            ZipCentralDirectory.Entry entry) {
+        if (entry.getMethod() != ZipCentralDirectory.STORED) {
+            return null;
+        }
+        try {
+            return centralDirectory.nested(entry);
+        } catch (IOException e) {
+            log.debugv("Unable to read the central directory of nested archive {0}, inflating: {1}", entry, e.getMessage());
+            return null;
+        }
     }
 
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
@@ -17,36 +17,66 @@
 package org.jboss.weld.environment.deployment.discovery;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import jakarta.enterprise.inject.Vetoed;
+
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.util.ClassFileAnnotations;
 import org.jboss.weld.environment.util.Reflections;
 import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.util.collections.ImmutableSet;
 
 /**
- * This implementation supports bean-discovery-mode="annotated" and makes use of reflection to detect a class with a bean
- * defining annotation.
+ * This implementation supports bean-discovery-mode="annotated" and inspects the annotations in the class files to detect a
+ * class with a bean defining annotation, so that the classes which are not beans are never loaded. Java reflection is only
+ * used if a class file is not available. Classes annotated with {@link Vetoed} and classes in a vetoed package are filtered out
+ * in both cases.
  *
  * @author Matej Briškár
  * @author Martin Kouba
  */
 public class ReflectionDiscoveryStrategy extends AbstractDiscoveryStrategy {
 
+    private static final String PACKAGE_INFO = "package-info";
+
     private final AtomicBoolean annotatedDiscoveryProcessed;
 
+    private Set<String> beanDefiningAnnotations;
+
+    // Annotation name -> annotated with a bean defining meta-annotation
+    private final ConcurrentMap<String, Boolean> beanDefiningMetaAnnotated;
+
+    // Package name -> vetoed
+    private final ConcurrentMap<String, Boolean> vetoedPackages;
+
     public ReflectionDiscoveryStrategy(ResourceLoader resourceLoader, Bootstrap bootstrap,
             Set<Class<? extends Annotation>> initialBeanDefiningAnnotations,
             BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
         super(resourceLoader, bootstrap, initialBeanDefiningAnnotations, emptyBeansXmlDiscoveryMode);
         this.annotatedDiscoveryProcessed = new AtomicBoolean(false);
+        this.beanDefiningMetaAnnotated = new ConcurrentHashMap<>();
+        this.vetoedPackages = new ConcurrentHashMap<>();
         registerHandler(new FileSystemBeanArchiveHandler());
     }
 
+    @Override
+    protected void beforeDiscovery(Collection<BeanArchiveBuilder> builders) {
+        ImmutableSet.Builder<String> names = ImmutableSet.builder();
+        for (Class<? extends Annotation> annotation : initialBeanDefiningAnnotations) {
+            names.add(annotation.getName());
+        }
+        beanDefiningAnnotations = names.build();
+    }
+
     @Override
     protected WeldBeanDeploymentArchive processAnnotatedDiscovery(BeanArchiveBuilder builder) {
         if (annotatedDiscoveryProcessed.compareAndSet(false, true)) {
@@ -55,12 +85,76 @@ public class ReflectionDiscoveryStrategy extends AbstractDiscoveryStrategy {
         Iterator<String> classIterator = builder.getClassIterator();
         while (classIterator.hasNext()) {
             String className = classIterator.next();
-            Class<?> clazz = Reflections.loadClass(resourceLoader, className);
-            if (clazz == null || !Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations)) {
-                classIterator.remove();
+            Set<String> annotations = ClassFileAnnotations.read(resourceLoader, className);
+            if (annotations != null) {
+                // Inspect the class file so that the class does not need to be loaded
+                if (!hasBeanDefiningAnnotation(annotations) || annotations.contains(Vetoed.class.getName())
+                        || isPackageVetoed(className)) {
+                    classIterator.remove();
+                }
+            } else {
+                // Vetoed classes are filtered the same way as on the class file path
+                Class<?> clazz = Reflections.loadClass(resourceLoader, className);
+                if (clazz == null || !Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations)
+                        || clazz.isAnnotationPresent(Vetoed.class) || isPackageVetoed(className)) {
+                    classIterator.remove();
+                }
             }
         }
         return builder.build();
     }
 
+    private boolean hasBeanDefiningAnnotation(Set<String> annotations) {
+        for (String annotation : annotations) {
+            if (beanDefiningAnnotations.contains(annotation)) {
+                return true;
+            }
+        }
+        for (String annotation : annotations) {
+            // The check is not performed recursively as bean defining annotations must be declared directly on a bean class
+            if (beanDefiningMetaAnnotated.computeIfAbsent(annotation, this::isBeanDefiningMetaAnnotated)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBeanDefiningMetaAnnotated(String annotationName) {
+        Set<String> metaAnnotations = ClassFileAnnotations.read(resourceLoader, annotationName);
+        if (metaAnnotations != null) {
+            for (Class<? extends Annotation> metaAnnotation : Reflections.META_ANNOTATIONS) {
+                if (metaAnnotations.contains(metaAnnotation.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Class<?> annotation = Reflections.loadClass(resourceLoader, annotationName);
+        if (annotation == null) {
+            return false;
+        }
+        for (Class<? extends Annotation> metaAnnotation : Reflections.META_ANNOTATIONS) {
+            if (annotation.isAnnotationPresent(metaAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPackageVetoed(String className) {
+        int idx = className.lastIndexOf('.');
+        if (idx < 0) {
+            return false;
+        }
+        return vetoedPackages.computeIfAbsent(className.substring(0, idx), packageName -> {
+            String packageInfo = packageName + "." + PACKAGE_INFO;
+            Set<String> annotations = ClassFileAnnotations.read(resourceLoader, packageInfo);
+            if (annotations != null) {
+                return annotations.contains(Vetoed.class.getName());
+            }
+            Class<?> packageInfoClass = Reflections.loadClass(resourceLoader, packageInfo);
+            return packageInfoClass != null && packageInfoClass.isAnnotationPresent(Vetoed.class);
+        });
+    }
+
 }
@@ -0,0 +1,240 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the central directory of a ZIP archive. Only the end of central directory record, the central directory and, for nested
+ * archives, the local header of the nested entry are read, i.e. listing the entries never inflates anything and does not depend
+ * on the size of the entries.
+ * <p>
+ * The regions are read through a {@link FileChannel} into heap buffers and the channel is closed right away. Unlike a
+ * memory-mapped file, the archive is not kept open (and locked on some platforms) until the buffer is garbage collected.
+ * </p>
+ * <p>
+ * Archives with data prepended (e.g. an executable launch script) are supported. ZIP64 archives and archives larger than
+ * {@link Integer#MAX_VALUE} bytes are not - a {@link ZipException} is thrown and the caller is expected to fall back to
+ * {@link java.util.zip.ZipFile}.
+ * </p>
+ *
+ * @see #read(File)
+ */
+final class ZipCentralDirectory {
+
+    static final int STORED = 0;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int LOCAL_HEADER_LENGTH = 30;
+
+    private static final int CENTRAL_HEADER_LENGTH = 46;
+
+    private static final int END_LENGTH = 22;
+
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private final File file;
+
+    private final List<Entry> entries;
+
+    private ZipCentralDirectory(File file, List<Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the central directory of the given file. The file is closed before this method returns.
+     *
+     * @param file the archive file
+     * @return the central directory
+     * @throws IOException if the file cannot be read or is not a supported ZIP archive
+     */
+    static ZipCentralDirectory read(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return read(channel, file, 0, channel.size());
+        }
+    }
+
+    /**
+     *
+     * @param channel
+     * @param file
+     * @param archiveStart the position of the archive in the file
+     * @param archiveSize the size of the archive
+     * @return the central directory
+     * @throws IOException if the archive cannot be read or is not a supported ZIP archive
+     */
+    private static ZipCentralDirectory read(FileChannel channel, File file, long archiveStart, long archiveSize)
+            throws IOException {
+        if (archiveSize > Integer.MAX_VALUE) {
+            throw new ZipException("Archive too large: " + file);
+        }
+        // The end of central directory record is followed by a comment of up to 64 KB
+        int tailLength = (int) Math.min(archiveSize, END_LENGTH + MAX_COMMENT_LENGTH);
+        ByteBuffer tail = read(channel, archiveStart + archiveSize - tailLength, tailLength);
+        int tailEnd = findEnd(tail);
+        long end = archiveSize - tailLength + tailEnd;
+        int count = tail.getShort(tailEnd + 10) & 0xFFFF;
+        long size = tail.getInt(tailEnd + 12) & 0xFFFFFFFFL;
+        long offset = tail.getInt(tailEnd + 16) & 0xFFFFFFFFL;
+        if (count == 0xFFFF || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) {
+            throw new ZipException("ZIP64 archives are not supported");
+        }
+        // The actual position may differ from the recorded offset if some data is prepended to the archive
+        long start = end - size;
+        long shift = start - offset;
+        if (start < 0 || shift < 0) {
+            throw new ZipException("Invalid central directory offset: " + offset);
+        }
+        ByteBuffer buffer = read(channel, archiveStart + start, (int) size);
+        List<Entry> entries = new ArrayList<>(count);
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            check(buffer, position, CENTRAL_HEADER_LENGTH);
+            if (buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header at " + (start + position));
+            }
+            int method = buffer.getShort(position + 10) & 0xFFFF;
+            long compressedSize = buffer.getInt(position + 20) & 0xFFFFFFFFL;
+            int nameLength = buffer.getShort(position + 28) & 0xFFFF;
+            int extraLength = buffer.getShort(position + 30) & 0xFFFF;
+            int commentLength = buffer.getShort(position + 32) & 0xFFFF;
+            // The position of the local header in the file
+            long localHeaderOffset = archiveStart + (buffer.getInt(position + 42) & 0xFFFFFFFFL) + shift;
+            check(buffer, position + CENTRAL_HEADER_LENGTH, nameLength);
+            byte[] name = new byte[nameLength];
+            buffer.position(position + CENTRAL_HEADER_LENGTH);
+            buffer.get(name);
+            entries.add(new Entry(new String(name, StandardCharsets.UTF_8), method, compressedSize, localHeaderOffset));
+            position += CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+        }
+        return new ZipCentralDirectory(file, Collections.unmodifiableList(entries));
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Reads the central directory of an archive stored (not compressed) in this archive. The file is opened again and closed
+     * before this method returns.
+     *
+     * @param entry the entry of the nested archive
+     * @return the central directory of the nested archive
+     * @throws IOException if the entry is compressed, the file cannot be read or it is not a supported ZIP archive
+     */
+    ZipCentralDirectory nested(Entry entry) throws IOException {
+        if (entry.getMethod() != STORED) {
+            throw new ZipException("Nested archive is compressed: " + entry.getName());
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (entry.localHeaderOffset + LOCAL_HEADER_LENGTH > fileSize) {
+                throw new ZipException("Invalid local header offset: " + entry.localHeaderOffset);
+            }
+            ByteBuffer header = read(channel, entry.localHeaderOffset, LOCAL_HEADER_LENGTH);
+            if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid local header at " + entry.localHeaderOffset);
+            }
+            // The lengths in the local header may differ from the central directory
+            long data = entry.localHeaderOffset + LOCAL_HEADER_LENGTH + (header.getShort(26) & 0xFFFF)
+                    + (header.getShort(28) & 0xFFFF);
+            if (entry.compressedSize > fileSize - data) {
+                throw new ZipException("Invalid size of nested archive: " + entry.getName());
+            }
+            return read(channel, file, data, entry.compressedSize);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new ZipException("Truncated archive at " + (position + buffer.position()));
+            }
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private static int findEnd(ByteBuffer buffer) throws ZipException {
+        int limit = buffer.limit();
+        int min = Math.max(0, limit - END_LENGTH - MAX_COMMENT_LENGTH);
+        for (int position = limit - END_LENGTH; position >= min; position--) {
+            // The comment must end the archive, otherwise the signature might belong to a stored nested archive
+            if (buffer.getInt(position) == END_SIGNATURE
+                    && position + END_LENGTH + (buffer.getShort(position + 20) & 0xFFFF) == limit) {
+                return position;
+            }
+        }
+        throw new ZipException("End of central directory record not found");
+    }
+
+    private static void check(ByteBuffer buffer, int position, int length) throws ZipException {
+        if (position < 0 || position + length > buffer.limit()) {
+            throw new ZipException("Truncated central directory at " + position);
+        }
+    }
+
+    static final class Entry {
+
+        private final String name;
+
+        private final int method;
+
+        private final long compressedSize;
+
+        private final long localHeaderOffset;
+
+        private Entry(String name, int method, long compressedSize, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getMethod() {
+            return method;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.jandex;
+
+import static org.jboss.weld.environment.util.Files.CLASS_FILE_EXTENSION;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.NormalScope;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Stereotype;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.weld.environment.deployment.discovery.BeanIndex;
+import org.jboss.weld.environment.deployment.discovery.BeanIndexDiscoveryStrategy;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * Generates the {@link BeanIndex} of a directory with compiled classes, e.g. in the {@code process-classes} phase of a Maven
+ * build using the {@code exec-maven-plugin}. The index is written to {@value BeanIndex#INDEX_NAME} in the directory unless an
+ * output file is specified:
+ *
+ * <pre>
+ * java BeanIndexGenerator &lt;classes directory&gt; [&lt;output file&gt;]
+ * </pre>
+ *
+ * Annotations which are not declared in the directory are loaded using the given class loader (the TCCL when invoked from
+ * {@link #main(String[])}) so that the generator should run with the compile class path of the archive.
+ *
+ * @see BeanIndexDiscoveryStrategy
+ */
+public final class BeanIndexGenerator {
+
+    private static final DotName STEREOTYPE = DotName.createSimple(Stereotype.class.getName());
+
+    private static final DotName NORMAL_SCOPE = DotName.createSimple(NormalScope.class.getName());
+
+    private static final DotName OBSERVES = DotName.createSimple(Observes.class.getName());
+
+    private static final DotName OBSERVES_ASYNC = DotName.createSimple(ObservesAsync.class.getName());
+
+    private static final DotName PRODUCES = DotName.createSimple(Produces.class.getName());
+
+    private static final String MODULE_INFO = "module-info";
+
+    private final ClassLoader classLoader;
+
+    private final Map<DotName, Boolean> beanDefiningMetaAnnotations;
+
+    public BeanIndexGenerator(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.beanDefiningMetaAnnotations = new HashMap<>();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException("Usage: BeanIndexGenerator <classes directory> [<output file>]");
+        }
+        Path directory = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1]) : directory.resolve(BeanIndex.INDEX_NAME);
+        BeanIndex index = new BeanIndexGenerator(Thread.currentThread().getContextClassLoader()).generate(directory);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            index.write(out);
+        }
+    }
+
+    /**
+     *
+     * @param directory the directory with compiled classes
+     * @return the index
+     * @throws IOException if a class file cannot be read
+     */
+    public BeanIndex generate(Path directory) throws IOException {
+        Indexer indexer = new Indexer();
+        List<Path> classFiles;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            classFiles = paths.filter(path -> path.getFileName().toString().endsWith(CLASS_FILE_EXTENSION)).sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path classFile : classFiles) {
+            try (InputStream in = Files.newInputStream(classFile)) {
+                indexer.index(in);
+            }
+        }
+        Index index = indexer.complete();
+        List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+        classes.sort(Comparator.comparing(classInfo -> classInfo.name().toString()));
+        List<BeanIndex.Entry> entries = new ArrayList<>(classes.size());
+        for (ClassInfo classInfo : classes) {
+            String className = classInfo.name().toString();
+            if (className.equals(MODULE_INFO)) {
+                continue;
+            }
+            ImmutableSet.Builder<String> annotations = ImmutableSet.builder();
+            boolean beanDefiningMetaAnnotation = false;
+            for (AnnotationInstance annotation : classInfo.declaredAnnotations()) {
+                annotations.add(annotation.name().toString());
+                beanDefiningMetaAnnotation |= isBeanDefiningMetaAnnotated(annotation.name(), index);
+            }
+            Map<DotName, List<AnnotationInstance>> annotationsMap = classInfo.annotationsMap();
+            entries.add(new BeanIndex.Entry(className, annotations.build(), beanDefiningMetaAnnotation,
+                    annotationsMap.containsKey(OBSERVES) || annotationsMap.containsKey(OBSERVES_ASYNC),
+                    annotationsMap.containsKey(PRODUCES)));
+        }
+        return new BeanIndex(entries);
+    }
+
+    private boolean isBeanDefiningMetaAnnotated(DotName annotation, Index index) {
+        return beanDefiningMetaAnnotations.computeIfAbsent(annotation, name -> {
+            ClassInfo annotationInfo = index.getClassByName(name);
+            if (annotationInfo != null) {
+                return annotationInfo.declaredAnnotation(STEREOTYPE) != null
+                        || annotationInfo.declaredAnnotation(NORMAL_SCOPE) != null;
+            }
+            try {
+                Class<?> annotationClass = Class.forName(name.toString(), false, classLoader);
+                return annotationClass.isAnnotationPresent(Stereotype.class)
+                        || annotationClass.isAnnotationPresent(NormalScope.class);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        });
+    }
+
+}
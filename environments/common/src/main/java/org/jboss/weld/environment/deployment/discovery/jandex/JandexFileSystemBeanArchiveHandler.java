@@ -30,13 +30,16 @@ import org.jboss.weld.environment.util.Files;
 
 /**
  * Builds and attaches a jandex index to each bean archive.
+ * <p>
+ * The {@link Indexer} is kept per bean archive so that the handler may be invoked concurrently during parallel discovery.
+ * </p>
  *
  * @author Matej Briškár
  * @author Martin Kouba
  */
 public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHandler {
 
-    private final Indexer indexer = new Indexer();
+    private static final String INDEXER_ATTRIBUTE_NAME = JandexFileSystemBeanArchiveHandler.class.getName() + ".indexer";
 
     @Override
     public BeanArchiveBuilder handle(String path) {
@@ -44,7 +47,8 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
         if (builder == null) {
             return null;
         }
-        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, buildIndex());
+        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, buildIndex(builder));
+        builder.setAttribute(INDEXER_ATTRIBUTE_NAME, null);
         return builder;
     }
 
@@ -52,11 +56,11 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
         super.add(entry, builder);
         if (Files.isClass(entry.getName())) {
-            addToIndex(entry.getUrl());
+            addToIndex(entry.getUrl(), getIndexer(builder));
         }
     }
 
-    private void addToIndex(URL url) {
+    private void addToIndex(URL url, Indexer indexer) {
         InputStream fs = null;
         try {
             fs = url.openStream();
@@ -74,7 +78,16 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
         }
     }
 
-    private Index buildIndex() {
-        return indexer.complete();
+    private Indexer getIndexer(BeanArchiveBuilder builder) {
+        Indexer indexer = (Indexer) builder.getAttribute(INDEXER_ATTRIBUTE_NAME);
+        if (indexer == null) {
+            indexer = new Indexer();
+            builder.setAttribute(INDEXER_ATTRIBUTE_NAME, indexer);
+        }
+        return indexer;
+    }
+
+    private Index buildIndex(BeanArchiveBuilder builder) {
+        return getIndexer(builder).complete();
     }
 }
@@ -164,4 +164,34 @@ public interface CommonLogger extends WeldEnvironmentLogger {
     @Message(id = 42, value = "Class path entry does not exist: {0}", format = Format.MESSAGE_FORMAT)
     void classPathEntryDoesNotExist(Object entry);
 
+    @LogMessage(level = Level.INFO)
+    @Message(id = 43, value = "Bean archives loaded from the discovery snapshot {0}: {1}", format = Format.MESSAGE_FORMAT)
+    void discoverySnapshotLoaded(Object file, int archives);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 44, value = "Bean archives stored in the discovery snapshot {0}: {1}", format = Format.MESSAGE_FORMAT)
+    void discoverySnapshotStored(Object file, int archives);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 45, value = "The discovery snapshot {0} does not match the class path or the discovery settings and will be replaced", format = Format.MESSAGE_FORMAT)
+    void discoverySnapshotStale(Object file);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 46, value = "Cannot read the discovery snapshot {0}, performing discovery", format = Format.MESSAGE_FORMAT)
+    void cannotReadDiscoverySnapshot(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 47, value = "Cannot write the discovery snapshot {0}", format = Format.MESSAGE_FORMAT)
+    void cannotWriteDiscoverySnapshot(Object file, @Cause Throwable cause);
+
+    @Message(id = 48, value = "Bean archive {0} with bean discovery mode annotated does not contain the bean index {1}", format = Format.MESSAGE_FORMAT)
+    IllegalStateException beanIndexNotFound(Object beanArchive, Object indexName);
+
+    @Message(id = 49, value = "Cannot read the bean index of {0}", format = Format.MESSAGE_FORMAT)
+    IllegalStateException cannotReadBeanIndex(Object beanArchiveRef, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 50, value = "{0} declares an observer method or a producer but no bean defining annotation and is not discovered as a bean", format = Format.MESSAGE_FORMAT)
+    void classWithoutBeanDefiningAnnotationIgnored(Object className);
+
 }
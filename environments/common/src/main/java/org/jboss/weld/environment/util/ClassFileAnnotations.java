@@ -0,0 +1,230 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.weld.resources.spi.ResourceLoader;
+
+/**
+ * Reads the names of the annotations declared on a class (the {@code RuntimeVisibleAnnotations} attribute of the class file)
+ * without loading the class. Only the constant pool and the attributes are parsed, fields and methods are skipped.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">The class File Format</a>
+ */
+public final class ClassFileAnnotations {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private ClassFileAnnotations() {
+    }
+
+    /**
+     *
+     * @param resourceLoader
+     * @param className
+     * @return the names of the annotations declared on the class or <code>null</code> if the class file is not available or
+     *         cannot be read
+     */
+    public static Set<String> read(ResourceLoader resourceLoader, String className) {
+        URL url = resourceLoader.getResource(className.replace('.', '/') + Files.CLASS_FILE_EXTENSION);
+        if (url == null) {
+            return null;
+        }
+        try (InputStream in = url.openStream()) {
+            return read(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param in the class file, not closed by this method
+     * @return the names of the annotations declared on the class
+     * @throws IOException if the stream cannot be read or it is not a valid class file
+     */
+    public static Set<String> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor_version, major_version
+        data.skipBytes(4);
+        String[] utf8 = readConstantPool(data);
+        // access_flags, this_class, super_class
+        data.skipBytes(6);
+        int interfaces = data.readUnsignedShort();
+        skipFully(data, 2L * interfaces);
+        // fields and methods
+        skipMembers(data);
+        skipMembers(data);
+        int attributes = data.readUnsignedShort();
+        for (int i = 0; i < attributes; i++) {
+            String name = utf8[data.readUnsignedShort()];
+            long length = data.readInt() & 0xFFFFFFFFL;
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                return readAnnotations(data, utf8);
+            }
+            skipFully(data, length);
+        }
+        return Collections.emptySet();
+    }
+
+    private static String[] readConstantPool(DataInputStream data) throws IOException {
+        int count = data.readUnsignedShort();
+        String[] utf8 = new String[count];
+        for (int i = 1; i < count; i++) {
+            int tag = data.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    utf8[i] = data.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skipFully(data, 2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skipFully(data, 3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    skipFully(data, 4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    skipFully(data, 8);
+                    // 8-byte constants take up two entries
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Invalid constant pool tag: " + tag);
+            }
+        }
+        return utf8;
+    }
+
+    private static void skipMembers(DataInputStream data) throws IOException {
+        int members = data.readUnsignedShort();
+        for (int i = 0; i < members; i++) {
+            // access_flags, name_index, descriptor_index
+            skipFully(data, 6);
+            int attributes = data.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                skipFully(data, 2);
+                skipFully(data, data.readInt() & 0xFFFFFFFFL);
+            }
+        }
+    }
+
+    private static Set<String> readAnnotations(DataInputStream data, String[] utf8) throws IOException {
+        int count = data.readUnsignedShort();
+        Set<String> annotations = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            String descriptor = utf8[data.readUnsignedShort()];
+            if (descriptor == null || descriptor.length() < 3 || descriptor.charAt(0) != 'L') {
+                throw new IOException("Invalid annotation type descriptor: " + descriptor);
+            }
+            annotations.add(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+            skipElementValuePairs(data);
+        }
+        return annotations;
+    }
+
+    private static void skipElementValuePairs(DataInputStream data) throws IOException {
+        int pairs = data.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            // element_name_index
+            skipFully(data, 2);
+            skipElementValue(data);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream data) throws IOException {
+        int tag = data.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                // type_name_index, const_name_index
+                skipFully(data, 4);
+                break;
+            case '@':
+                // type_index
+                skipFully(data, 2);
+                skipElementValuePairs(data);
+                break;
+            case '[':
+                int values = data.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(data);
+                }
+                break;
+            default:
+                // const_value_index or class_info_index
+                skipFully(data, 2);
+        }
+    }
+
+    private static void skipFully(DataInputStream data, long length) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            long skipped = data.skip(remaining);
+            if (skipped <= 0) {
+                // Make sure the end of the stream is detected
+                data.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Stereotype;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Scanning;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.deployment.discovery.jandex.BeanIndexGenerator;
+import org.jboss.weld.metadata.BeansXmlImpl;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BeanIndexTest {
+
+    private static final Class<?>[] CLASSES = { Scoped.class, Stereotyped.class, Producer.class, Observer.class,
+            Plain.class, Service.class };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGenerateAndRead() throws IOException {
+        BeanIndex index = generate();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.write(out);
+        BeanIndex read = BeanIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(CLASSES.length, read.getEntries().size());
+
+        BeanIndex.Entry scoped = read.get(Scoped.class.getName());
+        assertEquals(Collections.singleton(ApplicationScoped.class.getName()), scoped.getAnnotations());
+        assertFalse(scoped.hasBeanDefiningMetaAnnotation());
+        assertTrue(read.get(Stereotyped.class.getName()).hasBeanDefiningMetaAnnotation());
+        assertTrue(read.get(Producer.class.getName()).hasProducer());
+        assertFalse(read.get(Producer.class.getName()).hasObserverMethod());
+        assertTrue(read.get(Observer.class.getName()).hasObserverMethod());
+        assertTrue(read.get(Plain.class.getName()).getAnnotations().isEmpty());
+    }
+
+    @Test
+    public void testDiscovery() throws IOException {
+        Path directory = copyClasses();
+        Path indexFile = directory.resolve(BeanIndex.INDEX_NAME);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream out = Files.newOutputStream(indexFile)) {
+            generate(directory).write(out);
+        }
+        BeansXml beansXml = new BeansXmlImpl(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Scanning.EMPTY_SCANNING, null, BeanDiscoveryMode.ANNOTATED, null, false);
+        AbstractDiscoveryStrategy strategy = new BeanIndexDiscoveryStrategy(
+                new ClassLoaderResourceLoader(getClass().getClassLoader()), null,
+                Collections.singleton(ApplicationScoped.class), BeanDiscoveryMode.ANNOTATED);
+        strategy.setScanner(() -> Collections
+                .singletonList(new BeanArchiveScanner.ScanResult(beansXml, directory.toString(), "indexed")));
+        Set<WeldBeanDeploymentArchive> archives = strategy.performDiscovery();
+        assertEquals(1, archives.size());
+        WeldBeanDeploymentArchive archive = archives.iterator().next();
+        assertEquals(new HashSet<>(Arrays.asList(Scoped.class.getName(), Stereotyped.class.getName())),
+                new HashSet<>(archive.getBeanClasses()));
+        assertEquals(CLASSES.length, archive.getKnownClasses().size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAnnotatedArchiveWithoutIndex() throws IOException {
+        Path directory = copyClasses();
+        BeansXml beansXml = new BeansXmlImpl(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Scanning.EMPTY_SCANNING, null, BeanDiscoveryMode.ANNOTATED, null, false);
+        AbstractDiscoveryStrategy strategy = new BeanIndexDiscoveryStrategy(
+                new ClassLoaderResourceLoader(getClass().getClassLoader()), null,
+                Collections.singleton(ApplicationScoped.class), BeanDiscoveryMode.ANNOTATED);
+        strategy.setScanner(() -> Collections
+                .singletonList(new BeanArchiveScanner.ScanResult(beansXml, directory.toString(), "notIndexed")));
+        strategy.performDiscovery();
+    }
+
+    private BeanIndex generate() throws IOException {
+        return generate(copyClasses());
+    }
+
+    private BeanIndex generate(Path directory) throws IOException {
+        return new BeanIndexGenerator(getClass().getClassLoader()).generate(directory);
+    }
+
+    private Path copyClasses() throws IOException {
+        File directory = folder.newFolder();
+        for (Class<?> clazz : CLASSES) {
+            String name = clazz.getName().replace('.', '/') + ".class";
+            Path target = directory.toPath().resolve(name);
+            Files.createDirectories(target.getParent());
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(name)) {
+                Files.copy(in, target);
+            }
+        }
+        return directory.toPath();
+    }
+
+    @ApplicationScoped
+    static class Scoped {
+    }
+
+    @Service
+    static class Stereotyped {
+    }
+
+    static class Producer {
+
+        @Produces
+        String produce() {
+            return "foo";
+        }
+
+    }
+
+    static class Observer {
+
+        void observe(@Observes String event) {
+        }
+
+    }
+
+    static class Plain {
+    }
+
+    @Stereotype
+    @ApplicationScoped
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Service {
+    }
+
+}
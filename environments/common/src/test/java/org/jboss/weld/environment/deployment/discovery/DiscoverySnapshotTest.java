@@ -0,0 +1,210 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.deployment.AbstractWeldDeployment;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiscoverySnapshotTest {
+
+    private static final String EXCLUDE_PROPERTY = "org.jboss.weld.test.snapshot.exclude";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        File entry = folder.newFolder("classes");
+        Path file = folder.getRoot().toPath().resolve("snapshot/weld.snapshot");
+        DiscoverySnapshot snapshot = DiscoverySnapshot.of(file, entry.getPath(), Collections.singletonList("test"));
+        ResourceLoader resourceLoader = new ClassLoaderResourceLoader(getClass().getClassLoader());
+        assertNull(snapshot.load(null, BeanDiscoveryMode.ANNOTATED, resourceLoader));
+
+        Set<WeldBeanDeploymentArchive> archives = new HashSet<>();
+        archives.add(new WeldBeanDeploymentArchive("alpha", new HashSet<>(Arrays.asList("org.acme.Foo", "org.acme.Bar")),
+                new HashSet<>(Arrays.asList("org.acme.Foo", "org.acme.Bar", "org.acme.Baz")), null));
+        archives.add(new WeldBeanDeploymentArchive("bravo", new HashSet<>(Arrays.asList("org.acme.Qux")), null));
+        assertTrue(snapshot.store(archives));
+
+        Set<WeldBeanDeploymentArchive> loaded = DiscoverySnapshot.of(file, entry.getPath(), Collections.singletonList("test"))
+                .load(null, BeanDiscoveryMode.ANNOTATED, resourceLoader);
+        assertEquals(2, loaded.size());
+        Map<String, WeldBeanDeploymentArchive> byId = new HashMap<>();
+        for (WeldBeanDeploymentArchive archive : loaded) {
+            byId.put(archive.getId(), archive);
+            assertEquals(resourceLoader, archive.getServices().get(ResourceLoader.class));
+        }
+        assertEquals(new HashSet<>(Arrays.asList("org.acme.Foo", "org.acme.Bar")),
+                new HashSet<>(byId.get("alpha").getBeanClasses()));
+        assertEquals(new HashSet<>(Arrays.asList("org.acme.Foo", "org.acme.Bar", "org.acme.Baz")),
+                new HashSet<>(byId.get("alpha").getKnownClasses()));
+        assertEquals(Collections.singleton("org.acme.Qux"), new HashSet<>(byId.get("bravo").getBeanClasses()));
+        assertEquals(Collections.singleton("org.acme.Qux"), new HashSet<>(byId.get("bravo").getKnownClasses()));
+    }
+
+    @Test
+    public void testStaleSnapshotIgnored() throws IOException {
+        File entry = folder.newFolder("classes");
+        Path file = folder.getRoot().toPath().resolve("weld.snapshot");
+        DiscoverySnapshot snapshot = DiscoverySnapshot.of(file, entry.getPath(), Collections.emptyList());
+        assertTrue(snapshot.store(Collections.singleton(new WeldBeanDeploymentArchive("alpha",
+                new HashSet<>(Arrays.asList("org.acme.Foo")), null))));
+
+        // A new class file changes the key
+        Files.write(entry.toPath().resolve("Foo.class"), new byte[] { 1 });
+        DiscoverySnapshot changed = DiscoverySnapshot.of(file, entry.getPath(), Collections.emptyList());
+        assertNotEquals(snapshot.getKey(), changed.getKey());
+        assertNull(changed.load(null, BeanDiscoveryMode.ANNOTATED,
+                new ClassLoaderResourceLoader(getClass().getClassLoader())));
+
+        // So do different discovery settings
+        assertNotEquals(changed.getKey(),
+                DiscoverySnapshot.of(file, entry.getPath(), Collections.singletonList("other")).getKey());
+    }
+
+    @Test
+    public void testResourceLoaderRootsInKey() throws IOException {
+        File classes = folder.newFolder("classes");
+        File alpha = folder.newFolder("alpha");
+        File bravo = folder.newFolder("bravo");
+        Path file = folder.getRoot().toPath().resolve("weld.snapshot");
+        String alphaKey = getKey(file, classes, alpha, null);
+        // A different root is not on the class path but changes the key
+        assertNotEquals(alphaKey, getKey(file, classes, bravo, null));
+        assertEquals(alphaKey, getKey(file, classes, alpha, null));
+
+        // So does a change within the root
+        Files.write(alpha.toPath().resolve("Foo.class"), new byte[] { 1 });
+        assertNotEquals(alphaKey, getKey(file, classes, alpha, null));
+    }
+
+    @Test
+    public void testScanningSystemPropertiesInKey() throws IOException {
+        File classes = folder.newFolder("classes");
+        File root = folder.newFolder("root");
+        Path beansXml = root.toPath().resolve(AbstractWeldDeployment.BEANS_XML);
+        Files.createDirectories(beansXml.getParent());
+        Files.write(beansXml, ("<beans xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"4.0\" "
+                + "bean-discovery-mode=\"all\"><scan><exclude name=\"org.acme.*\">"
+                + "<if-system-property name=\"!" + EXCLUDE_PROPERTY + "\"/></exclude></scan>"
+                + "</beans>").getBytes(StandardCharsets.UTF_8));
+        Path file = folder.getRoot().toPath().resolve("weld.snapshot");
+        WeldBootstrap bootstrap = new WeldBootstrap();
+        try {
+            String key = getKey(file, classes, root, bootstrap);
+            assertEquals(key, getKey(file, classes, root, bootstrap));
+            // Flipping the property changes the set of excluded classes
+            System.setProperty(EXCLUDE_PROPERTY, "true");
+            assertNotEquals(key, getKey(file, classes, root, bootstrap));
+            System.clearProperty(EXCLUDE_PROPERTY);
+            assertEquals(key, getKey(file, classes, root, bootstrap));
+        } finally {
+            System.clearProperty(EXCLUDE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testTemporaryFileDeletedIfStoreFails() throws IOException {
+        File entry = folder.newFolder("classes");
+        // A non-empty directory cannot be replaced with the snapshot
+        Path file = folder.newFolder("weld.snapshot").toPath();
+        Files.write(file.resolve("foo"), new byte[] { 1 });
+        DiscoverySnapshot snapshot = DiscoverySnapshot.of(file, entry.getPath(), Collections.emptyList());
+        assertFalse(snapshot.store(Collections.singleton(new WeldBeanDeploymentArchive("alpha",
+                new HashSet<>(Arrays.asList("org.acme.Foo")), null))));
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            assertEquals(0, files.filter(path -> path.getFileName().toString().endsWith(".tmp")).count());
+        }
+    }
+
+    private String getKey(Path file, File classes, File root, WeldBootstrap bootstrap) {
+        return DiscoverySnapshot.of(file, classes.getPath(), new RootResourceLoader(root), bootstrap, Collections.emptyList())
+                .getKey();
+    }
+
+    @Test
+    public void testGetRoot() throws IOException {
+        File root = folder.newFolder("root");
+        URL url = new File(root, AbstractWeldDeployment.BEANS_XML).toURI().toURL();
+        assertEquals(root.toPath().toString(), DiscoverySnapshot.getRoot(url, AbstractWeldDeployment.BEANS_XML));
+        URL jarUrl = new URL("jar:" + new File(root, "foo.jar").toURI().toURL() + "!/" + AbstractWeldDeployment.BEANS_XML);
+        assertEquals(new File(root, "foo.jar").toPath().toString(),
+                DiscoverySnapshot.getRoot(jarUrl, AbstractWeldDeployment.BEANS_XML));
+    }
+
+    private static class RootResourceLoader implements ResourceLoader {
+
+        private final File root;
+
+        RootResourceLoader(File root) {
+            this.root = root;
+        }
+
+        @Override
+        public Class<?> classForName(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URL getResource(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<URL> getResources(String name) {
+            try {
+                return Collections.singleton(new File(root, name).toURI().toURL());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void cleanup() {
+        }
+
+    }
+
+}
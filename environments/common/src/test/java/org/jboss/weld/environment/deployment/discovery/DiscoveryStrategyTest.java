@@ -17,14 +17,32 @@
 package org.jboss.weld.environment.deployment.discovery;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Vetoed;
+
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Scanning;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.metadata.BeansXmlImpl;
 import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  *
@@ -32,6 +50,9 @@ import org.junit.Test;
  */
 public class DiscoveryStrategyTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testBeanArchiveHandlers() {
         AbstractDiscoveryStrategy strategy = (AbstractDiscoveryStrategy) DiscoveryStrategyFactory
@@ -45,6 +66,102 @@ public class DiscoveryStrategyTest {
         assertTrue(handlers.get(2) instanceof TestHandler2);
     }
 
+    @Test
+    public void testParallelDiscovery() throws IOException {
+        BeansXml beansXml = new BeansXmlImpl(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Scanning.EMPTY_SCANNING, null, BeanDiscoveryMode.ALL, null, false);
+        List<BeanArchiveScanner.ScanResult> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            File archive = folder.newFolder("archive" + i);
+            for (int j = 0; j <= i % 5; j++) {
+                new File(archive, "Foo" + j + ".class").createNewFile();
+            }
+            results.add(new BeanArchiveScanner.ScanResult(beansXml, archive.getPath(), "archive" + i));
+        }
+        List<WeldBeanDeploymentArchive> sequential = discover(results, null);
+        ExecutorServices executorServices = new FixedThreadPoolExecutorServices(4);
+        try {
+            List<WeldBeanDeploymentArchive> parallel = discover(results, executorServices);
+            assertEquals(50, parallel.size());
+            for (int i = 0; i < parallel.size(); i++) {
+                assertEquals("archive" + i, parallel.get(i).getId());
+                assertEquals(sequential.get(i).getId(), parallel.get(i).getId());
+                assertEquals(i % 5 + 1, parallel.get(i).getBeanClasses().size());
+                assertEquals(new HashSet<>(sequential.get(i).getBeanClasses()),
+                        new HashSet<>(parallel.get(i).getBeanClasses()));
+            }
+        } finally {
+            executorServices.cleanup();
+        }
+    }
+
+    @Test
+    public void testReflectionDiscoveryInspectsClassFiles() throws IOException {
+        List<WeldBeanDeploymentArchive> archives = discoverAnnotated(
+                new ClassLoaderResourceLoader(getClass().getClassLoader()));
+        assertEquals(1, archives.size());
+        assertEquals(Collections.singleton(ScopedBean.class.getName()), new HashSet<>(archives.get(0).getBeanClasses()));
+        assertNull(System.getProperty(NotABean.class.getName()));
+    }
+
+    @Test
+    public void testReflectionDiscoveryWithoutClassFiles() throws IOException {
+        // The class files are not available, the classes are loaded instead
+        ResourceLoader resourceLoader = new ClassLoaderResourceLoader(getClass().getClassLoader()) {
+            @Override
+            public URL getResource(String name) {
+                return name.endsWith(".class") ? null : super.getResource(name);
+            }
+        };
+        List<WeldBeanDeploymentArchive> archives = discoverAnnotated(resourceLoader);
+        assertEquals(1, archives.size());
+        assertEquals(Collections.singleton(ScopedBean.class.getName()), new HashSet<>(archives.get(0).getBeanClasses()));
+    }
+
+    private List<WeldBeanDeploymentArchive> discoverAnnotated(ResourceLoader resourceLoader) throws IOException {
+        BeansXml beansXml = new BeansXmlImpl(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Scanning.EMPTY_SCANNING, null, BeanDiscoveryMode.ANNOTATED, null, false);
+        File archive = folder.newFolder("annotated");
+        for (Class<?> clazz : new Class<?>[] { ScopedBean.class, VetoedBean.class, NotABean.class }) {
+            File classFile = new File(archive, clazz.getName().replace('.', '/') + ".class");
+            classFile.getParentFile().mkdirs();
+            classFile.createNewFile();
+        }
+        return discover(resourceLoader,
+                Collections.singletonList(new BeanArchiveScanner.ScanResult(beansXml, archive.getPath(), "annotated")), null);
+    }
+
+    private List<WeldBeanDeploymentArchive> discover(List<BeanArchiveScanner.ScanResult> results,
+            ExecutorServices executorServices) {
+        return discover(new ClassLoaderResourceLoader(getClass().getClassLoader()), results, executorServices);
+    }
+
+    private List<WeldBeanDeploymentArchive> discover(ResourceLoader resourceLoader, List<BeanArchiveScanner.ScanResult> results,
+            ExecutorServices executorServices) {
+        AbstractDiscoveryStrategy strategy = new ReflectionDiscoveryStrategy(resourceLoader, null,
+                Collections.singleton(ApplicationScoped.class), BeanDiscoveryMode.ANNOTATED);
+        strategy.setScanner(() -> results);
+        strategy.setExecutorServices(executorServices);
+        return new ArrayList<>(strategy.performDiscovery());
+    }
+
+    @ApplicationScoped
+    static class ScopedBean {
+    }
+
+    @ApplicationScoped
+    @Vetoed
+    static class VetoedBean {
+    }
+
+    static class NotABean {
+
+        static {
+            System.setProperty(NotABean.class.getName(), "initialized");
+        }
+
+    }
+
     static class TestHandler2 implements BeanArchiveHandler {
 
         @Override
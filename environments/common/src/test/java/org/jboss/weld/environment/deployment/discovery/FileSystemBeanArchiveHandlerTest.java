@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSystemBeanArchiveHandlerTest {
+
+    private static final Set<String> CLASSES = new HashSet<>(Arrays.asList("org.acme.Foo", "org.acme.Bar"));
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testArchive() throws IOException {
+        File jar = write("lib.jar", zip(false, library()));
+        assertEquals(CLASSES, new FileSystemBeanArchiveHandler().handle(jar.getPath()).getClasses());
+    }
+
+    @Test
+    public void testArchiveWithPrependedScript() throws IOException {
+        byte[] archive = zip(false, library());
+        byte[] script = "#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes();
+        byte[] executable = Arrays.copyOf(script, script.length + archive.length);
+        System.arraycopy(archive, 0, executable, script.length, archive.length);
+        File jar = write("app.jar", executable);
+        assertEquals(CLASSES, new FileSystemBeanArchiveHandler().handle(jar.getPath()).getClasses());
+    }
+
+    @Test
+    public void testStoredNestedArchive() throws IOException {
+        testNestedArchive(true);
+    }
+
+    @Test
+    public void testCompressedNestedArchive() throws IOException {
+        testNestedArchive(false);
+    }
+
+    @Test
+    public void testNestedDirectory() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("BOOT-INF/classes/META-INF/beans.xml", new byte[0]);
+        entries.put("BOOT-INF/classes/org/acme/Foo.class", new byte[16]);
+        entries.put("BOOT-INF/classes/org/acme/Bar.class", new byte[16]);
+        entries.put("BOOT-INF/lib/other.jar", zip(true, library()));
+        File jar = write("app.jar", zip(false, entries));
+        assertEquals(CLASSES,
+                new FileSystemBeanArchiveHandler().handle(jar.getPath() + "!/BOOT-INF/classes").getClasses());
+    }
+
+    @Test
+    public void testCentralDirectory() throws IOException {
+        byte[] script = "#!/bin/sh\n".getBytes();
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("BOOT-INF/classes/org/acme/App.class", new byte[16]);
+        entries.put("BOOT-INF/lib/lib.jar", zip(false, library()));
+        byte[] archive = zip(true, entries);
+        byte[] executable = Arrays.copyOf(script, script.length + archive.length);
+        System.arraycopy(archive, 0, executable, script.length, archive.length);
+        File jar = write("app.jar", executable);
+
+        ZipCentralDirectory centralDirectory = ZipCentralDirectory.read(jar);
+        assertEquals(new ArrayList<>(entries.keySet()), names(centralDirectory));
+        assertEquals(new ArrayList<>(library().keySet()), names(centralDirectory.nested(centralDirectory.getEntries().get(1))));
+        // The archive is not held open
+        File moved = new File(folder.getRoot(), "moved.jar");
+        assertTrue(jar.renameTo(moved));
+        assertTrue(moved.delete());
+    }
+
+    private static List<String> names(ZipCentralDirectory centralDirectory) {
+        List<String> names = new ArrayList<>();
+        for (ZipCentralDirectory.Entry entry : centralDirectory.getEntries()) {
+            names.add(entry.getName());
+        }
+        return names;
+    }
+
+    private void testNestedArchive(boolean stored) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("BOOT-INF/classes/org/acme/App.class", new byte[16]);
+        entries.put("BOOT-INF/lib/lib.jar", zip(false, library()));
+        File jar = write("app.jar", zip(stored, entries));
+        assertEquals(CLASSES,
+                new FileSystemBeanArchiveHandler().handle(jar.getPath() + "!/BOOT-INF/lib/lib.jar").getClasses());
+    }
+
+    private static Map<String, byte[]> library() {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("META-INF/beans.xml", new byte[0]);
+        entries.put("org/acme/Foo.class", new byte[128]);
+        entries.put("org/acme/Bar.class", new byte[128]);
+        return entries;
+    }
+
+    private File write(String name, byte[] content) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    private static byte[] zip(boolean stored, Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                if (stored) {
+                    CRC32 crc = new CRC32();
+                    crc.update(entry.getValue());
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    zipEntry.setSize(entry.getValue().length);
+                    zipEntry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(zipEntry);
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+}
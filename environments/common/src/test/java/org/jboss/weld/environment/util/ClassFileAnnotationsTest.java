@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.inject.Named;
+
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.junit.Test;
+
+public class ClassFileAnnotationsTest {
+
+    @Test
+    public void testRead() throws IOException {
+        assertEquals(names(Complex.class), read(Complex.class));
+        assertEquals(new HashSet<>(Arrays.asList(ApplicationScoped.class.getName(), Named.class.getName(),
+                Vetoed.class.getName(), Values.class.getName())), read(Annotated.class));
+        assertEquals(Collections.emptySet(), read(Plain.class));
+    }
+
+    @Test
+    public void testReadUsingResourceLoader() {
+        ClassLoaderResourceLoader resourceLoader = new ClassLoaderResourceLoader(getClass().getClassLoader());
+        assertEquals(names(Annotated.class), ClassFileAnnotations.read(resourceLoader, Annotated.class.getName()));
+        assertNull(ClassFileAnnotations.read(resourceLoader, "org.jboss.weld.NonExistingClass"));
+    }
+
+    private Set<String> read(Class<?> clazz) throws IOException {
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            return ClassFileAnnotations.read(in);
+        }
+    }
+
+    private static Set<String> names(Class<?> clazz) {
+        Set<String> names = new HashSet<>();
+        for (Annotation annotation : clazz.getDeclaredAnnotations()) {
+            names.add(annotation.annotationType().getName());
+        }
+        return names;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Values {
+
+        int[] ints() default {};
+
+        long number() default 0L;
+
+        double fraction() default 0.0;
+
+        Class<?> type() default Object.class;
+
+        ElementType element() default ElementType.TYPE;
+
+        Named named() default @Named;
+
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Invisible {
+    }
+
+    @ApplicationScoped
+    @Named("foo")
+    @Vetoed
+    @Invisible
+    @Values(ints = { 1, 2 }, number = 1234567890123L, fraction = 1.5, type = String.class, element = ElementType.FIELD,
+            named = @Named("bar"))
+    static class Annotated {
+
+        static final long LONG = 1234567890123L;
+
+        static final double DOUBLE = 2.5;
+
+        @Named
+        String field;
+
+        @Deprecated
+        void method() {
+        }
+
+    }
+
+    @Values
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Complex {
+    }
+
+    static class Plain {
+
+        Runnable runnable = () -> {
+        };
+
+    }
+
+}
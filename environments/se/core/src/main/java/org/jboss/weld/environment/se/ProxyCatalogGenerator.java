@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.bean.proxy.ProxyCatalog;
+import org.jboss.weld.config.ConfigurationKey;
+
+/**
+ * Generates a proxy catalog for the application available on the classpath.
+ * <p>
+ * The generator starts a Weld SE container with {@link ConfigurationKey#PROXY_DUMP} enabled, which makes Weld generate the
+ * subclasses of intercepted and decorated beans, obtains a contextual reference for every normal scoped bean so that all
+ * the client proxies are generated as well, and finally packages the dumped classes together with a catalog into the given
+ * jar. The jar is supposed to be added to the application classpath, and {@link ConfigurationKey#PROXY_CATALOG} enabled:
+ * <code>
+ * java -cp weld-se-shaded.jar:my-app.jar org.jboss.weld.environment.se.ProxyCatalogGenerator target/my-app-proxies.jar
+ * </code>
+ * <p>
+ * Proxies that are only needed at runtime, e.g. decorator proxies or proxies created by
+ * {@link jakarta.enterprise.inject.spi.InterceptionFactory}, are not part of the catalog and are still generated on demand.
+ * The catalog should be regenerated whenever the application classes or the Weld configuration change. A pregenerated class
+ * whose fingerprint does not match is ignored at runtime and the class is generated again.
+ *
+ * @see ProxyCatalog
+ */
+@Vetoed
+public class ProxyCatalogGenerator {
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private ProxyCatalogGenerator() {
+    }
+
+    /**
+     *
+     * @param args the path of the jar to generate
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ProxyCatalogGenerator <output jar>");
+        }
+        generate(Paths.get(args[0]));
+    }
+
+    /**
+     *
+     * @param jar the path of the jar to generate
+     * @return the number of pregenerated classes
+     * @throws IOException
+     */
+    public static int generate(Path jar) throws IOException {
+        Path dumpDirectory = Files.createTempDirectory("weld-proxies");
+        try {
+            dumpProxies(dumpDirectory);
+            return write(dumpDirectory, jar);
+        } finally {
+            try (Stream<Path> files = Files.walk(dumpDirectory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(ProxyCatalogGenerator::delete);
+            }
+        }
+    }
+
+    private static void dumpProxies(Path dumpDirectory) {
+        Weld weld = new Weld().skipShutdownHook()
+                .property(ConfigurationKey.PROXY_DUMP.get(), dumpDirectory.toString())
+                .property(ConfigurationKey.PROXY_CATALOG.get(), false);
+        try (WeldContainer container = weld.initialize()) {
+            BeanManager beanManager = container.getBeanManager();
+            for (Bean<?> bean : beanManager.getBeans(Object.class, Any.Literal.INSTANCE)) {
+                if (beanManager.isNormalScope(bean.getScope())) {
+                    // No bean instance is created, only the client proxy
+                    beanManager.getReference(bean, Object.class, beanManager.createCreationalContext(bean));
+                }
+            }
+        }
+    }
+
+    private static int write(Path dumpDirectory, Path jar) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            files.map(file -> file.getFileName().toString()).filter(name -> name.endsWith(CLASS_FILE_EXTENSION))
+                    .map(name -> name.substring(0, name.length() - CLASS_FILE_EXTENSION.length())).sorted()
+                    .forEach(classNames::add);
+        }
+        if (jar.getParent() != null) {
+            Files.createDirectories(jar.getParent());
+        }
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            StringBuilder catalog = new StringBuilder(ProxyCatalog.HEADER).append('\n');
+            for (String className : classNames) {
+                out.putNextEntry(new JarEntry(ProxyCatalog.getClassFileLocation(className)));
+                Files.copy(dumpDirectory.resolve(className + CLASS_FILE_EXTENSION), out);
+                out.closeEntry();
+                Path fingerprint = dumpDirectory.resolve(className + ProxyCatalog.FINGERPRINT_FILE_EXTENSION);
+                catalog.append(className).append(' ')
+                        .append(new String(Files.readAllBytes(fingerprint), StandardCharsets.UTF_8)).append('\n');
+            }
+            out.putNextEntry(new JarEntry(ProxyCatalog.CATALOG_NAME));
+            out.write(catalog.toString().getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        return classNames.size();
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.delete(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
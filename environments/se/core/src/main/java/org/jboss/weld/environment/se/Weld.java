@@ -30,6 +30,7 @@ import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -56,6 +57,7 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.Extension;
 
+import org.jboss.weld.bootstrap.BootstrapProfiler;
 import org.jboss.weld.bootstrap.WeldBootstrap;
 import org.jboss.weld.bootstrap.api.CDI11Bootstrap;
 import org.jboss.weld.bootstrap.api.Environments;
@@ -77,9 +79,13 @@ import org.jboss.weld.environment.ContainerInstanceFactory;
 import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.WeldDeployment;
 import org.jboss.weld.environment.deployment.WeldResourceLoader;
+import org.jboss.weld.environment.deployment.discovery.AbstractDiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.BeanIndex;
+import org.jboss.weld.environment.deployment.discovery.BeanIndexDiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.ClassPathBeanArchiveScanner;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategyFactory;
+import org.jboss.weld.environment.deployment.discovery.DiscoverySnapshot;
 import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.se.ContainerLifecycleObserver.ContainerLifecycleObserverExtension;
@@ -88,8 +94,10 @@ import org.jboss.weld.environment.se.logging.WeldSELogger;
 import org.jboss.weld.environment.util.BeanArchives;
 import org.jboss.weld.environment.util.Files;
 import org.jboss.weld.environment.util.Reflections;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
 import org.jboss.weld.lite.extension.translator.BuildCompatibleExtensionLoader;
 import org.jboss.weld.lite.extension.translator.LiteExtensionTranslator;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.metadata.BeansXmlImpl;
 import org.jboss.weld.resources.ClassLoaderResourceLoader;
 import org.jboss.weld.resources.spi.ClassFileServices;
@@ -238,6 +246,40 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
      */
     public static final String ALLOW_OPTIMIZED_CLEANUP = "org.jboss.weld.bootstrap.allowOptimizedCleanup";
 
+    /**
+     * The path of a file the result of the bean archive discovery is stored in. If the file exists and was created for the
+     * same class path and discovery settings, the bean archives are loaded from the file instead of scanning the class path.
+     * Otherwise, the discovery is performed and its result is stored in the file. Not set by default.
+     * <p>
+     * This key can be also used through {@link #property(String, Object)}.
+     *
+     * @see DiscoverySnapshot
+     */
+    public static final String DISCOVERY_SNAPSHOT_SYSTEM_PROPERTY = "org.jboss.weld.se.discovery.snapshot";
+
+    /**
+     * If set to <code>true</code>, bean archives are handled and the discovered classes are filtered concurrently. The
+     * {@link ExecutorServices} registered via {@link #addServices(Service...)} is used if present, otherwise a fixed thread
+     * pool is created for the duration of the discovery. All the bean archive handlers must be thread-safe. The order of the
+     * discovered bean archives is the same as in the sequential mode. Disabled by default.
+     * <p>
+     * This key can be also used through {@link #property(String, Object)}.
+     *
+     * @see AbstractDiscoveryStrategy#setExecutorServices(ExecutorServices)
+     */
+    public static final String PARALLEL_DISCOVERY_SYSTEM_PROPERTY = "org.jboss.weld.se.discovery.parallel";
+
+    /**
+     * If set to <code>true</code>, the bean archives are discovered using the {@link BeanIndex} generated at build time and no
+     * class is loaded to decide whether it is a bean. Every bean archive with bean discovery mode {@code annotated} must
+     * contain the index. Disabled by default.
+     * <p>
+     * This key can be also used through {@link #property(String, Object)}.
+     *
+     * @see BeanIndexDiscoveryStrategy
+     */
+    public static final String BEAN_INDEX_DISCOVERY_SYSTEM_PROPERTY = "org.jboss.weld.se.discovery.beanIndex";
+
     private static final String SYNTHETIC_LOCATION_PREFIX = "synthetic:";
 
     static {
@@ -846,7 +888,9 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
             String key = property.getKey();
             if (SHUTDOWN_HOOK_SYSTEM_PROPERTY.equals(key) || ARCHIVE_ISOLATION_SYSTEM_PROPERTY.equals(key)
                     || SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY.equals(key) || JAVAX_ENTERPRISE_INJECT_SCAN_IMPLICIT.equals(key)
-                    || ADDITIONAL_BEAN_DEFINING_ANNOTATIONS_PROPERTY.equals(key)) {
+                    || ADDITIONAL_BEAN_DEFINING_ANNOTATIONS_PROPERTY.equals(key)
+                    || DISCOVERY_SNAPSHOT_SYSTEM_PROPERTY.equals(key) || PARALLEL_DISCOVERY_SYSTEM_PROPERTY.equals(key)
+                    || BEAN_INDEX_DISCOVERY_SYSTEM_PROPERTY.equals(key)) {
                 continue;
             }
             configurationBuilder.add(key, property.getValue());
@@ -1002,18 +1046,38 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
                 .addAll(extendedBeanDefiningAnnotations)
                 .build();
 
+        // Create the profiler in advance so that the bean archive discovery is profiled as well
+        final BootstrapProfiler profiler = isEnabled(ConfigurationKey.BOOTSTRAP_PROFILER.get(), false) ? new BootstrapProfiler()
+                : null;
+        if (profiler != null) {
+            additionalServices.put(BootstrapProfiler.class, profiler);
+        }
+
         if (discoveryEnabled) {
-            DiscoveryStrategy strategy = DiscoveryStrategyFactory.create(resourceLoader, bootstrap,
-                    beanDefiningAnnotations, isEnabled(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY, false),
-                    emptyBeansXmlDiscoveryMode);
+            DiscoveryStrategy strategy = isEnabled(BEAN_INDEX_DISCOVERY_SYSTEM_PROPERTY, false)
+                    ? new BeanIndexDiscoveryStrategy(resourceLoader, bootstrap, beanDefiningAnnotations,
+                            emptyBeansXmlDiscoveryMode)
+                    : DiscoveryStrategyFactory.create(resourceLoader, bootstrap, beanDefiningAnnotations,
+                            isEnabled(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY, false), emptyBeansXmlDiscoveryMode);
             if (isImplicitScanEnabled()) {
                 strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap, emptyBeansXmlDiscoveryMode));
             }
-            beanDeploymentArchives.addAll(strategy.performDiscovery());
-            ClassFileServices classFileServices = strategy.getClassFileServices();
-            if (classFileServices != null) {
-                additionalServices.put(ClassFileServices.class, classFileServices);
+            final DiscoverySnapshot snapshot = initDiscoverySnapshot(bootstrap, strategy, beanDefiningAnnotations,
+                    emptyBeansXmlDiscoveryMode);
+            Set<WeldBeanDeploymentArchive> discovered = snapshot != null
+                    ? snapshot.load(bootstrap, emptyBeansXmlDiscoveryMode, resourceLoader)
+                    : null;
+            if (discovered == null) {
+                discovered = performDiscovery(strategy, profiler);
+                ClassFileServices classFileServices = strategy.getClassFileServices();
+                if (classFileServices != null) {
+                    additionalServices.put(ClassFileServices.class, classFileServices);
+                }
+                if (snapshot != null) {
+                    snapshot.store(discovered);
+                }
             }
+            beanDeploymentArchives.addAll(discovered);
         }
 
         if (isSyntheticBeanArchiveRequired()) {
@@ -1123,6 +1187,56 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
         return type.cast(manager.getReference(bean, type, cc));
     }
 
+    private Set<WeldBeanDeploymentArchive> performDiscovery(DiscoveryStrategy strategy, BootstrapProfiler profiler) {
+        if (profiler != null && strategy instanceof AbstractDiscoveryStrategy) {
+            ((AbstractDiscoveryStrategy) strategy).setBootstrapProfiler(profiler);
+        }
+        if (!isEnabled(PARALLEL_DISCOVERY_SYSTEM_PROPERTY, false) || !(strategy instanceof AbstractDiscoveryStrategy)) {
+            return strategy.performDiscovery();
+        }
+        ExecutorServices executorServices = (ExecutorServices) additionalServices.get(ExecutorServices.class);
+        boolean cleanup = false;
+        if (executorServices == null) {
+            executorServices = new FixedThreadPoolExecutorServices(Runtime.getRuntime().availableProcessors());
+            cleanup = true;
+        }
+        AbstractDiscoveryStrategy abstractStrategy = (AbstractDiscoveryStrategy) strategy;
+        abstractStrategy.setExecutorServices(executorServices);
+        try {
+            return abstractStrategy.performDiscovery();
+        } finally {
+            abstractStrategy.setExecutorServices(null);
+            if (cleanup) {
+                executorServices.cleanup();
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the discovery snapshot or <code>null</code> if not configured
+     * @see #DISCOVERY_SNAPSHOT_SYSTEM_PROPERTY
+     */
+    private DiscoverySnapshot initDiscoverySnapshot(CDI11Bootstrap bootstrap, DiscoveryStrategy strategy,
+            Set<Class<? extends Annotation>> beanDefiningAnnotations, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
+        Object file = getPropertyValue(DISCOVERY_SNAPSHOT_SYSTEM_PROPERTY,
+                System.getProperty(DISCOVERY_SNAPSHOT_SYSTEM_PROPERTY));
+        if (file == null) {
+            return null;
+        }
+        List<String> discriminators = new ArrayList<>();
+        discriminators.add(strategy.getClass().getName());
+        discriminators.add(emptyBeansXmlDiscoveryMode.toString());
+        discriminators.add(Boolean.toString(isImplicitScanEnabled()));
+        List<String> annotations = new ArrayList<>();
+        for (Class<? extends Annotation> annotation : beanDefiningAnnotations) {
+            annotations.add(annotation.getName());
+        }
+        Collections.sort(annotations);
+        discriminators.addAll(annotations);
+        return DiscoverySnapshot.of(Paths.get(file.toString()), resourceLoader, bootstrap, discriminators);
+    }
+
     protected boolean isImplicitScanEnabled() {
         return isEnabled(SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY, false)
                 || isEnabled(JAVAX_ENTERPRISE_INJECT_SCAN_IMPLICIT, false);
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.bootstrap.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class BootstrapProfilerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(BootstrapProfilerTest.class))
+                        .addPackage(BootstrapProfilerTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testProfileExported() throws IOException {
+        File output = new File(folder.newFolder(), "profile.json");
+        TypeCountingExtension extension = new TypeCountingExtension();
+        Weld weld = new Weld().disableDiscovery().beanClasses(Sheep.class).addExtension(extension)
+                .property(ConfigurationKey.BOOTSTRAP_PROFILER.get(), true)
+                .property(ConfigurationKey.BOOTSTRAP_PROFILER_OUTPUT.get(), output.getAbsolutePath());
+        try (WeldContainer container = weld.initialize()) {
+            assertEquals("baa", container.select(Sheep.class).get().baa());
+            assertTrue(output.isFile());
+            String profile = new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8);
+            assertTrue(profile, profile.contains("\"phase\":["));
+            assertTrue(profile, profile.contains("\"name\":\"bootstrap\""));
+            assertTrue(profile, profile.contains("\"name\":\"bootstrap > validateBeans\""));
+            assertTrue(profile, profile.contains("\"name\":\"" + TypeCountingExtension.class.getName()
+                    + ".processAnnotatedType(ProcessAnnotatedType)\",\"count\":" + extension.count.get() + ","));
+            assertTrue(profile, profile.contains("\"validation\":["));
+            assertTrue(profile, profile.contains("\"name\":\"beans\""));
+        }
+    }
+
+    @Test
+    public void testBeanArchivePhasesRecordedSeparately() throws IOException {
+        File output = new File(folder.newFolder(), "profile.json");
+        Weld weld = new Weld().property(ConfigurationKey.BOOTSTRAP_PROFILER.get(), true)
+                .property(ConfigurationKey.BOOTSTRAP_PROFILER_OUTPUT.get(), output.getAbsolutePath());
+        try (WeldContainer container = weld.initialize()) {
+            String profile = new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8);
+            assertTrue(profile, profile.contains("\"archive\":["));
+            assertTrue(profile, profile.contains(" (scan)\",\"count\":1,"));
+            assertTrue(profile, profile.contains(" (process)\",\"count\":1,"));
+            assertFalse(profile, profile.contains(" (scan)\",\"count\":2,"));
+        }
+    }
+
+    @Test
+    public void testProfilerDisabledByDefault() throws IOException {
+        File dir = folder.newFolder();
+        Weld weld = new Weld().disableDiscovery().beanClasses(Sheep.class)
+                .property(ConfigurationKey.BOOTSTRAP_PROFILER_OUTPUT.get(), new File(dir, "profile.json").getAbsolutePath());
+        try (WeldContainer container = weld.initialize()) {
+            assertNull(BeanManagerProxy.unwrap(container.getBeanManager()).getServices().get(BootstrapProfiler.class));
+            assertFalse(new File(dir, "profile.json").exists());
+        }
+    }
+
+}
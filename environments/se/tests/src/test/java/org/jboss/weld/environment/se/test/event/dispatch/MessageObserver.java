@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.event.dispatch;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.EventMetadata;
+
+@ApplicationScoped
+public class MessageObserver {
+
+    static final List<String> RECEIVED = new CopyOnWriteArrayList<>();
+
+    void observe(@Observes Message message) {
+        RECEIVED.add("instance:" + message.getText());
+    }
+
+    void observeWithMetadata(BeanManager beanManager, @Observes Message message, EventMetadata metadata) {
+        if (beanManager != null && Message.class.equals(metadata.getType())) {
+            RECEIVED.add("metadata:" + message.getText());
+        }
+    }
+
+    static void observeStatic(@Observes Message message) {
+        RECEIVED.add("static:" + message.getText());
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.event.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ObserverMethodHandleDispatchTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ObserverMethodHandleDispatchTest.class))
+                        .addPackage(ObserverMethodHandleDispatchTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testMethodHandleDispatch() {
+        assertNotification(true);
+    }
+
+    @Test
+    public void testReflectiveDispatch() {
+        assertNotification(false);
+    }
+
+    private void assertNotification(boolean methodHandleDispatch) {
+        MessageObserver.RECEIVED.clear();
+        Weld weld = new Weld().disableDiscovery().beanClasses(MessageObserver.class)
+                .property(ConfigurationKey.OBSERVER_METHOD_HANDLE_DISPATCH.get(), methodHandleDispatch);
+        try (WeldContainer container = weld.initialize()) {
+            container.getBeanManager().getEvent().select(Message.class).fire(new Message("foo"));
+            assertEquals(3, MessageObserver.RECEIVED.size());
+            assertTrue(MessageObserver.RECEIVED.contains("instance:foo"));
+            assertTrue(MessageObserver.RECEIVED.contains("metadata:foo"));
+            assertTrue(MessageObserver.RECEIVED.contains("static:foo"));
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.event.options.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.NotificationOptions;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.events.WeldNotificationOptions;
+import org.jboss.weld.events.WeldNotificationOptions.NotificationMode;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class BatchWindowTest {
+
+    private static final int EVENTS = 50;
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(BatchWindowTest.class))
+                        .addPackage(BatchWindowTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testEventsCoalescedSerially() throws Exception {
+        ExecutorService delegate = Executors.newSingleThreadExecutor();
+        try (WeldContainer container = new Weld().initialize()) {
+            CountingExecutor executor = new CountingExecutor(delegate);
+            Queue<String> deliveries = new ConcurrentLinkedQueue<>();
+            List<CompletableFuture<Delivery>> results = fire(container, deliveries::add,
+                    NotificationOptions.builder().setExecutor(executor).set(ObserverNotifier.ASYNC_BATCH_WINDOW, 100L)
+                            .build());
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[] {})).get(5, TimeUnit.SECONDS);
+            assertEquals(2 * EVENTS, deliveries.size());
+            // All the events fired within the window were delivered by a single task
+            assertTrue(executor.submissions.get() < EVENTS);
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEventsCoalescedInParallel() throws Exception {
+        ExecutorService delegate = Executors.newFixedThreadPool(2);
+        try (WeldContainer container = new Weld().initialize()) {
+            CountingExecutor executor = new CountingExecutor(delegate);
+            Queue<String> deliveries = new ConcurrentLinkedQueue<>();
+            List<CompletableFuture<Delivery>> results = fire(container, deliveries::add,
+                    NotificationOptions.builder().setExecutor(executor).set(WeldNotificationOptions.MODE,
+                            NotificationMode.PARALLEL).set(ObserverNotifier.ASYNC_BATCH_WINDOW, "100").build());
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[] {})).get(5, TimeUnit.SECONDS);
+            assertEquals(2 * EVENTS, deliveries.size());
+            assertTrue(executor.submissions.get() < EVENTS);
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExceptionPropagatedPerEvent() throws Exception {
+        try (WeldContainer container = new Weld().initialize()) {
+            CompletableFuture<Delivery> failing = container.event().select(Delivery.class).fireAsync((observer) -> {
+                throw new IllegalStateException(observer);
+            }, NotificationOptions.of(ObserverNotifier.ASYNC_BATCH_WINDOW, 0L)).toCompletableFuture();
+            CompletableFuture<Delivery> passing = container.event().select(Delivery.class).fireAsync((observer) -> {
+            }, NotificationOptions.of(ObserverNotifier.ASYNC_BATCH_WINDOW, 0L)).toCompletableFuture();
+            passing.get(5, TimeUnit.SECONDS);
+            try {
+                failing.join();
+                fail("Notification should have failed");
+            } catch (CompletionException expected) {
+                assertEquals(2, expected.getSuppressed().length);
+                assertTrue(expected.getSuppressed()[0] instanceof IllegalStateException);
+            }
+        }
+    }
+
+    @Test
+    public void testBatchesReleasedAfterDelivery() throws Exception {
+        ExecutorService delegate = Executors.newSingleThreadExecutor();
+        try (WeldContainer container = new Weld().initialize()) {
+            List<CompletableFuture<Delivery>> results = new ArrayList<>();
+            // Each executor identifies a different batch
+            for (int i = 0; i < 10; i++) {
+                results.addAll(fire(container, (observer) -> {
+                }, NotificationOptions.builder().setExecutor(new CountingExecutor(delegate))
+                        .set(ObserverNotifier.ASYNC_BATCH_WINDOW, i % 2 == 0 ? 0L : 10L).build()));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[] {})).get(5, TimeUnit.SECONDS);
+            ObserverNotifier notifier = BeanManagerProxy.unwrap(container.getBeanManager()).getGlobalLenientObserverNotifier();
+            Field batches = ObserverNotifier.class.getDeclaredField("asyncEventBatches");
+            batches.setAccessible(true);
+            assertTrue(((Map<?, ?>) batches.get(notifier)).isEmpty());
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchWindow() {
+        try (WeldContainer container = new Weld().initialize()) {
+            container.event().select(Delivery.class).fireAsync((observer) -> {
+            }, NotificationOptions.of(ObserverNotifier.ASYNC_BATCH_WINDOW, -1L));
+        }
+    }
+
+    private static List<CompletableFuture<Delivery>> fire(WeldContainer container, Delivery delivery,
+            NotificationOptions options) {
+        List<CompletableFuture<Delivery>> results = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            results.add(container.event().select(Delivery.class).fireAsync(delivery, options).toCompletableFuture());
+        }
+        return results;
+    }
+
+    private static class CountingExecutor implements Executor {
+
+        private final Executor delegate;
+
+        private final AtomicInteger submissions = new AtomicInteger();
+
+        CountingExecutor(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            submissions.incrementAndGet();
+            delegate.execute(command);
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.event.select;
+
+import static org.junit.Assert.assertEquals;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.event.EventObserverCache;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class SelectedEventObserverCacheTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(SelectedEventObserverCacheTest.class))
+                        .addPackage(SelectedEventObserverCacheTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testResolutionSharedBySelectedEvents() {
+        try (WeldContainer container = new Weld().initialize()) {
+            EventObserverCache cache = BeanManagerProxy.unwrap(container.getBeanManager()).getGlobalStrictObserverNotifier()
+                    .getEventObserverCache();
+            CacheStatistics before = cache.getStatistics();
+            for (int i = 0; i < 10; i++) {
+                container.event().select(String.class, new Tenant.Literal(i % 2 == 0 ? "alpha" : "beta")).fire("" + i);
+            }
+            CacheStatistics after = cache.getStatistics();
+            // Observers were resolved once per tenant
+            assertEquals(2, after.getMissCount() - before.getMissCount());
+            assertEquals(8, after.getHitCount() - before.getHitCount());
+
+            TenantObserver observer = container.select(TenantObserver.class).get();
+            assertEquals(10, observer.getReceived().size());
+            assertEquals("alpha:0", observer.getReceived().get(0));
+            assertEquals("beta:1", observer.getReceived().get(1));
+        }
+    }
+
+}
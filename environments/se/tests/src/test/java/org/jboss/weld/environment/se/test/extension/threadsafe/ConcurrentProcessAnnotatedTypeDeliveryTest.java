@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.extension.threadsafe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ConcurrentProcessAnnotatedTypeDeliveryTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class,
+                        Utils.getDeploymentNameAsHash(ConcurrentProcessAnnotatedTypeDeliveryTest.class))
+                        .addPackage(ConcurrentProcessAnnotatedTypeDeliveryTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testThreadSafeExtensionNotifiedConcurrently() {
+        ParallelExtension parallel = new ParallelExtension();
+        SerialExtension serial = new SerialExtension();
+        Weld weld = new Weld().disableDiscovery().beanClasses(Alpha.class, Bravo.class, Charlie.class)
+                .addExtension(parallel).addExtension(serial)
+                .property(ConfigurationKey.CONCURRENT_PROCESS_ANNOTATED_TYPE_DELIVERY.get(), true)
+                .property(ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE.get(), ThreadPoolType.FIXED.toString())
+                .property(ConfigurationKey.EXECUTOR_THREAD_POOL_SIZE.get(), 2);
+        Thread bootstrapThread = Thread.currentThread();
+        try (WeldContainer container = weld.initialize()) {
+            assertTrue(parallel.threads.keySet().containsAll(Arrays.asList(Alpha.class, Bravo.class, Charlie.class)));
+            // Alpha and Bravo are only observed by thread-safe extensions and are delivered on the executor
+            assertNotEquals(bootstrapThread, parallel.threads.get(Alpha.class));
+            assertNotEquals(bootstrapThread, parallel.threads.get(Bravo.class));
+            // Charlie is also observed by an extension which is not thread-safe and is delivered on the bootstrap thread
+            assertEquals(bootstrapThread, parallel.threads.get(Charlie.class));
+            assertEquals(Collections.singleton(bootstrapThread), serial.threads);
+            // Only ProcessAnnotatedType is delivered without the container lock
+            assertTrue(parallel.afterBeanDiscoveryLocked);
+            assertTrue(container.select(Alpha.class).isResolvable());
+            assertTrue(container.select(Bravo.class).isUnsatisfied());
+            assertTrue(container.select(Charlie.class).isResolvable());
+        }
+    }
+
+    @Test
+    public void testThreadSafeExtensionNotifiedSeriallyWithoutExecutor() {
+        ParallelExtension parallel = new ParallelExtension();
+        SerialExtension serial = new SerialExtension();
+        Weld weld = new Weld().disableDiscovery().beanClasses(Alpha.class, Bravo.class, Charlie.class)
+                .addExtension(parallel).addExtension(serial)
+                .property(ConfigurationKey.CONCURRENT_PROCESS_ANNOTATED_TYPE_DELIVERY.get(), true)
+                .property(ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE.get(), ThreadPoolType.NONE.toString());
+        Thread bootstrapThread = Thread.currentThread();
+        try (WeldContainer container = weld.initialize()) {
+            assertEquals(bootstrapThread, parallel.threads.get(Alpha.class));
+            assertEquals(bootstrapThread, parallel.threads.get(Bravo.class));
+            assertEquals(bootstrapThread, parallel.threads.get(Charlie.class));
+            assertEquals(Collections.singleton(bootstrapThread), serial.threads);
+            assertTrue(container.select(Alpha.class).isResolvable());
+            assertTrue(container.select(Bravo.class).isUnsatisfied());
+            assertTrue(container.select(Charlie.class).isResolvable());
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.extension.threadsafe;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bootstrap.events.ThreadSafeExtension;
+
+@ThreadSafeExtension
+public class ParallelExtension implements Extension {
+
+    final Map<Class<?>, Thread> threads = new ConcurrentHashMap<>();
+
+    volatile boolean afterBeanDiscoveryLocked;
+
+    void processAnnotatedType(@Observes ProcessAnnotatedType<?> event) {
+        threads.put(event.getAnnotatedType().getJavaClass(), Thread.currentThread());
+        if (event.getAnnotatedType().getJavaClass().equals(Bravo.class)) {
+            event.veto();
+        }
+    }
+
+    void afterBeanDiscovery(@Observes AfterBeanDiscovery event, BeanManager manager) {
+        afterBeanDiscoveryLocked = Thread.holdsLock(Container.instance(BeanManagerProxy.unwrap(manager)));
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptor.dispatch;
+
+import java.io.IOException;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.InvocationContext;
+
+@Traced
+@Dependent
+public class Calculator {
+
+    public int add(int a, int b) {
+        return a + b;
+    }
+
+    public String echo(String value) {
+        return value;
+    }
+
+    public void fail() throws IOException {
+        throw new IOException("expected");
+    }
+
+    @AroundInvoke
+    private Object multiplySecondParameter(InvocationContext ctx) throws Exception {
+        if (ctx.getMethod().getName().equals("add")) {
+            Object[] parameters = ctx.getParameters();
+            parameters[1] = (Integer) parameters[1] * 10;
+            ctx.setParameters(parameters);
+        }
+        return ctx.proceed();
+    }
+
+}
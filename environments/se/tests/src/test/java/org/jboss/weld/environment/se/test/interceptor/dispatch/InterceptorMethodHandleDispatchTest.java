@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptor.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.InterceptionFactory;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.interceptor.proxy.InterceptionChain;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class InterceptorMethodHandleDispatchTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class,
+                        Utils.getDeploymentNameAsHash(InterceptorMethodHandleDispatchTest.class))
+                        .addPackage(InterceptorMethodHandleDispatchTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testMethodHandleDispatch() {
+        assertInterception(true);
+    }
+
+    @Test
+    public void testReflectiveDispatch() {
+        assertInterception(false);
+    }
+
+    @Test
+    public void testInterceptionFactoryMethodHandleDispatch() {
+        assertInterceptionFactory(true);
+    }
+
+    @Test
+    public void testInterceptionFactoryReflectiveDispatch() {
+        assertInterceptionFactory(false);
+    }
+
+    private void assertInterceptionFactory(boolean methodHandleDispatch) {
+        TracingInterceptor.CALLERS.clear();
+        try (WeldContainer container = createWeld(methodHandleDispatch).initialize()) {
+            BeanManager beanManager = container.getBeanManager();
+            InterceptionFactory<Echo> factory = beanManager.createInterceptionFactory(beanManager.createCreationalContext(null),
+                    Echo.class);
+            factory.configure().add(Traced.Literal.INSTANCE);
+            assertEquals("<foo>", factory.createInterceptedInstance(new Echo()).echo("foo"));
+        }
+        assertDispatch(methodHandleDispatch);
+    }
+
+    private void assertInterception(boolean methodHandleDispatch) {
+        TracingInterceptor.CALLERS.clear();
+        try (WeldContainer container = createWeld(methodHandleDispatch).initialize()) {
+            Calculator calculator = container.select(Calculator.class).get();
+            assertEquals(21, calculator.add(1, 2));
+            assertEquals("<foo>", calculator.echo("foo"));
+            // the chain is shared by all the instances
+            assertEquals("<bar>", container.select(Calculator.class).get().echo("bar"));
+            try {
+                calculator.fail();
+                fail();
+            } catch (IOException expected) {
+                assertEquals("expected", expected.getMessage());
+            }
+        }
+        assertDispatch(methodHandleDispatch);
+    }
+
+    private Weld createWeld(boolean methodHandleDispatch) {
+        return new Weld().disableDiscovery().beanClasses(Calculator.class, TracingInterceptor.class)
+                .property(ConfigurationKey.INTERCEPTOR_METHOD_HANDLE_DISPATCH.get(), methodHandleDispatch);
+    }
+
+    private void assertDispatch(boolean methodHandleDispatch) {
+        assertFalse(TracingInterceptor.CALLERS.isEmpty());
+        for (String caller : TracingInterceptor.CALLERS) {
+            // a method handle is invoked directly by the chain, a reflective invocation by the link of the interceptor method
+            assertEquals(caller, methodHandleDispatch, caller.equals(InterceptionChain.class.getName()));
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.proxy.deferred;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class DeferredProxyGenerationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(DeferredProxyGenerationTest.class))
+                        .addPackage(DeferredProxyGenerationTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testSubclassGeneratedOnFirstInstantiation() throws IOException {
+        File dump = folder.newFolder();
+        Weld weld = new Weld().disableDiscovery().beanClasses(BatchJob.class, CountingInterceptor.class)
+                .property(ConfigurationKey.DEFERRED_PROXY_GENERATION.get(), true)
+                .property(ConfigurationKey.PROXY_DUMP.get(), dump.getAbsolutePath());
+        try (WeldContainer container = weld.initialize()) {
+            assertFalse(isSubclassGenerated(dump));
+            CountingInterceptor.COUNTER.set(0);
+            assertEquals("done", container.select(BatchJob.class).get().run());
+            assertEquals(1, CountingInterceptor.COUNTER.get());
+            assertTrue(isSubclassGenerated(dump));
+        }
+    }
+
+    @Test
+    public void testSubclassGeneratedDuringBootstrap() throws IOException {
+        File dump = folder.newFolder();
+        Weld weld = new Weld().disableDiscovery().beanClasses(BatchJob.class, CountingInterceptor.class)
+                .property(ConfigurationKey.PROXY_DUMP.get(), dump.getAbsolutePath());
+        try (WeldContainer container = weld.initialize()) {
+            assertTrue(isSubclassGenerated(dump));
+        }
+    }
+
+    private static boolean isSubclassGenerated(File dump) {
+        String[] files = dump.list((dir, name) -> name.startsWith(BatchJob.class.getName()) && name.contains("Subclass"));
+        return files != null && files.length > 0;
+    }
+
+}
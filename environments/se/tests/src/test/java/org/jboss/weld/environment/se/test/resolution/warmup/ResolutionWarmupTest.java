@@ -0,0 +1,67 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.resolution.warmup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.event.EventObserverCache;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ResolutionWarmupTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder()
+                .add(ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ResolutionWarmupTest.class))
+                        .addPackage(ResolutionWarmupTest.class.getPackage()))
+                .build();
+    }
+
+    @Test
+    public void testInjectionPointsResolvedDuringBootstrap() {
+        Weld weld = new Weld().disableDiscovery().beanClasses(Client.class, Greeter.class, Translator.class)
+                .property(ConfigurationKey.RESOLUTION_WARMUP.get(), true);
+        try (WeldContainer container = weld.initialize()) {
+            BeanManagerImpl beanManager = BeanManagerProxy.unwrap(container.getBeanManager());
+            assertTrue(beanManager.getBeanResolver().isCached(new ResolvableBuilder(Greeter.class, beanManager).create()));
+            assertTrue(beanManager.getBeanResolver().isCached(new ResolvableBuilder(Translator.class, beanManager).create()));
+            EventObserverCache cache = beanManager.getGlobalStrictObserverNotifier().getEventObserverCache();
+            CacheStatistics before = cache.getStatistics();
+            container.select(Client.class).get().event.fire(new Greeting());
+            // Observers were resolved during bootstrap
+            assertEquals(0, cache.getStatistics().getMissCount() - before.getMissCount());
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean;
+
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * Base class of the bean identifiers created by Weld. Besides the identity of a bean, the identifier carries the position
+ * assigned to the bean by {@link org.jboss.weld.contexts.beanstore.ContextBeanIdentifierIndex} so that indexed bean stores
+ * do not have to look the position up. The position is not part of the identity of the bean and is not serialized.
+ */
+public abstract class AbstractBeanIdentifier implements BeanIdentifier {
+
+    private static final long serialVersionUID = 1L;
+
+    // the position plus one so that a deserialized identifier has no position
+    private transient int slot;
+
+    /**
+     *
+     * @return the position assigned by the context index or -1 if no position was assigned
+     */
+    public int getSlot() {
+        return slot - 1;
+    }
+
+    /**
+     * This method is only invoked when the context index is built.
+     *
+     * @param slot
+     */
+    public void setSlot(int slot) {
+        this.slot = slot + 1;
+    }
+
+}
@@ -32,7 +32,9 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanAttributes;
 import jakarta.inject.Singleton;
 
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.contexts.cache.RequestScopedItem;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.reflection.Reflections;
@@ -55,7 +57,9 @@ import org.jboss.weld.util.reflection.Reflections;
  * contextual bean instances in
  * a {@link ThreadLocal}. This implementation respects the possibility of an instance being destroyed via
  * {@link AlterableContext} and the cached instance is
- * flushed in such case. This is done indirectly by {@link RequestScopedCache}.
+ * flushed in such case. This is done indirectly by {@link RequestScopedCache}. If
+ * {@link org.jboss.weld.config.ConfigurationKey#REQUEST_SCOPED_CACHE_MODE} is set to
+ * {@link RequestScopedCache.Mode#REQUEST_CONTEXT}, the instances are held by {@link RequestScopedCache} directly instead.
  *
  * @author Jozef Hartinger
  *
@@ -72,11 +76,19 @@ public abstract class ContextualInstanceStrategy<T> {
         if (ApplicationScoped.class == bean.getScope() || Singleton.class == bean.getScope()) {
             return new ApplicationScopedContextualInstanceStrategy<T>();
         } else if (CachingContextualInstanceStrategy.CACHEABLE_SCOPES.contains(bean.getScope())) {
+            if (getRequestScopedCacheMode(manager) == RequestScopedCache.Mode.REQUEST_CONTEXT) {
+                return new RequestCachingContextualInstanceStrategy<T>();
+            }
             return new CachingContextualInstanceStrategy<T>();
         }
         return defaultStrategy();
     }
 
+    private static RequestScopedCache.Mode getRequestScopedCacheMode(BeanManagerImpl manager) {
+        WeldConfiguration configuration = manager != null ? manager.getServices().get(WeldConfiguration.class) : null;
+        return configuration != null ? RequestScopedCache.Mode.from(configuration) : RequestScopedCache.Mode.THREAD_LOCAL;
+    }
+
     ContextualInstanceStrategy() {
     }
 
@@ -163,7 +175,11 @@ public abstract class ContextualInstanceStrategy<T> {
         }
     }
 
-    private static class CachingContextualInstanceStrategy<T> extends DefaultContextualInstanceStrategy<T> {
+    /**
+     * The strategy itself is registered with {@link RequestScopedCache} so that caching an instance does not allocate.
+     */
+    private static class CachingContextualInstanceStrategy<T> extends DefaultContextualInstanceStrategy<T>
+            implements RequestScopedItem {
 
         private static final Set<Class<? extends Annotation>> CACHEABLE_SCOPES = ImmutableSet.of(RequestScoped.class,
                 ConversationScoped.class,
@@ -177,7 +193,7 @@ public abstract class ContextualInstanceStrategy<T> {
                 return cached;
             }
             cached = super.getIfExists(bean, manager);
-            if (cached != null && RequestScopedCache.addItemIfActive(cache)) {
+            if (cached != null && RequestScopedCache.addItemIfActive(this)) {
                 cache.set(cached);
             }
             return cached;
@@ -190,10 +206,45 @@ public abstract class ContextualInstanceStrategy<T> {
                 return cached;
             }
             cached = super.get(bean, manager, ctx);
-            if (RequestScopedCache.addItemIfActive(cache)) {
+            if (RequestScopedCache.addItemIfActive(this)) {
                 cache.set(cached);
             }
             return cached;
         }
+
+        @Override
+        public void invalidate() {
+            cache.remove();
+        }
+    }
+
+    /**
+     * Caches the instance in the registry of the current request, using the strategy itself as the key.
+     */
+    private static class RequestCachingContextualInstanceStrategy<T> extends DefaultContextualInstanceStrategy<T> {
+
+        @Override
+        T getIfExists(Bean<T> bean, BeanManagerImpl manager) {
+            T cached = RequestScopedCache.getInstance(this);
+            if (cached != null) {
+                return cached;
+            }
+            cached = super.getIfExists(bean, manager);
+            if (cached != null) {
+                RequestScopedCache.putInstanceIfActive(this, cached);
+            }
+            return cached;
+        }
+
+        @Override
+        T get(Bean<T> bean, BeanManagerImpl manager, CreationalContext<?> ctx) {
+            T cached = RequestScopedCache.getInstance(this);
+            if (cached != null) {
+                return cached;
+            }
+            cached = super.get(bean, manager, ctx);
+            RequestScopedCache.putInstanceIfActive(this, cached);
+            return cached;
+        }
     }
 }
@@ -18,7 +18,7 @@ package org.jboss.weld.bean;
 
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
-public class StringBeanIdentifier implements BeanIdentifier {
+public class StringBeanIdentifier extends AbstractBeanIdentifier {
 
     private static final long serialVersionUID = -3389031898783605246L;
 
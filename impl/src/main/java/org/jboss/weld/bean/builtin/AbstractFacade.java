@@ -38,7 +38,7 @@ import org.jboss.weld.manager.BeanManagerImpl;
  */
 public abstract class AbstractFacade<T, X> {
 
-    protected static Type getFacadeType(InjectionPoint injectionPoint) {
+    public static Type getFacadeType(InjectionPoint injectionPoint) {
         Type genericType = injectionPoint.getType();
         if (genericType instanceof ParameterizedType) {
             Type typeArgument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
@@ -29,6 +29,8 @@ import org.jboss.weld.bean.proxy.ProxyFactory;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.injection.EmptyInjectionPoint;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.Proxies;
 
 /**
  * The built-in bean for facade objects. Since special rules are applied for resolving facade beans, we need to resolve
@@ -40,7 +42,7 @@ import org.jboss.weld.manager.BeanManagerImpl;
  */
 public abstract class AbstractFacadeBean<T> extends AbstractDecorableBuiltInBean<T> {
 
-    private Class<T> proxyClass;
+    private LazyValueHolder<Class<T>> proxyClass;
 
     protected AbstractFacadeBean(BeanManagerImpl manager, Class<T> type) {
         super(manager, type);
@@ -53,12 +55,13 @@ public abstract class AbstractFacadeBean<T> extends AbstractDecorableBuiltInBean
 
     @Override
     protected Class<T> getProxyClass() {
-        return proxyClass;
+        return proxyClass.get();
     }
 
     @Override
     public void initializeAfterBeanDiscovery() {
-        this.proxyClass = new ProxyFactory<T>(getBeanManager().getContextId(), getType(), getTypes(), this).getProxyClass();
+        this.proxyClass = Proxies.generate(beanManager.getServices(),
+                () -> new ProxyFactory<T>(getBeanManager().getContextId(), getType(), getTypes(), this).getProxyClass());
     }
 
     @Override
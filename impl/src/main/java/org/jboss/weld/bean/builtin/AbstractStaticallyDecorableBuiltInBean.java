@@ -23,6 +23,8 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 
 import org.jboss.weld.bean.proxy.ProxyFactory;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.Proxies;
 
 /**
  * A decorated built-in bean for which, unlike {@link AbstractFacadeBean}, decorators only need to be resolved once.
@@ -34,7 +36,7 @@ import org.jboss.weld.manager.BeanManagerImpl;
 public abstract class AbstractStaticallyDecorableBuiltInBean<T> extends AbstractDecorableBuiltInBean<T> {
 
     private List<Decorator<?>> decorators;
-    private Class<T> proxyClass;
+    private LazyValueHolder<Class<T>> proxyClass;
 
     protected AbstractStaticallyDecorableBuiltInBean(BeanManagerImpl beanManager, Class<T> type) {
         super(beanManager, type);
@@ -52,14 +54,15 @@ public abstract class AbstractStaticallyDecorableBuiltInBean<T> extends Abstract
             throw new IllegalStateException(
                     "No decorators were resolved for this bean at boot time however there are some now");
         }
-        return proxyClass;
+        return proxyClass.get();
     }
 
     @Override
     public void initializeAfterBeanDiscovery() {
         this.decorators = beanManager.resolveDecorators(getTypes(), getQualifiers());
         if (!decorators.isEmpty()) {
-            this.proxyClass = new ProxyFactory<T>(getBeanManager().getContextId(), getType(), getTypes(), this).getProxyClass();
+            this.proxyClass = Proxies.generate(beanManager.getServices(),
+                    () -> new ProxyFactory<T>(getBeanManager().getContextId(), getType(), getTypes(), this).getProxyClass());
         }
     }
 }
@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.TreeSet;
 
 import jakarta.enterprise.inject.spi.Bean;
 
@@ -134,6 +135,21 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected String getFingerprintSettings() {
+        return super.getFingerprintSettings()
+                + ";enhanced=" + toSortedString(enhancedMethodSignatures)
+                + ";intercepted=" + toSortedString(interceptedMethodSignatures);
+    }
+
+    private static String toSortedString(Set<MethodSignature> signatures) {
+        Set<String> sorted = new TreeSet<>();
+        for (MethodSignature signature : signatures) {
+            sorted.add(signature.toString());
+        }
+        return sorted.toString();
+    }
+
     @Override
     protected void addMethods(ClassFile proxyClassType, ClassMethod staticConstructor) {
         // Add all class methods for interception
@@ -45,10 +45,12 @@ public class InterceptionDecorationContext {
         private boolean removeWhenEmpty;
         private final Deque<CombinedInterceptorAndDecoratorStackMethodHandler> elements;
         private final ThreadLocal<Stack> interceptionContexts;
+        private final Thread thread;
         private boolean valid;
 
         private Stack(ThreadLocal<Stack> interceptionContexts) {
             this.interceptionContexts = interceptionContexts;
+            this.thread = Thread.currentThread();
             this.elements = new ArrayDeque<CombinedInterceptorAndDecoratorStackMethodHandler>();
             /*
              * Setting / removing of a thread-local is much more expensive compared to get. Therefore,
@@ -130,6 +132,15 @@ public class InterceptionDecorationContext {
             return elements.size();
         }
 
+        /**
+         * A valid stack is always the one associated with the thread which created it.
+         *
+         * @return <code>true</code> if this stack is the stack of the current thread, <code>false</code> otherwise
+         */
+        private boolean isCurrent() {
+            return valid && thread == Thread.currentThread();
+        }
+
         @Override
         public String toString() {
             return "Stack [valid=" + valid + ", cached=" + !removeWhenEmpty + ", elements=" + elements + "]";
@@ -214,6 +225,29 @@ public class InterceptionDecorationContext {
         return null;
     }
 
+    /**
+     * Pushes the given context to the given stack if the stack is the stack of the current thread and the given context is not
+     * on top of the stack already. This allows the callers which already obtained the stack, e.g. an invocation context
+     * created by an intercepted method, to skip the thread-local lookup. If the given stack is <code>null</code>, no longer
+     * valid or belongs to a different thread (e.g. {@link jakarta.interceptor.InvocationContext#proceed()} is called
+     * asynchronously), the stack of the current thread is used instead.
+     * If this method return a non-null value, the caller is responsible for calling {@link Stack#end()} after the invocation
+     * finishes.
+     *
+     * @param stack the stack obtained previously, may be <code>null</code>
+     * @param context the given context
+     * @return the stack the context was pushed to, or <code>null</code> if the given context was on top already
+     */
+    public static Stack startIfNotOnTop(Stack stack, CombinedInterceptorAndDecoratorStackMethodHandler context) {
+        if (stack == null || !stack.isCurrent()) {
+            return startIfNotOnTop(context);
+        }
+        if (stack.startIfNotOnTop(context)) {
+            return stack;
+        }
+        return null;
+    }
+
     /**
      * Gets the current Stack. If the stack is not set, a new empty instance is created and set.
      *
@@ -72,7 +72,7 @@ public class InterceptionFactoryDataCache implements Service {
 
             EnhancedAnnotatedType<?> enhancedAnnotatedType = classTransformer.getEnhancedAnnotatedType(slimAnnotatedType);
 
-            // Init interception model
+            // Init interception model, the initializer also applies ConfigurationKey#INTERCEPTOR_METHOD_HANDLE_DISPATCH
             new InterceptionModelInitializer(beanManager, enhancedAnnotatedType,
                     Beans.getBeanConstructor(enhancedAnnotatedType), null).init();
             InterceptionModel interceptionModel = beanManager.getInterceptorModelRegistry().get(slimAnnotatedType);
@@ -0,0 +1,225 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.util.reflection.Formats;
+
+/**
+ * Holds the client proxies and subclasses pregenerated at build time.
+ * <p>
+ * A proxy catalog is a classpath resource named {@value #CATALOG_NAME}. The first line is the {@value #HEADER} header,
+ * each following line is the binary name of a pregenerated class followed by its fingerprint. The bytecode of a class is stored
+ * next to the catalog, under {@value #CLASSES_LOCATION}, so that it is never loaded by the class loader directly. Instead,
+ * {@link ProxyFactory} defines the class through {@link org.jboss.weld.serialization.spi.ProxyServices} exactly as if it was
+ * just generated.
+ * <p>
+ * The fingerprint is a hash of the Weld version, the bytecode of the proxied classes and the settings the generated class
+ * depends on, see {@link #getFingerprint(Iterable, String)}. A pregenerated class whose fingerprint does not match the one
+ * computed at runtime is stale and the class is generated again.
+ * <p>
+ * This service is only registered if {@link org.jboss.weld.config.ConfigurationKey#PROXY_CATALOG} is enabled.
+ *
+ * @see ProxyFactory#getProxyClass()
+ */
+public class ProxyCatalog implements Service {
+
+    public static final String CATALOG_NAME = "META-INF/weld-proxies.idx";
+
+    public static final String CLASSES_LOCATION = "META-INF/weld-proxies/";
+
+    public static final String HEADER = "weld-proxies:2";
+
+    /**
+     * The extension of the file holding the fingerprint of a proxy class dumped by {@link ProxyFactory}.
+     *
+     * @see org.jboss.weld.config.ConfigurationKey#PROXY_DUMP
+     */
+    public static final String FINGERPRINT_FILE_EXTENSION = ".fingerprint";
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final Map<String, PregeneratedClass> classes;
+
+    public ProxyCatalog(ResourceLoader resourceLoader) {
+        this.classes = new ConcurrentHashMap<>();
+        for (URL catalog : resourceLoader.getResources(CATALOG_NAME)) {
+            read(catalog);
+        }
+    }
+
+    private void read(URL catalog) {
+        String root = catalog.toString();
+        root = root.substring(0, root.length() - CATALOG_NAME.length());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(catalog.openStream(), StandardCharsets.UTF_8))) {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new IOException("Unsupported proxy catalog format");
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    int separator = line.indexOf(' ');
+                    if (separator < 0) {
+                        throw new IOException("Missing fingerprint: " + line);
+                    }
+                    String className = line.substring(0, separator);
+                    // The first catalog on the classpath wins
+                    classes.putIfAbsent(className, new PregeneratedClass(new URL(root + getClassFileLocation(className)),
+                            line.substring(separator + 1).trim()));
+                }
+            }
+        } catch (IOException e) {
+            BeanLogger.LOG.cannotReadProxyCatalog(catalog, e);
+        }
+    }
+
+    /**
+     *
+     * @param className the binary name of the proxy class
+     * @param fingerprint the fingerprint computed for the proxy class at runtime
+     * @return the pregenerated bytecode or <code>null</code> if the catalog does not contain the class or the pregenerated
+     *         class is stale
+     */
+    public byte[] getBytecode(String className, String fingerprint) {
+        PregeneratedClass pregenerated = classes.get(className);
+        if (pregenerated == null) {
+            return null;
+        }
+        if (!pregenerated.fingerprint.equals(fingerprint)) {
+            BeanLogger.LOG.stalePregeneratedProxyClass(className);
+            return null;
+        }
+        try (InputStream in = pregenerated.url.openStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            BeanLogger.LOG.cannotReadProxyCatalog(pregenerated.url, e);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param className the binary name of the proxy class
+     * @return <code>true</code> if the catalog contains the given class, <code>false</code> otherwise
+     */
+    public boolean contains(String className) {
+        return classes.containsKey(className);
+    }
+
+    /**
+     *
+     * @param className the binary name of the proxy class
+     * @return the location of the class file within a bean archive
+     */
+    public static String getClassFileLocation(String className) {
+        return CLASSES_LOCATION + className + CLASS_FILE_EXTENSION;
+    }
+
+    /**
+     * The fingerprint covers the Weld version, the given settings and the bytecode of the given classes, their superclasses
+     * and all the implemented interfaces. Classes loaded by the bootstrap class loader are only represented by their name.
+     *
+     * @param classes the classes the proxy class is generated from
+     * @param settings the settings the generated bytecode depends on
+     * @return the fingerprint of a proxy class
+     */
+    public static String getFingerprint(Iterable<Class<?>> classes, String settings) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(FINGERPRINT_ALGORITHM + " not supported", e);
+        }
+        update(digest, Formats.getSimpleVersion());
+        update(digest, settings);
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> clazz : classes) {
+            queue.add(clazz);
+        }
+        while (!queue.isEmpty()) {
+            Class<?> clazz = queue.poll();
+            if (!visited.add(clazz)) {
+                continue;
+            }
+            update(digest, clazz.getName());
+            ClassLoader classLoader = clazz.getClassLoader();
+            if (classLoader != null) {
+                String classFile = clazz.getName().replace('.', '/') + CLASS_FILE_EXTENSION;
+                try (InputStream in = classLoader.getResourceAsStream(classFile)) {
+                    if (in != null) {
+                        digest.update(in.readAllBytes());
+                    }
+                } catch (IOException e) {
+                    // The class is represented by its name only
+                    BeanLogger.LOG.catchingDebug(e);
+                }
+            }
+            if (clazz.getSuperclass() != null) {
+                queue.add(clazz.getSuperclass());
+            }
+            Collections.addAll(queue, clazz.getInterfaces());
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    @Override
+    public void cleanup() {
+        classes.clear();
+    }
+
+    private static final class PregeneratedClass {
+
+        private final URL url;
+
+        private final String fingerprint;
+
+        private PregeneratedClass(URL url, String fingerprint) {
+            this.url = url;
+            this.fingerprint = fingerprint;
+        }
+
+    }
+
+}
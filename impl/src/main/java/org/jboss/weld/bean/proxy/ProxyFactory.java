@@ -29,6 +29,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.ProtectionDomain;
@@ -55,6 +56,7 @@ import org.jboss.weld.annotated.enhanced.MethodSignature;
 import org.jboss.weld.annotated.enhanced.jlr.MethodSignatureImpl;
 import org.jboss.weld.bean.AbstractProducerBean;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.WeldException;
@@ -109,6 +111,7 @@ public class ProxyFactory<T> {
     static final String JAKARTA = "jakarta";
     static final String NO_PACKAGE = "the class package is null or empty";
     static final String SIGNED = "the class is signed";
+    private static final String CLASS_FILE_EXTENSION = ".class";
     private static final Set<ProxiedMethodFilter> METHOD_FILTERS;
 
     static {
@@ -133,6 +136,7 @@ public class ProxyFactory<T> {
     private final ProxyServices proxyServices;
     private final WeldConfiguration configuration;
     private final ProxyInstantiator proxyInstantiator;
+    private final ProxyCatalog proxyCatalog;
 
     /**
      * created a new proxy factory from a bean instance. The proxy name is
@@ -188,6 +192,7 @@ public class ProxyFactory<T> {
         }
 
         this.proxyInstantiator = Container.instance(contextId).services().get(ProxyInstantiator.class);
+        this.proxyCatalog = Container.instance(contextId).services().get(ProxyCatalog.class);
     }
 
     static String getProxyName(String contextId, Class<?> proxiedBeanType, Set<? extends Type> typeClosure, Bean<?> bean) {
@@ -411,9 +416,12 @@ public class ProxyFactory<T> {
             // First check to see if we already have this proxy class
             proxyClass = cast(proxyServices.loadClass(originalClass, proxyClassName));
         } catch (ClassNotFoundException e) {
-            // Create the proxy class for this instance
+            // Define the pregenerated class if available, otherwise create the proxy class for this instance
             try {
-                proxyClass = createProxyClass(originalClass, proxyClassName);
+                proxyClass = loadPregeneratedProxyClass(originalClass, proxyClassName);
+                if (proxyClass == null) {
+                    proxyClass = createProxyClass(originalClass, proxyClassName);
+                }
             } catch (Throwable e1) {
                 //attempt to load the class again, just in case another thread
                 //defined it between the check and the create method
@@ -497,18 +505,57 @@ public class ProxyFactory<T> {
             proxyClassType.addInterface(specialInterface.getName());
         }
 
-        // Dump proxy type bytecode if necessary
-        dumpToFile(proxyClassName, proxyClassType.toBytecode());
+        // Dump proxy type bytecode if necessary, together with the fingerprint used by the proxy catalog
+        if (configuration.getProxyDumpFilePath() != null) {
+            dumpToFile(proxyClassName + CLASS_FILE_EXTENSION, proxyClassType.toBytecode());
+            dumpToFile(proxyClassName + ProxyCatalog.FINGERPRINT_FILE_EXTENSION,
+                    getFingerprint(originalClass).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Class<T> proxyClass = cast(toClass(proxyClassType, originalClass, proxyServices, getProxyProtectionDomain()));
+        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        return proxyClass;
+    }
+
+    private Class<T> loadPregeneratedProxyClass(Class<?> originalClass, String proxyClassName) {
+        if (proxyCatalog == null || !proxyCatalog.contains(proxyClassName)) {
+            return null;
+        }
+        byte[] bytecode = proxyCatalog.getBytecode(proxyClassName, getFingerprint(originalClass));
+        if (bytecode == null) {
+            return null;
+        }
+        Class<T> proxyClass = cast(defineClass(originalClass, proxyClassName, bytecode, proxyServices,
+                getProxyProtectionDomain()));
+        BeanLogger.LOG.pregeneratedProxyClassLoaded(proxyClass);
+        return proxyClass;
+    }
+
+    private String getFingerprint(Class<?> originalClass) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        classes.add(originalClass);
+        classes.add(getBeanType());
+        classes.addAll(additionalInterfaces);
+        return ProxyCatalog.getFingerprint(classes, getFingerprintSettings());
+    }
 
-        ProtectionDomain domain = proxiedBeanType.getProtectionDomain();
+    /**
+     * Sub classes may override to add the settings the generated bytecode depends on. A pregenerated proxy class is only used
+     * if the settings did not change since it was generated.
+     *
+     * @return the settings the generated bytecode depends on
+     * @see ProxyCatalog#getFingerprint(Iterable, String)
+     */
+    protected String getFingerprintSettings() {
+        return getClass().getName() + ";" + configuration.getStringProperty(ConfigurationKey.PROXY_IGNORE_FINAL_METHODS);
+    }
 
+    private ProtectionDomain getProxyProtectionDomain() {
         if (proxiedBeanType.getPackage() == null || proxiedBeanType.getPackage().getName().isEmpty()
                 || proxiedBeanType.equals(Object.class)) {
-            domain = ProxyFactory.class.getProtectionDomain();
+            return ProxyFactory.class.getProtectionDomain();
         }
-        Class<T> proxyClass = cast(toClass(proxyClassType, originalClass, proxyServices, domain));
-        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
-        return proxyClass;
+        return proxiedBeanType.getProtectionDomain();
     }
 
     private ClassFile newClassFile(String name, int accessFlags, String superclass, String... interfaces) {
@@ -528,7 +575,7 @@ public class ProxyFactory<T> {
         if (proxyDumpFilePath == null) {
             return;
         }
-        File dumpFile = new File(proxyDumpFilePath, fileName + ".class");
+        File dumpFile = new File(proxyDumpFilePath, fileName);
         try {
             Files.write(dumpFile.toPath(), data, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
         } catch (IOException e) {
@@ -967,14 +1014,7 @@ public class ProxyFactory<T> {
      */
     protected Class<?> toClass(ClassFile ct, Class<?> originalClass, ProxyServices proxyServices, ProtectionDomain domain) {
         try {
-            byte[] bytecode = ct.toBytecode();
-            Class<?> result;
-            if (domain == null) {
-                result = proxyServices.defineClass(originalClass, ct.getName(), bytecode, 0, bytecode.length);
-            } else {
-                result = proxyServices.defineClass(originalClass, ct.getName(), bytecode, 0, bytecode.length, domain);
-            }
-            return result;
+            return defineClass(originalClass, ct.getName(), ct.toBytecode(), proxyServices, domain);
         } catch (RuntimeException e) {
             throw e;
         } catch (Exception e) {
@@ -982,6 +1022,14 @@ public class ProxyFactory<T> {
         }
     }
 
+    private static Class<?> defineClass(Class<?> originalClass, String className, byte[] bytecode, ProxyServices proxyServices,
+            ProtectionDomain domain) {
+        if (domain == null) {
+            return proxyServices.defineClass(originalClass, className, bytecode, 0, bytecode.length);
+        }
+        return proxyServices.defineClass(originalClass, className, bytecode, 0, bytecode.length, domain);
+    }
+
     /**
      * When creating a proxy class name we can sometimes determine it's package as well.
      */
@@ -181,30 +181,40 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved = new HashSet<SlimAnnotatedTypeContext<?>>();
 
         for (SlimAnnotatedTypeContext<?> annotatedTypeContext : getEnvironment().getAnnotatedTypes()) {
-            SlimAnnotatedType<?> annotatedType = annotatedTypeContext.getAnnotatedType();
             final ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(),
                     annotatedTypeContext);
+            processAnnotatedTypeResult(annotatedTypeContext, event, classesToBeAdded, classesToBeRemoved);
+        }
+        getEnvironment().removeAnnotatedTypes(classesToBeRemoved);
+        getEnvironment().addAnnotatedTypes(classesToBeAdded);
+    }
 
-            // process the result
-            if (event != null) {
-                if (event.isVeto()) {
-                    getEnvironment().vetoJavaClass(annotatedType.getJavaClass());
-                    classesToBeRemoved.add(annotatedTypeContext);
-                } else {
-                    boolean dirty = event.isDirty();
-                    if (dirty) {
-                        classesToBeRemoved.add(annotatedTypeContext); // remove the original class
-                        classesToBeAdded.add(SlimAnnotatedTypeContext.of(event.getResultingAnnotatedType(),
-                                annotatedTypeContext.getExtension()));
-                    }
-                    processPriority(event.getResultingAnnotatedType());
-                }
+    /**
+     *
+     * @param annotatedTypeContext
+     * @param event the event fired for the given type or <code>null</code> if no event was fired
+     * @param classesToBeAdded
+     * @param classesToBeRemoved
+     */
+    protected void processAnnotatedTypeResult(SlimAnnotatedTypeContext<?> annotatedTypeContext,
+            ProcessAnnotatedTypeImpl<?> event, Set<SlimAnnotatedTypeContext<?>> classesToBeAdded,
+            Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved) {
+        if (event != null) {
+            if (event.isVeto()) {
+                getEnvironment().vetoJavaClass(annotatedTypeContext.getAnnotatedType().getJavaClass());
+                classesToBeRemoved.add(annotatedTypeContext);
             } else {
-                processPriority(annotatedType);
+                boolean dirty = event.isDirty();
+                if (dirty) {
+                    classesToBeRemoved.add(annotatedTypeContext); // remove the original class
+                    classesToBeAdded.add(SlimAnnotatedTypeContext.of(event.getResultingAnnotatedType(),
+                            annotatedTypeContext.getExtension()));
+                }
+                processPriority(event.getResultingAnnotatedType());
             }
+        } else {
+            processPriority(annotatedTypeContext.getAnnotatedType());
         }
-        getEnvironment().removeAnnotatedTypes(classesToBeRemoved);
-        getEnvironment().addAnnotatedTypes(classesToBeAdded);
     }
 
     public void registerAnnotatedTypes() {
@@ -0,0 +1,265 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Collects the time spent in the individual parts of the bootstrap - the {@link WeldStartup} phases, the notifications of
+ * portable extension observer methods, the discovery of bean archives and the {@link Validator} steps. Each recorded operation
+ * is identified by a category and a name. The durations of the operations with the same identity are aggregated.
+ * <p>
+ * The collected data can be exported as JSON. Moreover, if JFR is available, an event is committed for each recorded operation.
+ * <p>
+ * Weld registers a profiler if {@link org.jboss.weld.config.ConfigurationKey#BOOTSTRAP_PROFILER} is enabled. An integrator
+ * may register its own instance before the container is started, e.g. to profile the discovery of bean archives which
+ * is performed before the configuration is available.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see #of(ServiceRegistry)
+ */
+public class BootstrapProfiler implements Service {
+
+    public static final String PHASE = "phase";
+
+    public static final String EXTENSION = "extension";
+
+    public static final String ARCHIVE = "archive";
+
+    public static final String VALIDATION = "validation";
+
+    private static final BootstrapProfiler DISABLED = new BootstrapProfiler(false);
+
+    private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+    /**
+     *
+     * @param services
+     * @return the profiler registered in the given registry or a profiler which does not record anything
+     */
+    public static BootstrapProfiler of(ServiceRegistry services) {
+        BootstrapProfiler profiler = services.get(BootstrapProfiler.class);
+        return profiler != null ? profiler : DISABLED;
+    }
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Entry>> categories;
+
+    public BootstrapProfiler() {
+        this(true);
+    }
+
+    private BootstrapProfiler(boolean enabled) {
+        this.enabled = enabled;
+        this.categories = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Records an operation which started at the given time and ends now. The returned value may be used as the start of the
+     * following operation:
+     *
+     * <pre>
+     * long start = System.nanoTime();
+     * doFirst();
+     * start = profiler.record(BootstrapProfiler.VALIDATION, "first", start);
+     * doSecond();
+     * profiler.record(BootstrapProfiler.VALIDATION, "second", start);
+     * </pre>
+     *
+     * @param category
+     * @param name
+     * @param startNanos the value of {@link System#nanoTime()} when the operation started
+     * @return the value of {@link System#nanoTime()} when the operation ended
+     */
+    public long record(String category, String name, long startNanos) {
+        if (!enabled) {
+            return startNanos;
+        }
+        long end = System.nanoTime();
+        long duration = end - startNanos;
+        categories.computeIfAbsent(category, c -> new ConcurrentHashMap<>()).computeIfAbsent(name, Entry::new).add(duration);
+        if (JFR_AVAILABLE) {
+            BootstrapProfilerEvent.commit(category, name, duration);
+        }
+        return end;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if this profiler records operations, <code>false</code> otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The JSON object contains an array for each category. The entries of an array are sorted by the total time, the most
+     * expensive operations go first.
+     *
+     * @return the collected data as JSON
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append('{');
+        boolean firstCategory = true;
+        for (Map.Entry<String, ConcurrentMap<String, Entry>> category : categories.entrySet()) {
+            if (!firstCategory) {
+                json.append(',');
+            }
+            firstCategory = false;
+            appendString(json, category.getKey());
+            json.append(":[");
+            List<Entry> entries = new ArrayList<>(category.getValue().values());
+            entries.sort(Comparator.comparingLong(Entry::getTotal).reversed());
+            for (int i = 0; i < entries.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                entries.get(i).appendTo(json);
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Writes the collected data as JSON to the given file. If the path is empty, the data is logged instead.
+     *
+     * @param output
+     * @see #toJson()
+     */
+    public void export(String output) {
+        if (!enabled) {
+            return;
+        }
+        if (output.isEmpty()) {
+            BootstrapLogger.LOG.bootstrapProfile(toJson());
+            return;
+        }
+        try {
+            Path path = Paths.get(output);
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(path, toJson().getBytes(StandardCharsets.UTF_8));
+            BootstrapLogger.LOG.bootstrapProfileExported(path.toAbsolutePath());
+        } catch (IOException e) {
+            BootstrapLogger.LOG.unableToExportBootstrapProfile(output, e);
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        categories.clear();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, BootstrapProfiler.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static class Entry {
+
+        private final String name;
+
+        private long count;
+
+        private long total;
+
+        private long max;
+
+        Entry(String name) {
+            this.name = name;
+        }
+
+        synchronized void add(long duration) {
+            count++;
+            total += duration;
+            if (duration > max) {
+                max = duration;
+            }
+        }
+
+        synchronized long getTotal() {
+            return total;
+        }
+
+        synchronized void appendTo(StringBuilder json) {
+            json.append("{\"name\":");
+            appendString(json, name);
+            json.append(",\"count\":").append(count);
+            json.append(",\"totalNanos\":").append(total);
+            json.append(",\"maxNanos\":").append(max);
+            json.append('}');
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event committed by {@link BootstrapProfiler} for each recorded operation. This class is only loaded if JFR is
+ * available.
+ */
+@Name("org.jboss.weld.BootstrapOperation")
+@Label("Bootstrap Operation")
+@Description("An operation performed during the Weld bootstrap")
+@Category({ "Weld", "Bootstrap" })
+@StackTrace(false)
+class BootstrapProfilerEvent extends Event {
+
+    @Label("Category")
+    String category;
+
+    @Label("Name")
+    String name;
+
+    // duration is one of the implicit event fields
+    @Label("Elapsed Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    static void commit(String category, String name, long duration) {
+        BootstrapProfilerEvent event = new BootstrapProfilerEvent();
+        if (event.shouldCommit()) {
+            event.category = category;
+            event.name = name;
+            event.elapsed = duration;
+            event.commit();
+        }
+    }
+
+}
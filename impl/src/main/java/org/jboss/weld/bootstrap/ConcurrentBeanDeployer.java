@@ -16,7 +16,10 @@
  */
 package org.jboss.weld.bootstrap;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.enterprise.inject.spi.Bean;
 
@@ -25,6 +28,9 @@ import org.jboss.weld.annotated.slim.SlimAnnotatedTypeContext;
 import org.jboss.weld.bean.AbstractClassBean;
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeImpl;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.executor.IterativeWorkerTaskFactory;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.manager.api.ExecutorServices;
@@ -41,9 +47,13 @@ public class ConcurrentBeanDeployer extends BeanDeployer {
 
     private final ExecutorServices executor;
 
+    private final boolean concurrentProcessAnnotatedTypeDelivery;
+
     public ConcurrentBeanDeployer(BeanManagerImpl manager, ServiceRegistry services) {
         super(manager, services, BeanDeployerEnvironmentFactory.newConcurrentEnvironment(manager));
         this.executor = services.get(ExecutorServices.class);
+        this.concurrentProcessAnnotatedTypeDelivery = services.get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.CONCURRENT_PROCESS_ANNOTATED_TYPE_DELIVERY);
     }
 
     @Override
@@ -58,6 +68,44 @@ public class ConcurrentBeanDeployer extends BeanDeployer {
         return this;
     }
 
+    @Override
+    public void processAnnotatedTypes() {
+        if (!concurrentProcessAnnotatedTypeDelivery || !containerLifecycleEvents.isProcessAnnotatedTypeObserved()) {
+            super.processAnnotatedTypes();
+            return;
+        }
+        final List<SlimAnnotatedTypeContext<?>> annotatedTypeContexts = new ArrayList<SlimAnnotatedTypeContext<?>>(
+                getEnvironment().getAnnotatedTypes());
+        final ProcessAnnotatedTypeImpl<?>[] events = new ProcessAnnotatedTypeImpl<?>[annotatedTypeContexts.size()];
+        final List<Integer> threadSafe = new ArrayList<Integer>();
+
+        // Types observed by an extension which is not thread-safe are processed serially
+        for (int i = 0; i < annotatedTypeContexts.size(); i++) {
+            SlimAnnotatedTypeContext<?> annotatedTypeContext = annotatedTypeContexts.get(i);
+            if (containerLifecycleEvents.isProcessAnnotatedTypeThreadSafe(getManager(), annotatedTypeContext)) {
+                threadSafe.add(i);
+            } else {
+                events[i] = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
+            }
+        }
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Integer>(threadSafe) {
+            @Override
+            protected void doWork(Integer index) {
+                events[index] = containerLifecycleEvents.fireProcessAnnotatedType(getManager(),
+                        annotatedTypeContexts.get(index));
+            }
+        });
+
+        // Process the results in the original order
+        Set<SlimAnnotatedTypeContext<?>> classesToBeAdded = new HashSet<SlimAnnotatedTypeContext<?>>();
+        Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved = new HashSet<SlimAnnotatedTypeContext<?>>();
+        for (int i = 0; i < annotatedTypeContexts.size(); i++) {
+            processAnnotatedTypeResult(annotatedTypeContexts.get(i), events[i], classesToBeAdded, classesToBeRemoved);
+        }
+        getEnvironment().removeAnnotatedTypes(classesToBeRemoved);
+        getEnvironment().addAnnotatedTypes(classesToBeAdded);
+    }
+
     @Override
     public void createClassBeans() {
         final SetMultimap<Class<?>, SlimAnnotatedType<?>> otherWeldClasses = SetMultimap.newConcurrentSetMultimap();
@@ -0,0 +1,161 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.inject.Provider;
+
+import org.jboss.weld.bean.builtin.AbstractFacade;
+import org.jboss.weld.event.EventObserverCache;
+import org.jboss.weld.event.ObserverMethodImpl;
+import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.executor.IterativeWorkerTaskFactory;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.resolution.Resolvable;
+import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.resolution.TypeSafeBeanResolver;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Resolves all the known injection points once the caches of the resolvers were flushed at the end of the bootstrap, so that
+ * the first requests do not pay for the typesafe resolution. For each injection point:
+ * <ul>
+ * <li>the bean is resolved the same way as {@link BeanManagerImpl#getInjectableReference(InjectionPoint,
+ * jakarta.enterprise.context.spi.CreationalContext)} does, and the client proxy of a normal scoped bean is created,</li>
+ * <li>if it is an {@link Instance} injection point, the beans for the required type are resolved,</li>
+ * <li>if it is an {@link Event} injection point, the observer methods for the event type are resolved.</li>
+ * </ul>
+ * Failures are ignored - the injection points were already validated and the same resolution will be performed again when
+ * needed.
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#RESOLUTION_WARMUP
+ */
+class ResolutionWarmup {
+
+    private final ExecutorServices executor;
+
+    ResolutionWarmup(ExecutorServices executor) {
+        this.executor = executor;
+    }
+
+    void warmUp(Collection<BeanDeployment> beanDeployments) {
+        for (BeanDeployment beanDeployment : beanDeployments) {
+            BeanManagerImpl beanManager = beanDeployment.getBeanManager();
+            List<InjectionPoint> injectionPoints = getInjectionPoints(beanManager);
+            if (executor != null) {
+                executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<InjectionPoint>(injectionPoints) {
+                    protected void doWork(InjectionPoint injectionPoint) {
+                        warmUp(injectionPoint, beanManager);
+                    }
+                });
+            } else {
+                for (InjectionPoint injectionPoint : injectionPoints) {
+                    warmUp(injectionPoint, beanManager);
+                }
+            }
+        }
+    }
+
+    private List<InjectionPoint> getInjectionPoints(BeanManagerImpl beanManager) {
+        List<InjectionPoint> injectionPoints = new ArrayList<>();
+        addInjectionPoints(beanManager.getBeans(), injectionPoints);
+        addInjectionPoints(beanManager.getDecorators(), injectionPoints);
+        addInjectionPoints(beanManager.getInterceptors(), injectionPoints);
+        for (ObserverMethod<?> observerMethod : beanManager.getObservers()) {
+            if (observerMethod instanceof ObserverMethodImpl) {
+                injectionPoints.addAll(((ObserverMethodImpl<?, ?>) observerMethod).getInjectionPoints());
+            }
+        }
+        return injectionPoints;
+    }
+
+    private void addInjectionPoints(Collection<? extends Bean<?>> beans, List<InjectionPoint> injectionPoints) {
+        for (Bean<?> bean : beans) {
+            for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+                if (!injectionPoint.isDelegate()) {
+                    injectionPoints.add(injectionPoint);
+                }
+            }
+        }
+    }
+
+    private void warmUp(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
+        try {
+            Bean<?> bean = beanManager.resolve(beanManager.getBeanResolver()
+                    .resolve(new ResolvableBuilder(injectionPoint, beanManager).create(), true));
+            if (bean != null && beanManager.isNormalScope(bean.getScope())) {
+                beanManager.getClientProxyProvider().getClientProxy(bean, injectionPoint.getType());
+            }
+            Class<?> rawType = Reflections.getRawType(injectionPoint.getType());
+            if (Instance.class.isAssignableFrom(rawType) || Provider.class.equals(rawType)) {
+                warmUpInstance(injectionPoint, beanManager);
+            } else if (Event.class.isAssignableFrom(rawType)) {
+                warmUpEvent(injectionPoint, beanManager);
+            }
+        } catch (RuntimeException e) {
+            BootstrapLogger.LOG.catchingDebug(e);
+        }
+    }
+
+    /**
+     * @see org.jboss.weld.bean.builtin.InstanceImpl
+     */
+    private void warmUpInstance(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
+        Type type = AbstractFacade.getFacadeType(injectionPoint);
+        Set<Annotation> qualifiers = injectionPoint.getQualifiers();
+        if (qualifiers.isEmpty() && Object.class.equals(type)) {
+            return;
+        }
+        Resolvable resolvable = new ResolvableBuilder(type, beanManager).addQualifiers(qualifiers)
+                .setDeclaringBean(injectionPoint.getBean()).create();
+        TypeSafeBeanResolver beanResolver = beanManager.getBeanResolver();
+        beanResolver.resolve(beanResolver.resolve(resolvable, Reflections.isCacheable(qualifiers)));
+    }
+
+    /**
+     * @see org.jboss.weld.event.EventImpl
+     */
+    private void warmUpEvent(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
+        Type type = AbstractFacade.getFacadeType(injectionPoint);
+        Class<?> rawType = Reflections.getRawType(type);
+        if (rawType == null || rawType.isInterface() || Reflections.isAbstract(rawType)) {
+            // The runtime type of the event object is not known
+            return;
+        }
+        ObserverNotifier notifier = beanManager.getGlobalStrictObserverNotifier();
+        EventObserverCache cache = notifier.getEventObserverCache();
+        if (cache != null) {
+            cache.preload(type, injectionPoint.getQualifiers(), rawType);
+        } else {
+            notifier.resolveObserverMethods(type, injectionPoint.getQualifiers());
+        }
+    }
+
+}
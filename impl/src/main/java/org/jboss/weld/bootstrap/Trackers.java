@@ -16,6 +16,8 @@
  */
 package org.jboss.weld.bootstrap;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -43,6 +45,20 @@ final class Trackers {
         return BootstrapLogger.TRACKER_LOG.isDebugEnabled() ? new LoggingTracker() : NOOP_INSTANCE;
     }
 
+    /**
+     * Returns a tracker which records the operations in the given profiler and delegates to the given tracker. The given
+     * operations are considered to be already started at the given time.
+     *
+     * @param delegate
+     * @param profiler
+     * @param startNanos
+     * @param startedOperations
+     * @return the profiling tracker
+     */
+    static Tracker profiling(Tracker delegate, BootstrapProfiler profiler, long startNanos, String... startedOperations) {
+        return new ProfilingTracker(delegate, profiler, startNanos, startedOperations);
+    }
+
     private static class NoopTracker implements Tracker {
 
         @Override
@@ -65,6 +81,60 @@ final class Trackers {
 
     }
 
+    private static class ProfilingTracker implements Tracker {
+
+        private final Tracker delegate;
+
+        private final BootstrapProfiler profiler;
+
+        private final Deque<String> names;
+
+        private final Deque<Long> starts;
+
+        ProfilingTracker(Tracker delegate, BootstrapProfiler profiler, long startNanos, String... startedOperations) {
+            this.delegate = delegate;
+            this.profiler = profiler;
+            this.names = new ArrayDeque<>();
+            this.starts = new ArrayDeque<>();
+            for (String operation : startedOperations) {
+                push(operation, startNanos);
+            }
+        }
+
+        @Override
+        public Tracker start(String operation) {
+            push(operation, System.nanoTime());
+            delegate.start(operation);
+            return this;
+        }
+
+        @Override
+        public Tracker end() {
+            profiler.record(BootstrapProfiler.PHASE, names.pop(), starts.pop());
+            delegate.end();
+            return this;
+        }
+
+        @Override
+        public void split(String info) {
+            delegate.split(info);
+        }
+
+        @Override
+        public void close() {
+            while (!names.isEmpty()) {
+                profiler.record(BootstrapProfiler.PHASE, names.pop(), starts.pop());
+            }
+            delegate.close();
+        }
+
+        private void push(String operation, long start) {
+            names.push(names.isEmpty() ? operation : names.peek() + " > " + operation);
+            starts.push(start);
+        }
+
+    }
+
     private static class LoggingTracker implements Tracker {
 
         private final List<Operation> operations;
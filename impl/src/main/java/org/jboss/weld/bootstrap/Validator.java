@@ -528,18 +528,29 @@ public class Validator implements Service {
     }
 
     public void validateDeployment(BeanManagerImpl manager, BeanDeployment deployment) {
+        final BootstrapProfiler profiler = BootstrapProfiler.of(manager.getServices());
+        long start = System.nanoTime();
         validateDecorators(manager.getDecorators(), manager);
+        start = profiler.record(BootstrapProfiler.VALIDATION, "decorators", start);
         validateInterceptors(manager.getInterceptors(), manager);
+        start = profiler.record(BootstrapProfiler.VALIDATION, "interceptors", start);
         validateBeans(manager.getBeans(), manager);
+        start = profiler.record(BootstrapProfiler.VALIDATION, "beans", start);
         validateEnabledDecoratorClasses(manager, deployment);
         validateEnabledInterceptorClasses(manager, deployment);
         validateEnabledAlternativeStereotypes(manager, deployment);
         validateEnabledAlternativeClasses(manager, deployment);
+        start = profiler.record(BootstrapProfiler.VALIDATION, "enablement", start);
         validateSpecialization(manager);
+        start = profiler.record(BootstrapProfiler.VALIDATION, "specialization", start);
         validateDisposalMethods(deployment.getBeanDeployer().getEnvironment());
+        start = profiler.record(BootstrapProfiler.VALIDATION, "disposalMethods", start);
         validateObserverMethods(deployment.getBeanDeployer().getEnvironment().getObservers(), manager);
+        start = profiler.record(BootstrapProfiler.VALIDATION, "observerMethods", start);
         validateBeanNames(manager);
+        start = profiler.record(BootstrapProfiler.VALIDATION, "beanNames", start);
         validateInvokers(manager);
+        profiler.record(BootstrapProfiler.VALIDATION, "invokers", start);
     }
 
     public void validateSpecialization(BeanManagerImpl manager) {
@@ -43,6 +43,7 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.Decorator;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.Interceptor;
+import jakarta.inject.Singleton;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.ContainerState;
@@ -56,6 +57,7 @@ import org.jboss.weld.bean.builtin.BeanManagerBean;
 import org.jboss.weld.bean.builtin.BeanManagerImplBean;
 import org.jboss.weld.bean.builtin.ContextBean;
 import org.jboss.weld.bean.proxy.ProtectionDomainCache;
+import org.jboss.weld.bean.proxy.ProxyCatalog;
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
 import org.jboss.weld.bean.proxy.util.WeldDefaultProxyServices;
 import org.jboss.weld.bootstrap.api.Environment;
@@ -88,6 +90,7 @@ import org.jboss.weld.context.bound.BoundLiteral;
 import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.beanstore.ContextBeanIdentifierIndex;
 import org.jboss.weld.contexts.bound.BoundConversationContextImpl;
 import org.jboss.weld.contexts.bound.BoundRequestContextImpl;
 import org.jboss.weld.contexts.bound.BoundSessionContextImpl;
@@ -159,7 +162,7 @@ public class WeldStartup {
     private DeploymentVisitor deploymentVisitor;
     private final ServiceRegistry initialServices = new SimpleServiceRegistry();
     private String contextId;
-    private final Tracker tracker = Trackers.create();
+    private Tracker tracker = Trackers.create();
 
     public WeldStartup() {
     }
@@ -168,6 +171,7 @@ public class WeldStartup {
         if (deployment == null) {
             throw BootstrapLogger.LOG.deploymentRequired();
         }
+        final long start = System.nanoTime();
         tracker.start(Tracker.OP_BOOTSTRAP);
         tracker.start(Tracker.OP_START_CONTAINER);
         checkApiVersion();
@@ -185,6 +189,16 @@ public class WeldStartup {
         WeldConfiguration configuration = new WeldConfiguration(registry, deployment);
         registry.add(WeldConfiguration.class, configuration);
 
+        // An integrator may register the profiler in advance, e.g. to profile the bean archive discovery
+        BootstrapProfiler profiler = registry.get(BootstrapProfiler.class);
+        if (profiler == null && configuration.getBooleanProperty(ConfigurationKey.BOOTSTRAP_PROFILER)) {
+            profiler = new BootstrapProfiler();
+            registry.add(BootstrapProfiler.class, profiler);
+        }
+        if (profiler != null) {
+            tracker = Trackers.profiling(tracker, profiler, start, Tracker.OP_BOOTSTRAP, Tracker.OP_START_CONTAINER);
+        }
+
         String finalContextId = BeanDeployments.getFinalId(contextId,
                 registry.get(WeldConfiguration.class).getStringProperty(ROLLING_UPGRADES_ID_DELIMITER));
         this.contextId = finalContextId;
@@ -314,6 +328,9 @@ public class WeldStartup {
             beanIdentifierIndex = new BeanIdentifierIndex();
             services.add(BeanIdentifierIndex.class, beanIdentifierIndex);
         }
+        if (configuration.getBooleanProperty(ConfigurationKey.INDEXED_BEAN_STORE)) {
+            services.add(ContextBeanIdentifierIndex.class, new ContextBeanIdentifierIndex());
+        }
 
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
@@ -342,6 +359,9 @@ public class WeldStartup {
         services.add(ProtectionDomainCache.class, new ProtectionDomainCache());
 
         services.add(ProxyInstantiator.class, ProxyInstantiator.Factory.create(configuration));
+        if (configuration.getBooleanProperty(ConfigurationKey.PROXY_CATALOG)) {
+            services.add(ProxyCatalog.class, new ProxyCatalog(services.get(ResourceLoader.class)));
+        }
 
         services.add(ObserverNotifierFactory.class, DefaultObserverNotifierFactory.INSTANCE);
 
@@ -534,6 +554,11 @@ public class WeldStartup {
             // Build a special index of bean identifiers
             index.build(getBeansForBeanIdentifierIndex());
         }
+        final ContextBeanIdentifierIndex contextIndex = deploymentManager.getServices().get(ContextBeanIdentifierIndex.class);
+        if (contextIndex != null) {
+            // Assign a position to beans whose instances are held by indexed bean stores
+            contextIndex.build(getBeansForContextBeanIdentifierIndex());
+        }
 
         // feed BeanDeploymentModule registry
         final BeanDeploymentModules modules = deploymentManager.getServices().get(BeanDeploymentModules.class);
@@ -596,6 +621,12 @@ public class WeldStartup {
             deploymentManager.getServices().get(ClassTransformer.class).cleanupAfterBoot();
         }
 
+        final ServiceRegistry services = deploymentManager.getServices();
+        if (services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.RESOLUTION_WARMUP)) {
+            // Populate the resolution caches flushed above
+            new ResolutionWarmup(services.get(ExecutorServices.class)).warmUp(getBeanDeployments());
+        }
+
         // Initialize @Eager beans before the Startup event
         initializeEagerBeans();
 
@@ -617,6 +648,8 @@ public class WeldStartup {
             }
         }
         tracker.close();
+        BootstrapProfiler.of(services)
+                .export(services.get(WeldConfiguration.class).getStringProperty(ConfigurationKey.BOOTSTRAP_PROFILER_OUTPUT));
     }
 
     private void flushCaches() {
@@ -730,6 +763,25 @@ public class WeldStartup {
         return beans;
     }
 
+    /**
+     * Only request, application and singleton scoped beans (except for built-in beans) are taken into account.
+     *
+     * @return the set of beans the context index should be built from
+     */
+    private Set<Bean<?>> getBeansForContextBeanIdentifierIndex() {
+        Set<Bean<?>> beans = new HashSet<Bean<?>>();
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            for (Bean<?> bean : beanDeployment.getBeanManager().getBeans()) {
+                if (!(bean instanceof AbstractBuiltInBean<?>)
+                        && (bean.getScope().equals(RequestScoped.class) || bean.getScope().equals(ApplicationScoped.class)
+                                || bean.getScope().equals(Singleton.class))) {
+                    beans.add(bean);
+                }
+            }
+        }
+        return beans;
+    }
+
     private void setExtensions(Iterable<Metadata<Extension>> extensions) {
         this.extensions = new ArrayList<Metadata<? extends Extension>>();
         Iterables.addAll(this.extensions, extensions);
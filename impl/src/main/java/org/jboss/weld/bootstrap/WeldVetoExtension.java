@@ -23,6 +23,7 @@ import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
 
+import org.jboss.weld.bootstrap.events.ThreadSafeExtension;
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.util.AnnotatedTypes;
 
@@ -31,6 +32,7 @@ import org.jboss.weld.util.AnnotatedTypes;
  * @author Martin Kouba
  * @see ConfigurationKey#VETO_TYPES_WITHOUT_BEAN_DEFINING_ANNOTATION
  */
+@ThreadSafeExtension
 class WeldVetoExtension implements Extension {
 
     private Pattern vetoAnnotatedTypePattern;
@@ -180,6 +180,37 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
         return event;
     }
 
+    /**
+     * Indicates whether the {@link ProcessAnnotatedType} event for the given type may be delivered concurrently with the
+     * events for other types, i.e. whether all the observer methods to notify are declared by extensions annotated with
+     * {@link ThreadSafeExtension}.
+     *
+     * @param beanManager
+     * @param annotatedTypeContext
+     * @return <code>true</code> if the event may be delivered concurrently, <code>false</code> otherwise
+     */
+    public boolean isProcessAnnotatedTypeThreadSafe(BeanManagerImpl beanManager,
+            SlimAnnotatedTypeContext<?> annotatedTypeContext) {
+        if (!isProcessAnnotatedTypeObserved()) {
+            return true;
+        }
+        Collection<? extends ObserverMethod<?>> observers = annotatedTypeContext.getResolvedProcessAnnotatedTypeObservers();
+        if (observers == null) {
+            final SlimAnnotatedType<?> annotatedType = annotatedTypeContext.getAnnotatedType();
+            final Resolvable resolvable = annotatedTypeContext.getExtension() == null
+                    ? ProcessAnnotatedTypeEventResolvable.forProcessAnnotatedType(annotatedType, discovery)
+                    : ProcessAnnotatedTypeEventResolvable.forProcessSyntheticAnnotatedType(annotatedType, discovery);
+            observers = beanManager.getGlobalLenientObserverNotifier().resolveObserverMethods(resolvable).getAllObservers();
+        }
+        for (ObserverMethod<?> observer : observers) {
+            if (!(observer instanceof ExtensionObserverMethodImpl)
+                    || !((ExtensionObserverMethodImpl<?, ?>) observer).isThreadSafe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Fires a {@link ProcessAnnotatedType} or {@link ProcessSyntheticAnnotatedType} using the default event mechanism.
      */
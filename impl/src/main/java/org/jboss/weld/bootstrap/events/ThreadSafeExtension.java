@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.events;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the observer methods of a portable extension may be notified of
+ * {@link jakarta.enterprise.inject.spi.ProcessAnnotatedType} events concurrently, i.e. the extension does not rely on the order
+ * in which the annotated types are processed and it guards its own state.
+ * <p>
+ * If {@link org.jboss.weld.config.ConfigurationKey#CONCURRENT_PROCESS_ANNOTATED_TYPE_DELIVERY} is enabled, the
+ * {@link jakarta.enterprise.inject.spi.ProcessAnnotatedType} events for the types observed by thread-safe extensions only are
+ * delivered in parallel. The observer methods are still notified in the usual order for a single type. Any type observed by an
+ * extension which is not annotated is processed serially.
+ *
+ * @see ContainerLifecycleEvents#isProcessAnnotatedTypeThreadSafe(org.jboss.weld.manager.BeanManagerImpl,
+ *      org.jboss.weld.annotated.slim.SlimAnnotatedTypeContext)
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ThreadSafeExtension {
+
+}
@@ -46,6 +46,14 @@ public enum ConfigurationKey {
     @Description("Indicates whether the concurrent deployment is enabled.")
     CONCURRENT_DEPLOYMENT("org.jboss.weld.bootstrap.concurrentDeployment", true),
 
+    /**
+     * If set to <code>true</code> and the concurrent deployment is enabled, the
+     * {@link jakarta.enterprise.inject.spi.ProcessAnnotatedType} events for the types which are only observed by extensions
+     * annotated with {@link org.jboss.weld.bootstrap.events.ThreadSafeExtension} are delivered in parallel.
+     */
+    @Description("If set to <code>true</code> and the concurrent deployment is enabled, the <code>ProcessAnnotatedType</code> events for the types which are only observed by extensions annotated with <code>@ThreadSafeExtension</code> are delivered in parallel.")
+    CONCURRENT_PROCESS_ANNOTATED_TYPE_DELIVERY("org.jboss.weld.bootstrap.concurrentProcessAnnotatedTypeDelivery", false),
+
     /**
      * The number of threads used by ContainerLifecycleEventPreloader. The ContainerLifecycleEventPreloader allows observer
      * methods for container lifecycle
@@ -85,11 +93,17 @@ public enum ConfigurationKey {
     EXECUTOR_THREAD_POOL_DEBUG("org.jboss.weld.executor.threadPoolDebug", false),
 
     /**
-     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON.
+     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON, VIRTUAL.
      */
-    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li>")
+    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li><li><code>VIRTUAL</code> - Each task is executed by a new virtual thread. Requires Java 21 or newer.</li>")
     EXECUTOR_THREAD_POOL_TYPE("org.jboss.weld.executor.threadPoolType", ""),
 
+    /**
+     * The maximum number of tasks executed concurrently by the VIRTUAL thread pool. A non-positive value means no limit.
+     */
+    @Description("The maximum number of tasks executed concurrently by the <code>VIRTUAL</code> thread pool type. Tasks exceeding the limit wait for a permit in their virtual thread. A non-positive value means no limit.")
+    EXECUTOR_VIRTUAL_THREAD_LIMIT("org.jboss.weld.executor.virtualThreadLimit", 0),
+
     /**
      * Keep-alive time in seconds. Passed to the constructor of the ThreadPoolExecutor class, maximum time that excess idle
      * threads will wait for new tasks
@@ -103,7 +117,8 @@ public enum ConfigurationKey {
      * resolver for beans,
      * decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which
      * maximum size is bounded by a default
-     * value (common to all of them).
+     * value (common to all of them). The same bound applies to the name-based resolver. Once
+     * the bound is exceeded, the least recently used entries are evicted.
      *
      * @see <a href="https://issues.jboss.org/browse/WELD-1323">WELD-1323</a>
      */
@@ -116,6 +131,21 @@ public enum ConfigurationKey {
     @Description("For debugging purposes, it’s possible to dump the generated bytecode of client proxies and enhanced subclasses to the filesystem. The value represents the file path where the files should be stored.")
     PROXY_DUMP("org.jboss.weld.proxy.dump", ""),
 
+    /**
+     * If set to <code>true</code>, Weld looks up a pregenerated client proxy or subclass in the proxy catalogs available on the
+     * classpath (see {@link org.jboss.weld.bean.proxy.ProxyCatalog}) before it generates the class at runtime.
+     */
+    @Description("If set to <code>true</code>, Weld looks up a pregenerated client proxy or subclass in the proxy catalogs available on the classpath before it generates the class at runtime.")
+    PROXY_CATALOG("org.jboss.weld.proxy.catalog", false),
+
+    /**
+     * If set to <code>true</code>, the enhanced subclasses of intercepted and decorated beans and the proxies of decorated
+     * built-in beans are not generated during bootstrap but when the first instance is created. Proxyability is still validated
+     * during bootstrap.
+     */
+    @Description("If set to <code>true</code>, the enhanced subclasses of intercepted and decorated beans and the proxies of decorated built-in beans are generated when the first instance is created instead of during bootstrap.")
+    DEFERRED_PROXY_GENERATION("org.jboss.weld.proxy.deferredGeneration", false),
+
     /**
      * Weld supports a non-standard workaround to be able to create client proxies for Java types that cannot be proxied by the
      * container, using non-portable JVM APIs.
@@ -135,6 +165,30 @@ public enum ConfigurationKey {
     @Description("XML descriptor validation is enabled by default.")
     DISABLE_XML_VALIDATION("org.jboss.weld.xml.disableValidating", false),
 
+    /**
+     * If set to <code>true</code>, all the known injection points are resolved once again at the end of the bootstrap, so that
+     * the resolution caches are populated before the first request. The resolution is performed in parallel if
+     * {@link org.jboss.weld.manager.api.ExecutorServices} are available.
+     */
+    @Description("If set to <code>true</code>, all the known injection points, including the required types of <code>Instance</code> and the event types of <code>Event</code> injection points, are resolved at the end of the bootstrap so that the resolution caches are populated before the first request.")
+    RESOLUTION_WARMUP("org.jboss.weld.bootstrap.resolutionWarmup", false),
+
+    /**
+     * If set to <code>true</code>, the time spent in the bootstrap phases, in the notifications of portable extension observer
+     * methods, in the discovery of bean archives and in the validation steps is collected by
+     * {@link org.jboss.weld.bootstrap.BootstrapProfiler} and exported at the end of the bootstrap.
+     */
+    @Description("If set to <code>true</code>, the time spent in the bootstrap phases, in the notifications of portable extension observer methods, in the discovery of bean archives and in the validation steps is collected and exported as JSON at the end of the bootstrap. A JFR event is also committed for each recorded operation if JFR is available.")
+    BOOTSTRAP_PROFILER("org.jboss.weld.bootstrap.profiler", false),
+
+    /**
+     * The file the bootstrap profile is written to. If not set, the profile is logged.
+     *
+     * @see #BOOTSTRAP_PROFILER
+     */
+    @Description("The path of the file the bootstrap profile is written to. If not set, the profile is logged with INFO level.")
+    BOOTSTRAP_PROFILER_OUTPUT("org.jboss.weld.bootstrap.profiler.output", ""),
+
     /**
      * For certain combinations of scopes, the container is permitted to optimize an injectable reference lookup. The
      * optimization is disabled by default as it
@@ -288,6 +342,65 @@ public enum ConfigurationKey {
     @Description("If set to true then when a contextual reference for a @SessionScoped or @ConversationScoped bean is obtained from a context backed by an HTTP session the instance is set again using HttpSession.setAttribute(). This allows to trigger session replication in some application servers.")
     RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS("org.jboss.weld.context.resetHttpSessionAttributeOnBeanAccess", false),
 
+    /**
+     * The type of the {@link org.jboss.weld.contexts.beanstore.LockStore} used to guard the creation of contextual instances
+     * in shared contexts (application, singleton, session and conversation). Possible values are: SYNCHRONIZED, CONCURRENT.
+     *
+     * @see org.jboss.weld.contexts.beanstore.LockStore.Type
+     */
+    @Description("The type of the lock store used to guard the creation of contextual instances in the application, singleton, session and conversation contexts. Possible values are: <ul><li><code>SYNCHRONIZED</code> - A single monitor guards the creation locks of a context.</li><li><code>CONCURRENT</code> - Creation locks are held in a concurrent map and reference counted atomically so that the creation of different beans does not contend.</li></ul>")
+    CONTEXT_LOCK_STORE_TYPE("org.jboss.weld.context.lockStoreType", "SYNCHRONIZED"),
+
+    /**
+     * If set to <code>true</code>, request, application and singleton scoped beans are assigned a position within their scope
+     * by {@link org.jboss.weld.contexts.beanstore.ContextBeanIdentifierIndex} after bootstrap and their contextual instances
+     * are stored in arrays indexed by that position. Beans which are not indexed are stored in a map.
+     * <p>
+     * Disabled by default. A request context allocates an array as large as the number of request scoped beans of the
+     * deployment once the first instance is stored, which costs more than a small map if a request only uses a few beans of a
+     * large deployment. Moreover, instances created before the index is built, and identifiers recreated from the storage of a
+     * bound request context, still go through the map.
+     * </p>
+     */
+    @Description("If set to true, contextual instances of request, application and singleton scoped beans are stored in arrays indexed by a bean position assigned within the scope after bootstrap instead of a map keyed by the bean identifier.")
+    INDEXED_BEAN_STORE("org.jboss.weld.context.indexedBeanStore", false),
+
+    /**
+     * Determines where contextual instances of request, session and conversation scoped beans are cached for the duration of
+     * a request. Possible values are: THREAD_LOCAL, REQUEST_CONTEXT.
+     *
+     * @see org.jboss.weld.contexts.cache.RequestScopedCache.Mode
+     */
+    @Description("Determines where contextual instances of @RequestScoped, @SessionScoped and @ConversationScoped beans are cached for the duration of a request. Possible values are: <ul><li><code>THREAD_LOCAL</code> - Each bean caches its instance in a ThreadLocal of its own.</li><li><code>REQUEST_CONTEXT</code> - The instances are held by the per-request cache registry, i.e. a thread carries a single ThreadLocal regardless of the number of beans. This is suitable for applications running requests on many short-lived (e.g. virtual) threads.</li></ul>")
+    REQUEST_SCOPED_CACHE_MODE("org.jboss.weld.context.requestScopedCacheMode", "THREAD_LOCAL"),
+
+    /**
+     * If set to <code>true</code>, the per-thread registry of the request scoped cache is retained between requests of the
+     * built-in request contexts instead of being returned to a shared pool at the end of each request. This avoids setting and
+     * removing the thread-local for every request but keeps a thread-local on each thread which ever ran a request, i.e. it
+     * should only be enabled if the threads do not outlive the application.
+     *
+     * @see org.jboss.weld.contexts.cache.RequestScopedCache#beginRequest(boolean)
+     */
+    @Description("If set to true, the per-thread registry of the request scoped cache is retained between requests instead of being removed at the end of each request. Only enable if the request threads do not outlive the application, e.g. pooled threads of an application server would keep a reference to the Weld classloader after undeploy.")
+    RETAIN_REQUEST_SCOPED_CACHE("org.jboss.weld.context.retainRequestScopedCache", false),
+
+    /**
+     * If set to <code>true</code>, observer methods which only declare the event parameter,
+     * {@link jakarta.enterprise.inject.spi.BeanManager} and {@link jakarta.enterprise.inject.spi.EventMetadata} injection
+     * points are compiled into a method handle during bootstrap. Otherwise, observer methods are invoked reflectively.
+     * Observer methods of session beans are always invoked reflectively.
+     */
+    @Description("If set to true, observer methods which only declare the event parameter, BeanManager and EventMetadata injection points are invoked through a method handle compiled during bootstrap instead of reflection.")
+    OBSERVER_METHOD_HANDLE_DISPATCH("org.jboss.weld.event.observerMethodHandleDispatch", false),
+
+    /**
+     * If set to <code>true</code>, around-invoke interceptor methods and the intercepted business methods are invoked through
+     * method handles compiled when an interception chain is first used. Otherwise, they are invoked reflectively.
+     */
+    @Description("If set to true, around-invoke interceptor methods and the intercepted business methods are invoked through method handles compiled when an interception chain is first used instead of reflection.")
+    INTERCEPTOR_METHOD_HANDLE_DISPATCH("org.jboss.weld.interceptor.methodHandleDispatch", false),
+
     ;
 
     /**
@@ -16,8 +16,14 @@
  */
 package org.jboss.weld.contexts;
 
+import java.lang.annotation.Annotation;
+
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.contexts.beanstore.BeanStore;
 import org.jboss.weld.contexts.beanstore.ConcurrentHashMapBeanStore;
+import org.jboss.weld.contexts.beanstore.ConcurrentIndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.ContextBeanIdentifierIndex;
+import org.jboss.weld.contexts.beanstore.LockStore;
 
 public abstract class AbstractSharedContext extends AbstractContext {
 
@@ -25,11 +31,25 @@ public abstract class AbstractSharedContext extends AbstractContext {
     private final BeanStore beanStore;
 
     /**
-     * Constructor
+     * Constructor. The contextual instances are held in a map.
      */
     protected AbstractSharedContext(String contextId) {
+        this(contextId, null);
+    }
+
+    /**
+     * Constructor. If the {@link ContextBeanIdentifierIndex} is enabled, the contextual instances of the indexed beans of the
+     * given scope are held in an array.
+     *
+     * @param contextId
+     * @param scope the scope of the context or <code>null</code> to hold all the contextual instances in a map
+     */
+    protected AbstractSharedContext(String contextId, Class<? extends Annotation> scope) {
         super(contextId, true);
-        this.beanStore = new ConcurrentHashMapBeanStore();
+        LockStore.Type lockStoreType = LockStore.Type.from(getServiceRegistry().get(WeldConfiguration.class));
+        ContextBeanIdentifierIndex index = scope != null ? getServiceRegistry().get(ContextBeanIdentifierIndex.class) : null;
+        this.beanStore = index != null ? new ConcurrentIndexedBeanStore(index, scope, lockStoreType)
+                : new ConcurrentHashMapBeanStore(lockStoreType);
     }
 
     /**
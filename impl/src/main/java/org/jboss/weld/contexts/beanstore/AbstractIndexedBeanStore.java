@@ -0,0 +1,251 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.jboss.weld.bean.AbstractBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A bean store which holds the contextual instances of indexed beans of a single scope in an array. The position of an
+ * instance is carried by the bean identifier, see {@link ContextBeanIdentifierIndex}, so that accessing an instance is an array
+ * load. Instances of beans which are not indexed (or instances put before the index was built, or put under an identifier
+ * which does not carry the position) are held in a fallback map.
+ *
+ * @see ContextBeanIdentifierIndex
+ */
+public abstract class AbstractIndexedBeanStore implements BeanStore {
+
+    private final ContextBeanIdentifierIndex index;
+
+    private final Class<? extends Annotation> scope;
+
+    // the identifiers of the indexed beans of the scope, null until the index is built
+    private volatile BeanIdentifier[] identifiers;
+
+    protected AbstractIndexedBeanStore(ContextBeanIdentifierIndex index, Class<? extends Annotation> scope) {
+        this.index = index;
+        this.scope = scope;
+    }
+
+    /**
+     *
+     * @param id
+     * @return the slot for the given identifier or -1 if the identifier is not indexed
+     */
+    protected int getSlot(BeanIdentifier id) {
+        if (id instanceof AbstractBeanIdentifier) {
+            int slot = ((AbstractBeanIdentifier) id).getSlot();
+            if (slot >= 0) {
+                BeanIdentifier[] identifiers = getIdentifiers();
+                // the identity check guards against identifiers of a different scope
+                if (identifiers != null && slot < identifiers.length && identifiers[slot] == id) {
+                    return slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private BeanIdentifier[] getIdentifiers() {
+        BeanIdentifier[] identifiers = this.identifiers;
+        if (identifiers == null) {
+            identifiers = index.getIdentifiers(scope);
+            this.identifiers = identifiers;
+        }
+        return identifiers;
+    }
+
+    /**
+     *
+     * @return the number of slots needed to hold an instance of every indexed bean of the scope
+     */
+    protected int getIndexSize() {
+        BeanIdentifier[] identifiers = getIdentifiers();
+        return identifiers != null ? identifiers.length : 0;
+    }
+
+    /**
+     *
+     * @return the number of allocated slots, 0 if no slot was allocated yet
+     */
+    protected abstract int getSlotCount();
+
+    protected abstract Object getSlotValue(int slot);
+
+    /**
+     * Allocates the slots if needed.
+     */
+    protected abstract void setSlotValue(int slot, Object value);
+
+    /**
+     *
+     * @return the previous value
+     */
+    protected abstract Object removeSlotValue(int slot);
+
+    protected abstract void clearSlots();
+
+    /**
+     *
+     * @return the fallback map or null if not created yet
+     */
+    protected abstract Map<BeanIdentifier, Object> getFallback();
+
+    protected abstract Map<BeanIdentifier, Object> getOrCreateFallback();
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        int slot = getSlot(id);
+        if (slot >= 0) {
+            Object instance = getSlotValue(slot);
+            if (instance != null) {
+                return cast(instance);
+            }
+        }
+        Map<BeanIdentifier, Object> fallback = getFallback();
+        return fallback != null ? cast(fallback.get(id)) : null;
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        int slot = getSlot(id);
+        if (slot >= 0) {
+            setSlotValue(slot, contextualInstance);
+            Map<BeanIdentifier, Object> fallback = getFallback();
+            if (fallback != null && !fallback.isEmpty()) {
+                // an instance put under an equal identifier which does not carry the position
+                fallback.remove(id);
+            }
+        } else {
+            getOrCreateFallback().put(id, contextualInstance);
+        }
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        Object instance = null;
+        int slot = getSlot(id);
+        if (slot >= 0) {
+            instance = removeSlotValue(slot);
+        }
+        if (instance == null) {
+            Map<BeanIdentifier, Object> fallback = getFallback();
+            if (fallback != null) {
+                instance = fallback.remove(id);
+            }
+        }
+        return cast(instance);
+    }
+
+    @Override
+    public void clear() {
+        clearSlots();
+        Map<BeanIdentifier, Object> fallback = getFallback();
+        if (fallback != null) {
+            fallback.clear();
+        }
+    }
+
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        return new BeanIdentifierIterator();
+    }
+
+    @Override
+    public String toString() {
+        int size = 0;
+        for (Iterator<BeanIdentifier> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+            size++;
+        }
+        return "holding " + size + " instances";
+    }
+
+    /**
+     * Iterates over the identifiers of the occupied slots and then over the keys of the fallback map.
+     */
+    private class BeanIdentifierIterator implements Iterator<BeanIdentifier> {
+
+        private final int slotCount = getSlotCount();
+
+        private int nextSlot;
+
+        private int currentSlot = -1;
+
+        private Iterator<BeanIdentifier> fallbackIterator;
+
+        private boolean currentFromFallback;
+
+        @Override
+        public boolean hasNext() {
+            while (nextSlot < slotCount && getSlotValue(nextSlot) == null) {
+                nextSlot++;
+            }
+            if (nextSlot < slotCount) {
+                return true;
+            }
+            if (fallbackIterator == null) {
+                Map<BeanIdentifier, Object> fallback = getFallback();
+                fallbackIterator = fallback != null ? fallback.keySet().iterator()
+                        : Collections.<BeanIdentifier> emptyIterator();
+            }
+            return fallbackIterator.hasNext();
+        }
+
+        @Override
+        public BeanIdentifier next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextSlot < slotCount) {
+                currentSlot = nextSlot++;
+                currentFromFallback = false;
+                return identifiers[currentSlot];
+            }
+            currentSlot = -1;
+            currentFromFallback = true;
+            return fallbackIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (currentFromFallback) {
+                fallbackIterator.remove();
+                currentFromFallback = false;
+            } else if (currentSlot >= 0) {
+                removeSlotValue(currentSlot);
+                currentSlot = -1;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+}
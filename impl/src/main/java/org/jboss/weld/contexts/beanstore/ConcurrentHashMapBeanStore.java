@@ -35,12 +35,23 @@ public class ConcurrentHashMapBeanStore extends AbstractMapBackedBeanStore imple
     // The backing map
     protected Map<BeanIdentifier, Object> delegate;
     private transient volatile LockStore lockStore;
+    private final LockStore.Type lockStoreType;
 
     /**
      * Constructor
      */
     public ConcurrentHashMapBeanStore() {
-        delegate = new ConcurrentHashMap<BeanIdentifier, Object>();
+        this(LockStore.Type.SYNCHRONIZED);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param lockStoreType The type of the lock store used to guard the creation of instances
+     */
+    public ConcurrentHashMapBeanStore(LockStore.Type lockStoreType) {
+        this.delegate = new ConcurrentHashMap<BeanIdentifier, Object>();
+        this.lockStoreType = lockStoreType;
     }
 
     /**
@@ -64,7 +75,7 @@ public class ConcurrentHashMapBeanStore extends AbstractMapBackedBeanStore imple
             synchronized (this) {
                 lockStore = this.lockStore;
                 if (lockStore == null) {
-                    this.lockStore = lockStore = new LockStore();
+                    this.lockStore = lockStore = lockStoreType.create();
                 }
             }
         }
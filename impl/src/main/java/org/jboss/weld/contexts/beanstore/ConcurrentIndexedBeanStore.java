@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A thread-safe indexed bean store suitable for shared contexts, such as the application context.
+ *
+ * @see IndexedBeanStore
+ */
+public class ConcurrentIndexedBeanStore extends AbstractIndexedBeanStore {
+
+    private volatile AtomicReferenceArray<Object> slots;
+
+    private final Map<BeanIdentifier, Object> fallback;
+
+    private final LockStore.Type lockStoreType;
+
+    private volatile LockStore lockStore;
+
+    /**
+     *
+     * @param index
+     * @param scope The scope of the context
+     * @param lockStoreType The type of the lock store used to guard the creation of instances
+     */
+    public ConcurrentIndexedBeanStore(ContextBeanIdentifierIndex index, Class<? extends Annotation> scope,
+            LockStore.Type lockStoreType) {
+        super(index, scope);
+        this.fallback = new ConcurrentHashMap<BeanIdentifier, Object>();
+        this.lockStoreType = lockStoreType;
+    }
+
+    @Override
+    protected int getSlotCount() {
+        AtomicReferenceArray<Object> slots = this.slots;
+        return slots != null ? slots.length() : 0;
+    }
+
+    @Override
+    protected Object getSlotValue(int slot) {
+        AtomicReferenceArray<Object> slots = this.slots;
+        return slots != null ? slots.get(slot) : null;
+    }
+
+    @Override
+    protected void setSlotValue(int slot, Object value) {
+        AtomicReferenceArray<Object> slots = this.slots;
+        if (slots == null) {
+            synchronized (this) {
+                slots = this.slots;
+                if (slots == null) {
+                    this.slots = slots = new AtomicReferenceArray<Object>(getIndexSize());
+                }
+            }
+        }
+        slots.set(slot, value);
+    }
+
+    @Override
+    protected Object removeSlotValue(int slot) {
+        AtomicReferenceArray<Object> slots = this.slots;
+        return slots != null ? slots.getAndSet(slot, null) : null;
+    }
+
+    @Override
+    protected void clearSlots() {
+        AtomicReferenceArray<Object> slots = this.slots;
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, null);
+            }
+        }
+    }
+
+    @Override
+    protected Map<BeanIdentifier, Object> getFallback() {
+        return fallback;
+    }
+
+    @Override
+    protected Map<BeanIdentifier, Object> getOrCreateFallback() {
+        return fallback;
+    }
+
+    public LockedBean lock(final BeanIdentifier id) {
+        LockStore lockStore = this.lockStore;
+        if (lockStore == null) {
+            synchronized (this) {
+                lockStore = this.lockStore;
+                if (lockStore == null) {
+                    this.lockStore = lockStore = lockStoreType.create();
+                }
+            }
+        }
+        return lockStore.lock(id);
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A {@link LockStore} which does not serialize lock acquisition for different beans. Locks are held in a
+ * {@link ConcurrentHashMap} and reference counted atomically. A lock whose count dropped to zero is removed from the map
+ * and can never be acquired again.
+ *
+ * @see LockStore.Type#CONCURRENT
+ */
+public class ConcurrentLockStore extends LockStore {
+
+    private static final long serialVersionUID = 8316305217925426394L;
+
+    @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+    private transient volatile ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks;
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = getLocks();
+        for (;;) {
+            ReferenceCountedLock refLock = locks.get(id);
+            if (refLock == null) {
+                ReferenceCountedLock newLock = new ReferenceCountedLock(id, locks);
+                refLock = locks.putIfAbsent(id, newLock);
+                if (refLock == null) {
+                    newLock.lock();
+                    return newLock;
+                }
+            }
+            if (refLock.retain()) {
+                refLock.lock();
+                return refLock;
+            }
+            // The lock was released concurrently and is about to be removed - try again
+        }
+    }
+
+    private ConcurrentMap<BeanIdentifier, ReferenceCountedLock> getLocks() {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = this.locks;
+        if (locks == null) {
+            // The field is transient and therefore null after deserialization
+            synchronized (this) {
+                locks = this.locks;
+                if (locks == null) {
+                    this.locks = locks = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        return locks;
+    }
+
+    private static final class ReferenceCountedLock extends ReentrantLock implements LockedBean {
+
+        private static final long serialVersionUID = -1453094389473290741L;
+
+        private static final AtomicIntegerFieldUpdater<ReferenceCountedLock> COUNT_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(ReferenceCountedLock.class, "count");
+
+        private final BeanIdentifier key;
+
+        private final transient ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks;
+
+        private volatile int count = 1;
+
+        private ReferenceCountedLock(BeanIdentifier key, ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks) {
+            this.key = key;
+            this.locks = locks;
+        }
+
+        /**
+         *
+         * @return <code>false</code> if the lock was already released by all its holders, <code>true</code> otherwise
+         */
+        boolean retain() {
+            for (;;) {
+                int current = count;
+                if (current == 0) {
+                    return false;
+                }
+                if (COUNT_UPDATER.compareAndSet(this, current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void unlock() {
+            super.unlock();
+            if (COUNT_UPDATER.decrementAndGet(this) == 0) {
+                locks.remove(key, this);
+            }
+        }
+    }
+
+}
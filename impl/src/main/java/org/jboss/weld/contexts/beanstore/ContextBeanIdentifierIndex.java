@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bean.AbstractBeanIdentifier;
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.exceptions.IllegalStateException;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.util.collections.ImmutableMap;
+
+/**
+ * An optional per deployment service.
+ *
+ * The index assigns a dense position to each bean whose contextual instances are stored in the request, application and
+ * singleton contexts so that {@link AbstractIndexedBeanStore} can hold the instances in an array. The positions are assigned
+ * per scope, i.e. the array of a bean store is only as large as the number of beans of its scope. The position is carried by
+ * the identifier of the bean (see {@link AbstractBeanIdentifier#getSlot()}) so that a bean store does not have to look it up.
+ * Unlike {@link BeanIdentifierIndex}, this index is never used to serialize bean identifiers. Only beans whose identifier is
+ * an {@link AbstractBeanIdentifier} are indexed.
+ *
+ * @see AbstractIndexedBeanStore
+ */
+public class ContextBeanIdentifierIndex implements Service {
+
+    private static final BeanIdentifier[] EMPTY = new BeanIdentifier[0];
+
+    // null until the index is built
+    private volatile Map<Class<? extends Annotation>, BeanIdentifier[]> identifiers;
+
+    /**
+     * Note that the index can only be built once.
+     *
+     * @param beans The set of beans the index should be built from
+     * @throws IllegalStateException If the index is built already
+     */
+    public void build(Set<Bean<?>> beans) {
+        if (isBuilt()) {
+            throw new IllegalStateException("Context BeanIdentifier index is already built!");
+        }
+        Map<Class<? extends Annotation>, List<AbstractBeanIdentifier>> scopes = new HashMap<>();
+        for (Bean<?> bean : beans) {
+            if (bean instanceof CommonBean<?>) {
+                BeanIdentifier identifier = ((CommonBean<?>) bean).getIdentifier();
+                if (identifier instanceof AbstractBeanIdentifier) {
+                    scopes.computeIfAbsent(bean.getScope(), key -> new ArrayList<>())
+                            .add((AbstractBeanIdentifier) identifier);
+                }
+            }
+        }
+        ImmutableMap.Builder<Class<? extends Annotation>, BeanIdentifier[]> builder = ImmutableMap.builder();
+        for (Map.Entry<Class<? extends Annotation>, List<AbstractBeanIdentifier>> entry : scopes.entrySet()) {
+            List<AbstractBeanIdentifier> scopeIdentifiers = entry.getValue();
+            scopeIdentifiers.sort(Comparator.comparing(BeanIdentifier::asString));
+            BeanIdentifier[] index = new BeanIdentifier[scopeIdentifiers.size()];
+            for (int i = 0; i < index.length; i++) {
+                AbstractBeanIdentifier identifier = scopeIdentifiers.get(i);
+                identifier.setSlot(i);
+                index[i] = identifier;
+            }
+            builder.put(entry.getKey(), index);
+        }
+        // the positions are published by the volatile write
+        identifiers = builder.build();
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the index is built, <code>false</code> otherwise
+     */
+    public boolean isBuilt() {
+        return identifiers != null;
+    }
+
+    /**
+     * The position of an identifier in the returned array equals to its {@link AbstractBeanIdentifier#getSlot()}. The array
+     * must not be modified.
+     *
+     * @param scope
+     * @return the identifiers of the indexed beans of the given scope or <code>null</code> if the index is not built yet
+     */
+    BeanIdentifier[] getIdentifiers(Class<? extends Annotation> scope) {
+        Map<Class<? extends Annotation>, BeanIdentifier[]> identifiers = this.identifiers;
+        if (identifiers == null) {
+            return null;
+        }
+        BeanIdentifier[] index = identifiers.get(scope);
+        return index != null ? index : EMPTY;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    @Override
+    public String toString() {
+        Map<Class<? extends Annotation>, BeanIdentifier[]> identifiers = this.identifiers;
+        if (identifiers == null) {
+            return "ContextBeanIdentifierIndex [not built]";
+        }
+        StringBuilder builder = new StringBuilder("ContextBeanIdentifierIndex [");
+        for (Map.Entry<Class<? extends Annotation>, BeanIdentifier[]> entry : identifiers.entrySet()) {
+            if (builder.charAt(builder.length() - 1) != '[') {
+                builder.append(", ");
+            }
+            builder.append(entry.getKey().getSimpleName()).append('=').append(entry.getValue().length);
+        }
+        return builder.append(']').toString();
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * An indexed bean store which is not thread-safe and is therefore only suitable for contexts confined to a single thread,
+ * such as the request context. The slots are allocated when the first instance of an indexed bean is put and there is one
+ * slot per indexed bean of the scope.
+ *
+ * @see ConcurrentIndexedBeanStore
+ */
+public class IndexedBeanStore extends AbstractIndexedBeanStore {
+
+    private Object[] slots;
+
+    private Map<BeanIdentifier, Object> fallback;
+
+    /**
+     *
+     * @param index
+     * @param scope The scope of the context
+     */
+    public IndexedBeanStore(ContextBeanIdentifierIndex index, Class<? extends Annotation> scope) {
+        super(index, scope);
+    }
+
+    @Override
+    protected int getSlotCount() {
+        return slots != null ? slots.length : 0;
+    }
+
+    @Override
+    protected Object getSlotValue(int slot) {
+        return slots != null ? slots[slot] : null;
+    }
+
+    @Override
+    protected void setSlotValue(int slot, Object value) {
+        if (slots == null) {
+            slots = new Object[getIndexSize()];
+        }
+        slots[slot] = value;
+    }
+
+    @Override
+    protected Object removeSlotValue(int slot) {
+        if (slots == null) {
+            return null;
+        }
+        Object previous = slots[slot];
+        slots[slot] = null;
+        return previous;
+    }
+
+    @Override
+    protected void clearSlots() {
+        if (slots != null) {
+            Arrays.fill(slots, null);
+        }
+    }
+
+    @Override
+    protected Map<BeanIdentifier, Object> getFallback() {
+        return fallback;
+    }
+
+    @Override
+    protected Map<BeanIdentifier, Object> getOrCreateFallback() {
+        if (fallback == null) {
+            fallback = new HashMap<BeanIdentifier, Object>();
+        }
+        return fallback;
+    }
+
+    public LockedBean lock(final BeanIdentifier id) {
+        return null;
+    }
+
+}
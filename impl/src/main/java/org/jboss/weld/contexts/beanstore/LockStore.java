@@ -18,61 +18,70 @@
 package org.jboss.weld.contexts.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.ConfigurationLogger;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-
 /**
- * Helper class for bean store creation locking.
+ * Helper class for bean store creation locking. A lock store only holds transient state, i.e. a deserialized lock store is
+ * empty.
+ * <p>
+ * See {@link Type} for the implementations which may be selected through {@link ConfigurationKey#CONTEXT_LOCK_STORE_TYPE}.
  *
  * @author Stuart Douglas
  * @author Marko Luksa
+ * @see SynchronizedLockStore
+ * @see ConcurrentLockStore
  */
-public class LockStore implements Serializable {
+public abstract class LockStore implements Serializable {
 
-    private static final long serialVersionUID = -698649566870070414L;
+    private static final long serialVersionUID = 5219340577381463262L;
 
-    @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    /**
+     * Acquires the creation lock of the given bean. The lock must be released through {@link LockedBean#unlock()}.
+     *
+     * @param id
+     * @return the acquired lock
+     */
+    public abstract LockedBean lock(BeanIdentifier id);
 
-    public LockedBean lock(BeanIdentifier id) {
-        ReferenceCountedLock refLock;
-        synchronized (this) {
-            if (locks == null) {
-                locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
-            }
-            refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
-            }
-        }
-        refLock.lock.lock();
-        return refLock;
-    }
+    /**
+     * The type of a {@link LockStore}.
+     */
+    public enum Type {
 
-    private class ReferenceCountedLock implements LockedBean {
-        private final BeanIdentifier key;
-        int count = 1;
-        final ReentrantLock lock = new ReentrantLock();
+        /**
+         * A single monitor guards the lock registry, see {@link SynchronizedLockStore}.
+         */
+        SYNCHRONIZED,
+        /**
+         * Locks are registered in a concurrent map and reference counted atomically per bean, see {@link ConcurrentLockStore}.
+         */
+        CONCURRENT;
 
-        private ReferenceCountedLock(final BeanIdentifier key) {
-            this.key = key;
+        public LockStore create() {
+            switch (this) {
+                case CONCURRENT:
+                    return new ConcurrentLockStore();
+                default:
+                    return new SynchronizedLockStore();
+            }
         }
 
-        public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
-                }
+        /**
+         *
+         * @param configuration
+         * @return the type configured by {@link ConfigurationKey#CONTEXT_LOCK_STORE_TYPE}
+         */
+        public static Type from(WeldConfiguration configuration) {
+            String value = configuration.getStringProperty(ConfigurationKey.CONTEXT_LOCK_STORE_TYPE);
+            try {
+                return valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw ConfigurationLogger.LOG.invalidConfigurationPropertyValue(value,
+                        ConfigurationKey.CONTEXT_LOCK_STORE_TYPE.get());
             }
         }
     }
@@ -15,14 +15,27 @@ public class MapBeanStore extends AttributeBeanStore {
      */
     private final boolean safeIteration;
 
+    protected final LockStore.Type lockStoreType;
+
     public MapBeanStore(NamingScheme namingScheme, Map<String, Object> delegate) {
         this(namingScheme, delegate, false);
     }
 
     public MapBeanStore(NamingScheme namingScheme, Map<String, Object> delegate, boolean safeIteration) {
-        super(namingScheme, false);
+        this(namingScheme, delegate, safeIteration, LockStore.Type.SYNCHRONIZED);
+    }
+
+    public MapBeanStore(NamingScheme namingScheme, Map<String, Object> delegate, boolean safeIteration,
+            LockStore.Type lockStoreType) {
+        this(namingScheme, delegate, safeIteration, lockStoreType, new HashMapBeanStore());
+    }
+
+    public MapBeanStore(NamingScheme namingScheme, Map<String, Object> delegate, boolean safeIteration,
+            LockStore.Type lockStoreType, BeanStore localBeanStore) {
+        super(namingScheme, false, localBeanStore);
         this.delegate = delegate;
         this.safeIteration = safeIteration;
+        this.lockStoreType = lockStoreType;
     }
 
     @Override
@@ -56,7 +69,7 @@ public class MapBeanStore extends AttributeBeanStore {
             synchronized (this) {
                 lockStore = this.lockStore;
                 if (lockStore == null) {
-                    this.lockStore = lockStore = new LockStore();
+                    this.lockStore = lockStore = lockStoreType.create();
                 }
             }
         }
@@ -39,7 +39,11 @@ public class SessionMapBeanStore extends MapBeanStore {
     private static final String LOCK_STORE_KEY = "org.jboss.weld.context.beanstore.LockStore";
 
     public SessionMapBeanStore(NamingScheme namingScheme, Map<String, Object> delegate) {
-        super(namingScheme, delegate, delegate instanceof ConcurrentHashMap);
+        this(namingScheme, delegate, LockStore.Type.SYNCHRONIZED);
+    }
+
+    public SessionMapBeanStore(NamingScheme namingScheme, Map<String, Object> delegate, LockStore.Type lockStoreType) {
+        super(namingScheme, delegate, delegate instanceof ConcurrentHashMap, lockStoreType);
     }
 
     @Override
@@ -61,7 +65,7 @@ public class SessionMapBeanStore extends MapBeanStore {
                 synchronized (SessionMapBeanStore.class) {
                     lockStore = (LockStore) getAttribute(LOCK_STORE_KEY);
                     if (lockStore == null) {
-                        lockStore = new LockStore();
+                        lockStore = lockStoreType.create();
                         setAttribute(LOCK_STORE_KEY, lockStore);
                     }
                 }
@@ -4,10 +4,12 @@ import java.util.Iterator;
 import java.util.Map;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.bound.BoundConversationContext;
 import org.jboss.weld.context.bound.BoundRequest;
 import org.jboss.weld.contexts.AbstractConversationContext;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
+import org.jboss.weld.contexts.beanstore.LockStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.beanstore.SessionMapBeanStore;
 
@@ -17,8 +19,11 @@ public class BoundConversationContextImpl extends AbstractConversationContext<Bo
     // There is no need to store FQCN in a session key
     private static final String NAMING_SCHEME_PREFIX = "WELD_BC";
 
+    private final LockStore.Type lockStoreType;
+
     public BoundConversationContextImpl(String contextId, ServiceRegistry services) {
         super(contextId, services);
+        this.lockStoreType = LockStore.Type.from(services.get(WeldConfiguration.class));
     }
 
     @Override
@@ -48,12 +53,12 @@ public class BoundConversationContextImpl extends AbstractConversationContext<Bo
 
     @Override
     protected BoundBeanStore createRequestBeanStore(NamingScheme namingScheme, BoundRequest request) {
-        return new SessionMapBeanStore(namingScheme, request.getSessionMap(false));
+        return new SessionMapBeanStore(namingScheme, request.getSessionMap(false), lockStoreType);
     }
 
     @Override
     protected BoundBeanStore createSessionBeanStore(NamingScheme namingScheme, Map<String, Object> session) {
-        return new SessionMapBeanStore(namingScheme, session);
+        return new SessionMapBeanStore(namingScheme, session, lockStoreType);
     }
 
     @Override
@@ -5,8 +5,15 @@ import java.util.Map;
 
 import jakarta.enterprise.context.RequestScoped;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.contexts.AbstractBoundContext;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.contexts.beanstore.ContextBeanIdentifierIndex;
+import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.LockStore;
 import org.jboss.weld.contexts.beanstore.MapBeanStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.beanstore.SimpleNamingScheme;
@@ -16,9 +23,16 @@ public class BoundRequestContextImpl extends AbstractBoundContext<Map<String, Ob
 
     private final NamingScheme namingScheme;
 
+    private final ContextBeanIdentifierIndex index;
+
+    private final boolean retainRequestScopedCache;
+
     public BoundRequestContextImpl(String contextId) {
         super(contextId, false);
         this.namingScheme = new SimpleNamingScheme(BoundRequestContext.class.getName());
+        this.index = getServiceRegistry().get(ContextBeanIdentifierIndex.class);
+        this.retainRequestScopedCache = getServiceRegistry().getRequired(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.RETAIN_REQUEST_SCOPED_CACHE);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -27,7 +41,10 @@ public class BoundRequestContextImpl extends AbstractBoundContext<Map<String, Ob
 
     public boolean associate(Map<String, Object> storage) {
         if (getBeanStore() == null) {
-            setBeanStore(new MapBeanStore(namingScheme, storage, true));
+            // Instances are read from the local bean store, the storage is only written through
+            BeanStore localBeanStore = index != null ? new IndexedBeanStore(index, RequestScoped.class)
+                    : new HashMapBeanStore();
+            setBeanStore(new MapBeanStore(namingScheme, storage, true, LockStore.Type.SYNCHRONIZED, localBeanStore));
             getBeanStore().attach();
             return true;
         } else {
@@ -38,7 +55,7 @@ public class BoundRequestContextImpl extends AbstractBoundContext<Map<String, Ob
     @Override
     public void activate() {
         super.activate();
-        RequestScopedCache.beginRequest();
+        RequestScopedCache.beginRequest(retainRequestScopedCache);
     }
 
     @Override
@@ -5,8 +5,10 @@ import java.util.Map;
 
 import jakarta.enterprise.context.SessionScoped;
 
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.contexts.AbstractBoundContext;
+import org.jboss.weld.contexts.beanstore.LockStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.beanstore.SessionMapBeanStore;
 import org.jboss.weld.contexts.beanstore.SimpleBeanIdentifierIndexNamingScheme;
@@ -22,9 +24,12 @@ public class BoundSessionContextImpl extends AbstractBoundContext<Map<String, Ob
 
     private final NamingScheme namingScheme;
 
+    private final LockStore.Type lockStoreType;
+
     public BoundSessionContextImpl(String contextId, BeanIdentifierIndex index) {
         super(contextId, true);
         this.namingScheme = new SimpleBeanIdentifierIndexNamingScheme(NAMING_SCHEME_PREFIX, index);
+        this.lockStoreType = LockStore.Type.from(getServiceRegistry().get(WeldConfiguration.class));
     }
 
     public Class<? extends Annotation> getScope() {
@@ -33,7 +38,7 @@ public class BoundSessionContextImpl extends AbstractBoundContext<Map<String, Ob
 
     public boolean associate(Map<String, Object> storage) {
         if (getBeanStore() == null) {
-            setBeanStore(new SessionMapBeanStore(namingScheme, storage));
+            setBeanStore(new SessionMapBeanStore(namingScheme, storage, lockStoreType));
             checkBeanIdentifierIndexConsistency(storage);
             return true;
         } else {
@@ -16,51 +16,78 @@
  */
 package org.jboss.weld.contexts.cache;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.ConfigurationLogger;
 
 /**
  * Caches beans over the life of a request, to allow for efficient bean lookups from proxies.
  * Besides, can hold any ThreadLocals to be removed at the end of the request.
+ * <p>
+ * The items are registered in a per-thread array which is reset rather than reallocated at the end of a request, so that
+ * steady-state requests do not allocate in this path. By default, the thread-local is removed at the end of a request so that
+ * no thread-local is left behind, and the reset registry is returned to a small pool shared by all threads, from which the
+ * next request takes it. If a request is started with {@link #beginRequest(boolean)} and <code>true</code>, the thread keeps
+ * the registry between requests instead, see {@link ConfigurationKey#RETAIN_REQUEST_SCOPED_CACHE}. Between requests the
+ * registry holds no items.
+ * <p>
+ * In the {@link Mode#REQUEST_CONTEXT} mode the registry also holds the cached contextual instances (see
+ * {@link #getInstance(Object)}), so that a thread only carries a single thread-local for all the beans it caches.
  *
  * @author Stuart Douglas
  */
 public class RequestScopedCache {
 
-    private static final ThreadLocal<List<RequestScopedItem>> CACHE = new ThreadLocal<List<RequestScopedItem>>();
+    private static final ThreadLocal<Items> CACHE = new ThreadLocal<Items>();
+
+    private static final int POOL_SIZE = poolSize(Runtime.getRuntime().availableProcessors());
+
+    // The number of slots looked at before a new registry is allocated or an ended one is discarded
+    private static final int POOL_PROBES = 4;
+
+    // Registries of the ended requests which were not retained, the slots are never locked
+    private static final AtomicReferenceArray<Items> POOL = new AtomicReferenceArray<Items>(POOL_SIZE);
 
     private RequestScopedCache() {
     }
 
     public static boolean isActive() {
-        return CACHE.get() != null;
+        final Items items = CACHE.get();
+        return items != null && items.active;
     }
 
-    private static void checkCacheForAdding(final List<RequestScopedItem> cache) {
-        if (cache == null) {
+    private static void checkCacheForAdding(final Items items) {
+        if (items == null || !items.active) {
             throw new IllegalStateException("Unable to add request scoped cache item when request cache is not active");
         }
     }
 
     public static void addItem(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
-        checkCacheForAdding(cache);
-        cache.add(item);
+        final Items items = CACHE.get();
+        checkCacheForAdding(items);
+        items.add(item);
     }
 
     public static boolean addItemIfActive(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
-        if (cache != null) {
-            cache.add(item);
+        final Items items = CACHE.get();
+        if (items != null && items.active) {
+            items.add(item);
             return true;
         }
         return false;
     }
 
+    /**
+     * Note that a wrapper is allocated for the given {@link ThreadLocal} each time it is added. Frequently added thread locals
+     * should be wrapped in a {@link RequestScopedItem} once and added via {@link #addItemIfActive(RequestScopedItem)}.
+     */
     public static boolean addItemIfActive(final ThreadLocal<?> item) {
-        final List<RequestScopedItem> cache = CACHE.get();
-        if (cache != null) {
-            cache.add(new RequestScopedItem() {
+        final Items items = CACHE.get();
+        if (items != null && items.active) {
+            items.add(new RequestScopedItem() {
                 public void invalidate() {
                     item.remove();
                 }
@@ -71,9 +98,24 @@ public class RequestScopedCache {
     }
 
     public static void beginRequest() {
+        beginRequest(false);
+    }
+
+    /**
+     *
+     * @param retain if set to <code>true</code>, the registry of the current thread is retained when the request ends so that
+     *        it can be reused by the next request
+     */
+    public static void beginRequest(boolean retain) {
         // if the previous request was not ended properly for some reason, make sure it is ended now
         endRequest();
-        CACHE.set(new LinkedList<RequestScopedItem>());
+        Items items = CACHE.get();
+        if (items == null) {
+            items = borrow();
+            CACHE.set(items);
+        }
+        items.retained = retain;
+        items.active = true;
     }
 
     /**
@@ -81,11 +123,18 @@ public class RequestScopedCache {
      * in which case the cache will be unavailable for the rest of the request.
      */
     public static void endRequest() {
-        final List<RequestScopedItem> result = CACHE.get();
-        if (result != null) {
-            CACHE.remove();
-            for (final RequestScopedItem item : result) {
-                item.invalidate();
+        final Items items = CACHE.get();
+        if (items != null) {
+            try {
+                if (items.active) {
+                    items.active = false;
+                    items.invalidate();
+                }
+            } finally {
+                if (!items.retained) {
+                    CACHE.remove();
+                    release(items);
+                }
             }
         }
     }
@@ -94,10 +143,222 @@ public class RequestScopedCache {
      * Flushes the bean cache. The cache remains available for the rest of the request.
      */
     public static void invalidate() {
-        if (isActive()) {
-            endRequest();
-            beginRequest();
+        final Items items = CACHE.get();
+        if (items != null && items.active) {
+            // Items added during the invalidation are ignored, if it fails the cache stays inactive until the request ends
+            items.active = false;
+            items.invalidate();
+            items.active = true;
+        }
+    }
+
+    private static Items borrow() {
+        final int start = probeStart();
+        for (int i = 0; i < POOL_PROBES; i++) {
+            final int slot = (start + i) & (POOL_SIZE - 1);
+            if (POOL.get(slot) != null) {
+                final Items items = POOL.getAndSet(slot, null);
+                if (items != null) {
+                    return items;
+                }
+            }
+        }
+        return new Items();
+    }
+
+    private static void release(Items items) {
+        final int start = probeStart();
+        for (int i = 0; i < POOL_PROBES; i++) {
+            final int slot = (start + i) & (POOL_SIZE - 1);
+            if (POOL.get(slot) == null && POOL.compareAndSet(slot, null, items)) {
+                return;
+            }
         }
+        // The pool is full, the registry is discarded
+    }
+
+    private static int probeStart() {
+        // Spread the threads across the pool so that they do not compete for the same slots
+        final int hash = System.identityHashCode(Thread.currentThread());
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int poolSize(int processors) {
+        // A power of two of at least twice the number of processors
+        return Math.max(16, Integer.highestOneBit(Math.max(1, processors) << 2));
+    }
+
+    /**
+     *
+     * @param key The key, compared by identity
+     * @return the instance cached under the given key in the current request, or null if there is no such instance or the
+     *         cache is not active
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getInstance(final Object key) {
+        final Items items = CACHE.get();
+        if (items != null && items.active) {
+            return (T) items.getInstance(key);
+        }
+        return null;
+    }
+
+    /**
+     * Caches the given instance until the end of the current request or the next {@link #invalidate()}.
+     *
+     * @param key The key, compared by identity
+     * @param instance
+     * @return <code>true</code> if the instance was cached, <code>false</code> if the cache is not active
+     */
+    public static boolean putInstanceIfActive(final Object key, final Object instance) {
+        final Items items = CACHE.get();
+        if (items != null && items.active) {
+            items.putInstance(key, instance);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines where the contextual instances of request, session and conversation scoped beans are cached.
+     *
+     * @see ConfigurationKey#REQUEST_SCOPED_CACHE_MODE
+     */
+    public enum Mode {
+
+        /**
+         * Each cacheable bean holds its instance in a {@link ThreadLocal} of its own.
+         */
+        THREAD_LOCAL,
+        /**
+         * Instances are held by the registry of the current request, see {@link RequestScopedCache#getInstance(Object)}.
+         */
+        REQUEST_CONTEXT;
+
+        /**
+         *
+         * @param configuration
+         * @return the mode configured by {@link ConfigurationKey#REQUEST_SCOPED_CACHE_MODE}
+         */
+        public static Mode from(WeldConfiguration configuration) {
+            String value = configuration.getStringProperty(ConfigurationKey.REQUEST_SCOPED_CACHE_MODE);
+            try {
+                return valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw ConfigurationLogger.LOG.invalidConfigurationPropertyValue(value,
+                        ConfigurationKey.REQUEST_SCOPED_CACHE_MODE.get());
+            }
+        }
+    }
+
+    /**
+     * Array-backed registry of the items of the current request, reused by the next request of the thread if retained or
+     * taken from the pool otherwise.
+     */
+    private static final class Items {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        // Do not hold on to the array of an unusually large request
+        private static final int MAX_RETAINED_CAPACITY = 1024;
+
+        private RequestScopedItem[] items = new RequestScopedItem[INITIAL_CAPACITY];
+
+        private int size;
+
+        private boolean active;
+
+        private boolean retained;
+
+        // Open addressing table of cached instances, keys are compared by identity
+        private Object[] keys;
+
+        private Object[] values;
+
+        private int instanceCount;
+
+        private void add(RequestScopedItem item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size << 1);
+            }
+            items[size++] = item;
+        }
+
+        private Object getInstance(Object key) {
+            final Object[] keys = this.keys;
+            if (keys == null) {
+                return null;
+            }
+            final int mask = keys.length - 1;
+            for (int i = System.identityHashCode(key) & mask;; i = (i + 1) & mask) {
+                Object candidate = keys[i];
+                if (candidate == key) {
+                    return values[i];
+                }
+                if (candidate == null) {
+                    return null;
+                }
+            }
+        }
+
+        private void putInstance(Object key, Object instance) {
+            if (keys == null) {
+                keys = new Object[INITIAL_CAPACITY];
+                values = new Object[INITIAL_CAPACITY];
+            } else if ((instanceCount + 1) << 1 > keys.length) {
+                // Keep the load factor at or below 0.5
+                Object[] oldKeys = keys;
+                Object[] oldValues = values;
+                keys = new Object[oldKeys.length << 1];
+                values = new Object[oldKeys.length << 1];
+                instanceCount = 0;
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != null) {
+                        insert(oldKeys[i], oldValues[i]);
+                    }
+                }
+            }
+            insert(key, instance);
+        }
+
+        private void insert(Object key, Object instance) {
+            final int mask = keys.length - 1;
+            int i = System.identityHashCode(key) & mask;
+            while (keys[i] != null && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == null) {
+                keys[i] = key;
+                instanceCount++;
+            }
+            values[i] = instance;
+        }
+
+        private void invalidate() {
+            try {
+                for (int i = 0; i < size; i++) {
+                    items[i].invalidate();
+                }
+            } finally {
+                if (items.length > MAX_RETAINED_CAPACITY) {
+                    items = new RequestScopedItem[INITIAL_CAPACITY];
+                } else {
+                    Arrays.fill(items, 0, size, null);
+                }
+                size = 0;
+                if (instanceCount > 0) {
+                    if (keys.length > MAX_RETAINED_CAPACITY) {
+                        keys = null;
+                        values = null;
+                    } else {
+                        Arrays.fill(keys, null);
+                        Arrays.fill(values, null);
+                    }
+                    instanceCount = 0;
+                }
+            }
+        }
+
     }
 
 }
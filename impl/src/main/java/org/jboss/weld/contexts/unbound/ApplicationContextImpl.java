@@ -24,7 +24,7 @@ import org.jboss.weld.contexts.AbstractSharedContext;
 public class ApplicationContextImpl extends AbstractSharedContext implements ApplicationContext {
 
     public ApplicationContextImpl(String contextId) {
-        super(contextId);
+        super(contextId, ApplicationScoped.class);
     }
 
     public Class<ApplicationScoped> getScope() {
@@ -10,14 +10,19 @@ import jakarta.enterprise.context.RequestScoped;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.contexts.AbstractUnboundContext;
+import org.jboss.weld.contexts.beanstore.ContextBeanIdentifierIndex;
 import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
 public class RequestContextImpl extends AbstractUnboundContext implements RequestContext {
 
+    private final ContextBeanIdentifierIndex index;
+
     public RequestContextImpl(String contextId) {
         super(contextId, false);
+        this.index = getServiceRegistry().get(ContextBeanIdentifierIndex.class);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -26,7 +31,7 @@ public class RequestContextImpl extends AbstractUnboundContext implements Reques
 
     public void activate() {
         // Attach bean store (this context is unbound, so this can simply be thread-scoped
-        setBeanStore(new HashMapBeanStore());
+        setBeanStore(index != null ? new IndexedBeanStore(index, RequestScoped.class) : new HashMapBeanStore());
         super.activate();
     }
 
@@ -26,7 +26,7 @@ import org.jboss.weld.contexts.AbstractSharedContext;
 public class SingletonContextImpl extends AbstractSharedContext implements SingletonContext {
 
     public SingletonContextImpl(String contextId) {
-        super(contextId);
+        super(contextId, Singleton.class);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -17,6 +17,7 @@
 package org.jboss.weld.event;
 
 import static org.jboss.weld.util.collections.WeldCollections.putIfAbsent;
+import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
@@ -70,14 +71,12 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
         return new EventImpl<E>(injectionPoint, beanManager);
     }
 
-    private final transient HierarchyDiscovery injectionPointTypeHierarchy;
     private transient volatile CachedObservers lastCachedObservers;
     private final transient Map<Class<?>, CachedObservers> cachedObservers;
 
     private EventImpl(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
         super(injectionPoint, null, beanManager);
         checkEventTypeArgument(injectionPoint);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(getType());
         this.cachedObservers = new ConcurrentHashMap<Class<?>, CachedObservers>(DEFAULT_CACHE_CAPACITY);
     }
 
@@ -146,10 +145,20 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
     }
 
     private CachedObservers createCachedObservers(Class<?> runtimeType) {
-        final Type eventType = getEventType(runtimeType);
-        // this performs type check
-        final ResolvedObservers<T> observers = getBeanManager().getGlobalStrictObserverNotifier()
-                .resolveObserverMethods(eventType, getQualifiers());
+        final ObserverNotifier notifier = getBeanManager().getGlobalStrictObserverNotifier();
+        final Type eventType;
+        final ResolvedObservers<T> observers;
+        final EventObserverCache cache = notifier.getEventObserverCache();
+        if (cache != null) {
+            // the resolution is shared with other instances, e.g. those created by select()
+            EventObserverCache.Resolution resolution = cache.get(getType(), getQualifiers(), runtimeType);
+            eventType = resolution.getEventType();
+            observers = cast(resolution.getObservers());
+        } else {
+            eventType = getEventType(runtimeType);
+            // this performs type check
+            observers = notifier.resolveObserverMethods(eventType, getQualifiers());
+        }
         final EventMetadata metadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers());
         return new CachedObservers(runtimeType, observers, metadata);
     }
@@ -191,14 +200,26 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
     }
 
     protected Type getEventType(Class<?> runtimeType) {
-        Type resolvedType = runtimeType;
-        if (Types.containsTypeVariable(resolvedType)) {
-            /*
-             * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
-             * infer the parameterized type of the event types.
-             */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+        return resolveEventType(getType(), runtimeType);
+    }
+
+    /**
+     * Resolves the type of an event object fired through an {@link Event} with the given specified type.
+     *
+     * @param specifiedType the specified type
+     * @param runtimeType the runtime type of the event object
+     * @return the event type
+     */
+    static Type resolveEventType(Type specifiedType, Class<?> runtimeType) {
+        if (!Types.containsTypeVariable(runtimeType)) {
+            return runtimeType;
         }
+        /*
+         * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
+         * infer the parameterized type of the event types.
+         */
+        HierarchyDiscovery injectionPointTypeHierarchy = new HierarchyDiscovery(specifiedType);
+        Type resolvedType = injectionPointTypeHierarchy.resolveType(runtimeType);
         if (Types.containsTypeVariable(resolvedType)) {
             /*
              * Examining the hierarchy of the specified type did not help. This may still be one of the cases when combining the
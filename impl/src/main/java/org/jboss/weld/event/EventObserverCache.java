@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+
+/**
+ * A container-wide cache of observer resolutions for {@link EventImpl} instances. Each {@link EventImpl} caches resolutions for
+ * the runtime types of the event objects it fired. However, {@link EventImpl#select(Annotation...)} creates a new instance with
+ * an empty cache and so the observer methods would be resolved for every selected instance. This cache is keyed by the
+ * specified event type, the specified qualifiers and the runtime type of the event object and is shared by all the
+ * instances.
+ * <p>
+ * The cache is cleared together with the {@link ObserverNotifier} that owns it, i.e. whenever the set of observer methods may
+ * change.
+ * </p>
+ *
+ * @see ObserverNotifier#getEventObserverCache()
+ */
+public final class EventObserverCache {
+
+    private final ComputingCache<Key, Resolution> resolutions;
+
+    EventObserverCache(ObserverNotifier notifier, long maxSize) {
+        this.resolutions = ComputingCacheBuilder.newBuilder().setMaxSize(maxSize).recordStatistics().build((key) -> {
+            Type eventType = EventImpl.resolveEventType(key.specifiedType, key.runtimeType);
+            // this performs type check
+            return new Resolution(eventType, notifier.resolveObserverMethods(eventType, key.qualifiers));
+        });
+    }
+
+    Resolution get(Type specifiedType, Set<Annotation> qualifiers, Class<?> runtimeType) {
+        return resolutions.getValue(new Key(specifiedType, qualifiers, runtimeType));
+    }
+
+    /**
+     * Resolves the observer methods in advance.
+     *
+     * @param specifiedType
+     * @param qualifiers
+     * @param runtimeType
+     */
+    public void preload(Type specifiedType, Set<Annotation> qualifiers, Class<?> runtimeType) {
+        get(specifiedType, qualifiers, runtimeType);
+    }
+
+    void clear() {
+        resolutions.clear();
+    }
+
+    /**
+     *
+     * @return the hit, miss and eviction counts of the cache
+     */
+    public CacheStatistics getStatistics() {
+        return resolutions.getStatistics();
+    }
+
+    @Override
+    public String toString() {
+        return "EventObserverCache " + getStatistics();
+    }
+
+    static final class Resolution {
+
+        private final Type eventType;
+
+        private final ResolvedObservers<?> observers;
+
+        private Resolution(Type eventType, ResolvedObservers<?> observers) {
+            this.eventType = eventType;
+            this.observers = observers;
+        }
+
+        Type getEventType() {
+            return eventType;
+        }
+
+        ResolvedObservers<?> getObservers() {
+            return observers;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final Type specifiedType;
+
+        private final Set<Annotation> qualifiers;
+
+        private final Class<?> runtimeType;
+
+        private final int hashCode;
+
+        private Key(Type specifiedType, Set<Annotation> qualifiers, Class<?> runtimeType) {
+            this.specifiedType = specifiedType;
+            this.qualifiers = qualifiers;
+            this.runtimeType = runtimeType;
+            int result = specifiedType.hashCode();
+            result = 31 * result + qualifiers.hashCode();
+            result = 31 * result + runtimeType.hashCode();
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key that = (Key) obj;
+                return runtimeType.equals(that.runtimeType) && specifiedType.equals(that.specifiedType)
+                        && qualifiers.equals(that.qualifiers);
+            }
+            return false;
+        }
+
+    }
+
+}
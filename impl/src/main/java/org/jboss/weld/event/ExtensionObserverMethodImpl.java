@@ -34,7 +34,11 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
 import org.jboss.weld.bootstrap.events.NotificationListener;
+import org.jboss.weld.bootstrap.events.ThreadSafeExtension;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.injection.InjectionPointFactory;
 import org.jboss.weld.injection.MethodInjectionPoint;
 import org.jboss.weld.injection.MethodInjectionPoint.MethodInjectionPointType;
@@ -57,12 +61,23 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
     private final Container containerLifecycleEventDeliveryLock;
     private final Set<Class<? extends Annotation>> requiredTypeAnnotations;
     private volatile Set<Class<? extends Annotation>> requiredScopeTypeAnnotations;
+    private final boolean threadSafe;
+    // ProcessAnnotatedType events may be delivered concurrently, see ContainerLifecycleEvents
+    private final boolean concurrentProcessAnnotatedTypeDelivery;
+    private final BootstrapProfiler profiler;
+    private final String profilerName;
 
     protected ExtensionObserverMethodImpl(EnhancedAnnotatedMethod<T, ? super X> observer, RIBean<X> declaringBean,
             BeanManagerImpl manager, boolean isAsync) {
         super(observer, declaringBean, manager, isAsync);
         this.containerLifecycleEventDeliveryLock = Container.instance(manager);
         this.requiredTypeAnnotations = initRequiredTypeAnnotations(observer);
+        this.threadSafe = getBeanClass().isAnnotationPresent(ThreadSafeExtension.class);
+        this.concurrentProcessAnnotatedTypeDelivery = threadSafe && manager.getServices().getRequired(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.CONCURRENT_PROCESS_ANNOTATED_TYPE_DELIVERY);
+        this.profiler = BootstrapProfiler.of(manager.getServices());
+        this.profilerName = profiler.isEnabled() ? getBeanClass().getName() + "." + observer.getJavaMember().getName() + "("
+                + Reflections.getRawType(getObservedType()).getSimpleName() + ")" : null;
     }
 
     protected Set<Class<? extends Annotation>> initRequiredTypeAnnotations(EnhancedAnnotatedMethod<T, ? super X> observer) {
@@ -132,8 +147,23 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
 
     @Override
     protected void sendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
-        synchronized (containerLifecycleEventDeliveryLock) {
+        if (concurrentProcessAnnotatedTypeDelivery && event instanceof ProcessAnnotatedType) {
+            // A thread-safe extension guards its own state while processing annotated types, any other event is still
+            // delivered under the lock
+            doSendEvent(event, receiver, creationalContext);
+        } else {
+            synchronized (containerLifecycleEventDeliveryLock) {
+                doSendEvent(event, receiver, creationalContext);
+            }
+        }
+    }
+
+    private void doSendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
+        final long start = System.nanoTime();
+        try {
             super.sendEvent(event, receiver, creationalContext);
+        } finally {
+            profiler.record(BootstrapProfiler.EXTENSION, profilerName, start);
         }
     }
 
@@ -145,6 +175,14 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
         return super.createTypeId(declaringBean);
     }
 
+    /**
+     *
+     * @return <code>true</code> if the declaring extension is annotated with {@link ThreadSafeExtension}
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
     public Collection<Class<? extends Annotation>> getRequiredAnnotations() {
         return requiredTypeAnnotations;
     }
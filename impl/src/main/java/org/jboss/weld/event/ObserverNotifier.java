@@ -24,16 +24,24 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -46,6 +54,8 @@ import jakarta.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.events.WeldNotificationOptions;
@@ -82,6 +92,18 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public class ObserverNotifier {
 
+    /**
+     * A Weld-specific {@link NotificationOptions} key. If set, asynchronous events fired with the same observer methods and
+     * executor are coalesced into batches so that a single task notifies the observer methods of all the events of a batch.
+     * In {@link NotificationMode#PARALLEL} mode a single task is used per observer method per batch. The
+     * {@link CompletionStage} of each event still completes once the event is delivered.
+     * <p>
+     * The value is the batch window in milliseconds, i.e. how long events are collected before the batch is delivered. If
+     * set to zero, the batch is delivered as soon as the executor runs the delivery task. The value may be a
+     * {@link Number} or a parseable {@link String}.
+     */
+    public static final String ASYNC_BATCH_WINDOW = "weld.async.notification.batchWindow";
+
     private static final RuntimeException NO_EXCEPTION_MARKER = new RuntimeException();
 
     private final TypeSafeObserverResolver resolver;
@@ -89,10 +111,12 @@ public class ObserverNotifier {
     private final boolean strict;
     protected final CurrentEventMetadata currentEventMetadata;
     private final ComputingCache<Type, RuntimeException> eventTypeCheckCache;
+    private final EventObserverCache eventObserverCache;
     private final Executor asyncEventExecutor;
     private final ScheduledExecutorService timerExecutor;
     private final SecurityServices securityServices;
     private final LazyValueHolder<RequestContext> requestContextHolder;
+    private final ConcurrentMap<AsyncEventBatchKey, AsyncEventBatch> asyncEventBatches;
 
     protected ObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         this.resolver = resolver;
@@ -101,9 +125,12 @@ public class ObserverNotifier {
         this.currentEventMetadata = services.get(CurrentEventMetadata.class);
         if (strict) {
             this.eventTypeCheckCache = ComputingCacheBuilder.newBuilder().build(new EventTypeCheck());
+            this.eventObserverCache = new EventObserverCache(this,
+                    services.get(WeldConfiguration.class).getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE));
         } else {
             // not necessary
             this.eventTypeCheckCache = null;
+            this.eventObserverCache = null;
         }
         // fall back to FJP.commonPool() if ExecutorServices are not installed
         this.asyncEventExecutor = services.getOptional(ExecutorServices.class).map((e) -> e.getTaskExecutor())
@@ -115,6 +142,7 @@ public class ObserverNotifier {
         this.requestContextHolder = LazyValueHolder
                 .forSupplier(() -> Container.instance(contextId).deploymentManager().instance()
                         .select(RequestContext.class, UnboundLiteral.INSTANCE).get());
+        this.asyncEventBatches = new ConcurrentHashMap<>();
     }
 
     /**
@@ -143,6 +171,15 @@ public class ObserverNotifier {
         return this.<T> resolveObserverMethods(buildEventResolvable(eventType, qualifiers));
     }
 
+    /**
+     * The cache is only available if strict checks are enabled.
+     *
+     * @return the container-wide cache of observer resolutions for {@link EventImpl} instances, or null
+     */
+    public EventObserverCache getEventObserverCache() {
+        return eventObserverCache;
+    }
+
     /**
      * Resolves observer methods using the given resolvable.
      *
@@ -224,6 +261,10 @@ public class ObserverNotifier {
         if (eventTypeCheckCache != null) {
             eventTypeCheckCache.clear();
         }
+        if (eventObserverCache != null) {
+            eventObserverCache.clear();
+        }
+        asyncEventBatches.clear();
     }
 
     protected void checkEventObjectType(Object event) {
@@ -358,13 +399,26 @@ public class ObserverNotifier {
         // We should always initialize and validate all notification options first
         final NotificationMode mode = initModeOption(options.get(WeldNotificationOptions.MODE));
         final Long timeout = initTimeoutOption(options.get(WeldNotificationOptions.TIMEOUT));
+        final Long batchWindow = initBatchWindowOption(options.get(ASYNC_BATCH_WINDOW));
         final Consumer<Runnable> securityContextActionConsumer = securityServices.getSecurityContextAssociator();
         // grab current TCCL
         ClassLoader tccl = Thread.currentThread().getContextClassLoader();
         final ObserverExceptionHandler exceptionHandler;
         CompletableFuture<U> completableFuture;
 
-        if (observers.size() > 1 && NotificationMode.PARALLEL.equals(mode)) {
+        if (batchWindow != null) {
+            // The event is delivered together with other events fired with the same observer methods and executor
+            final boolean parallel = observers.size() > 1 && NotificationMode.PARALLEL.equals(mode);
+            final CompletableFuture<Object> result = new CompletableFuture<>();
+            AsyncEventBatch batch = asyncEventBatches.computeIfAbsent(
+                    new AsyncEventBatchKey(observers, executor, parallel, batchWindow),
+                    key -> new AsyncEventBatch(key));
+            batch.add(new BatchedAsyncEvent(event, metadata, tccl, securityContextActionConsumer,
+                    parallel ? new CollectingExceptionHandler(new CopyOnWriteArrayList<>())
+                            : new CollectingExceptionHandler(),
+                    parallel ? observers.size() : 1, result));
+            completableFuture = cast(result);
+        } else if (observers.size() > 1 && NotificationMode.PARALLEL.equals(mode)) {
             // Attempt to notify async observers in parallel
             exceptionHandler = new CollectingExceptionHandler(new CopyOnWriteArrayList<>());
             List<CompletableFuture<T>> completableFutures = new ArrayList<>(observers.size());
@@ -421,6 +475,30 @@ public class ObserverNotifier {
         }
     }
 
+    /**
+     * Verifies that, if the batch window option was set, the input value can be interpreted as a non-negative Long and a
+     * timer is available for a positive window. Returns the batch window if all is alright, null if this option was not
+     * requested.
+     */
+    private Long initBatchWindowOption(Object batchWindowOptionValue) {
+        if (batchWindowOptionValue == null) {
+            return null;
+        }
+        long window;
+        try {
+            window = Long.parseLong(batchWindowOptionValue.toString());
+        } catch (NumberFormatException nfe) {
+            throw EventLogger.LOG.invalidInputValueForBatchWindow(batchWindowOptionValue);
+        }
+        if (window < 0) {
+            throw EventLogger.LOG.invalidInputValueForBatchWindow(batchWindowOptionValue);
+        }
+        if (window > 0 && timerExecutor == null) {
+            throw EventLogger.LOG.noScheduledExecutorServicesProvidedForBatchWindow();
+        }
+        return window;
+    }
+
     private NotificationMode initModeOption(Object value) {
         if (value != null) {
             NotificationMode mode = NotificationMode.of(value);
@@ -468,21 +546,7 @@ public class ObserverNotifier {
             ObserverExceptionHandler exceptionHandler,
             boolean handleExceptions, Runnable notifyAction) {
         return () -> {
-            ClassLoader originalCl = Thread.currentThread().getContextClassLoader();
-            final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
-            final RequestContext requestContext = requestContextHolder.get();
-            securityContextActionConsumer.accept(() -> {
-                try {
-                    Thread.currentThread().setContextClassLoader(threadContextClassLoader);
-                    requestContext.activate();
-                    notifyAction.run();
-                } finally {
-                    stack.pop();
-                    requestContext.invalidate();
-                    requestContext.deactivate();
-                    Thread.currentThread().setContextClassLoader(originalCl);
-                }
-            });
+            notifyInAsyncContext(threadContextClassLoader, securityContextActionConsumer, metadata, notifyAction);
             if (handleExceptions) {
                 handleExceptions(exceptionHandler);
             }
@@ -490,6 +554,29 @@ public class ObserverNotifier {
         };
     }
 
+    /**
+     * Associates the security context with the current thread, sets the TCCL, activates the request context and runs the
+     * "notify" action.
+     */
+    private void notifyInAsyncContext(ClassLoader threadContextClassLoader,
+            Consumer<Runnable> securityContextActionConsumer, EventMetadata metadata, Runnable notifyAction) {
+        ClassLoader originalCl = Thread.currentThread().getContextClassLoader();
+        final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
+        final RequestContext requestContext = requestContextHolder.get();
+        securityContextActionConsumer.accept(() -> {
+            try {
+                Thread.currentThread().setContextClassLoader(threadContextClassLoader);
+                requestContext.activate();
+                notifyAction.run();
+            } finally {
+                stack.pop();
+                requestContext.invalidate();
+                requestContext.deactivate();
+                Thread.currentThread().setContextClassLoader(originalCl);
+            }
+        });
+    }
+
     @SuppressFBWarnings(value = "NP_NONNULL_PARAM_VIOLATION", justification = "https://github.com/findbugsproject/findbugs/issues/79")
     private void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
@@ -560,4 +647,181 @@ public class ObserverNotifier {
             return throwables;
         }
     }
+
+    /**
+     * Identifies the batch an asynchronous event belongs to. Observer method lists and executors are compared by identity -
+     * resolved observer methods are cached by the resolver. A batch is only registered under its key until it is flushed, so
+     * that keys of executors and observer method lists which are no longer used do not accumulate.
+     */
+    private static final class AsyncEventBatchKey {
+
+        private final List<?> observers;
+        private final Executor executor;
+        private final boolean parallel;
+        private final long window;
+        private final int hashCode;
+
+        AsyncEventBatchKey(List<?> observers, Executor executor, boolean parallel, long window) {
+            this.observers = observers;
+            this.executor = executor;
+            this.parallel = parallel;
+            this.window = window;
+            this.hashCode = Objects.hash(System.identityHashCode(observers), System.identityHashCode(executor), parallel,
+                    window);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof AsyncEventBatchKey) {
+                AsyncEventBatchKey that = (AsyncEventBatchKey) obj;
+                return observers == that.observers && executor == that.executor && parallel == that.parallel
+                        && window == that.window;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * An asynchronous event waiting for delivery within a batch.
+     */
+    private static final class BatchedAsyncEvent {
+
+        private final Object event;
+        private final EventMetadata metadata;
+        private final ClassLoader threadContextClassLoader;
+        private final Consumer<Runnable> securityContextActionConsumer;
+        private final ObserverExceptionHandler exceptionHandler;
+        // The number of delivery tasks which did not process this event yet
+        private final AtomicInteger pendingTasks;
+        private final CompletableFuture<Object> result;
+
+        BatchedAsyncEvent(Object event, EventMetadata metadata, ClassLoader threadContextClassLoader,
+                Consumer<Runnable> securityContextActionConsumer, ObserverExceptionHandler exceptionHandler, int tasks,
+                CompletableFuture<Object> result) {
+            this.event = event;
+            this.metadata = metadata;
+            this.threadContextClassLoader = threadContextClassLoader;
+            this.securityContextActionConsumer = securityContextActionConsumer;
+            this.exceptionHandler = exceptionHandler;
+            this.pendingTasks = new AtomicInteger(tasks);
+            this.result = result;
+        }
+    }
+
+    /**
+     * Collects asynchronous events fired with the same observer methods and executor. Once the batch window elapses (or
+     * immediately if the window is zero), all the collected events are delivered by a single task, or a single task per
+     * observer method in the parallel mode.
+     */
+    private final class AsyncEventBatch {
+
+        private final AsyncEventBatchKey key;
+        private final List<ObserverMethod<? super Object>> observers;
+        private final Executor executor;
+        private final boolean parallel;
+        private final long window;
+        private final Queue<BatchedAsyncEvent> pending;
+        private final AtomicBoolean scheduled;
+
+        AsyncEventBatch(AsyncEventBatchKey key) {
+            this.key = key;
+            this.observers = cast(key.observers);
+            this.executor = key.executor;
+            this.parallel = key.parallel;
+            this.window = key.window;
+            this.pending = new ConcurrentLinkedQueue<>();
+            this.scheduled = new AtomicBoolean();
+        }
+
+        void add(BatchedAsyncEvent event) {
+            pending.add(event);
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    if (window > 0) {
+                        timerExecutor.schedule(() -> flush(false), window, TimeUnit.MILLISECONDS);
+                    } else {
+                        executor.execute(() -> flush(true));
+                    }
+                } catch (RejectedExecutionException e) {
+                    asyncEventBatches.remove(key, this);
+                    scheduled.set(false);
+                    fail(drain(), e);
+                }
+            }
+        }
+
+        private List<BatchedAsyncEvent> drain() {
+            List<BatchedAsyncEvent> events = new ArrayList<>();
+            for (BatchedAsyncEvent event = pending.poll(); event != null; event = pending.poll()) {
+                events.add(event);
+            }
+            return events;
+        }
+
+        /**
+         * @param onExecutor <code>true</code> if invoked by the executor so that the batch may be delivered in the current
+         *        thread
+         */
+        private void flush(boolean onExecutor) {
+            // Events fired from now on are collected by a new batch - events added concurrently to this batch are still
+            // delivered because the flush is rescheduled
+            asyncEventBatches.remove(key, this);
+            scheduled.set(false);
+            final List<BatchedAsyncEvent> events = drain();
+            if (events.isEmpty()) {
+                return;
+            }
+            try {
+                if (parallel) {
+                    for (ObserverMethod<? super Object> observer : observers) {
+                        final List<ObserverMethod<? super Object>> single = Collections.singletonList(observer);
+                        executor.execute(() -> deliver(events, single));
+                    }
+                } else if (onExecutor) {
+                    deliver(events, observers);
+                } else {
+                    executor.execute(() -> deliver(events, observers));
+                }
+            } catch (RejectedExecutionException e) {
+                fail(events, e);
+            }
+        }
+
+        private void deliver(List<BatchedAsyncEvent> events, List<ObserverMethod<? super Object>> observers) {
+            for (BatchedAsyncEvent event : events) {
+                try {
+                    notifyInAsyncContext(event.threadContextClassLoader, event.securityContextActionConsumer,
+                            event.metadata, () -> {
+                                for (ObserverMethod<? super Object> observer : observers) {
+                                    notifyAsyncObserver(observer, event.event, event.metadata, event.exceptionHandler);
+                                }
+                            });
+                } catch (Throwable e) {
+                    event.exceptionHandler.handle(e);
+                }
+                if (event.pendingTasks.decrementAndGet() == 0) {
+                    try {
+                        handleExceptions(event.exceptionHandler);
+                        event.result.complete(event.event);
+                    } catch (CompletionException e) {
+                        event.result.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+
+        private void fail(List<BatchedAsyncEvent> events, Throwable cause) {
+            for (BatchedAsyncEvent event : events) {
+                event.result.completeExceptionally(cause);
+            }
+        }
+    }
 }
@@ -34,16 +34,18 @@ public class ExecutorServicesFactory {
         final ThreadPoolType threadPoolType = initThreadPoolType(configuration);
         final long threadPoolKeepAliveTime = configuration
                 .getLongProperty(ConfigurationKey.EXECUTOR_THREAD_POOL_KEEP_ALIVE_TIME);
+        final int virtualThreadLimit = configuration.getIntegerProperty(ConfigurationKey.EXECUTOR_VIRTUAL_THREAD_LIMIT);
 
         if (debug) {
-            return enableDebugMode(constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime));
+            return enableDebugMode(
+                    constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime, virtualThreadLimit));
         } else {
-            return constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime);
+            return constructExecutorServices(threadPoolType, threadPoolSize, threadPoolKeepAliveTime, virtualThreadLimit);
         }
     }
 
     private static ExecutorServices constructExecutorServices(ThreadPoolType type, int threadPoolSize,
-            long threadPoolKeepAliveTime) {
+            long threadPoolKeepAliveTime, int virtualThreadLimit) {
         switch (type) {
             case NONE:
                 return null;
@@ -53,6 +55,8 @@ public class ExecutorServicesFactory {
                 return new TimingOutFixedThreadPoolExecutorServices(threadPoolSize, threadPoolKeepAliveTime);
             case COMMON:
                 return new CommonForkJoinPoolExecutorServices();
+            case VIRTUAL:
+                return new VirtualThreadExecutorServices(virtualThreadLimit);
             default:
                 return new FixedThreadPoolExecutorServices(threadPoolSize);
         }
@@ -90,6 +94,7 @@ public class ExecutorServicesFactory {
         FIXED_TIMEOUT,
         NONE,
         SINGLE_THREAD,
-        COMMON
+        COMMON,
+        VIRTUAL
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.executor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Implementation of {@link org.jboss.weld.manager.api.ExecutorServices} that executes each task in a new virtual thread.
+ * Requires Java 21 or newer - the virtual thread API is accessed reflectively so that Weld can still be compiled and run on
+ * older runtimes.
+ *
+ * If a positive limit is set, at most that many tasks are executed concurrently. Tasks exceeding the limit are started
+ * anyway but wait for a permit in their virtual thread, i.e. a submitter is never blocked.
+ */
+public class VirtualThreadExecutorServices extends AbstractExecutorServices {
+
+    private static final String THREAD_NAME_PREFIX = "weld-virtual-worker-";
+
+    private final int limit;
+
+    private final ExecutorService executor;
+
+    /**
+     *
+     * @param limit The maximum number of concurrently executed tasks, a non-positive value means no limit
+     */
+    public VirtualThreadExecutorServices(int limit) {
+        this.limit = limit;
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        this.executor = limit > 0 ? new BoundedExecutorService(executor, limit) : executor;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return executor;
+    }
+
+    /**
+     * Bootstrap tasks are CPU bound, so the number of workers is bounded by the number of processors if there is no limit.
+     */
+    @Override
+    protected int getThreadPoolSize() {
+        return limit > 0 ? limit : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutorServices [limit=" + limit + "]";
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 1L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null,
+                    threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw BootstrapLogger.LOG.virtualThreadsNotSupported(System.getProperty("java.version"), e);
+        }
+    }
+
+    /**
+     * Limits the number of concurrently executed tasks with a {@link Semaphore}. A permit is acquired by the thread executing
+     * the task.
+     */
+    static class BoundedExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+
+        private final Semaphore permits;
+
+        BoundedExecutorService(ExecutorService delegate, int limit) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(limit);
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(new Runnable() {
+                @Override
+                public void run() {
+                    permits.acquireUninterruptibly();
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+        @Override
+        public String toString() {
+            return "BoundedExecutorService [permits=" + permits.availablePermits() + ", delegate=" + delegate + "]";
+        }
+    }
+}
@@ -27,7 +27,7 @@ class Exceptions {
     private Exceptions() {
     }
 
-    private static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
+    static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
         if (t instanceof RuntimeException) {
             throw (RuntimeException) t;
         } else {
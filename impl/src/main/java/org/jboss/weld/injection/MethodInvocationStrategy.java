@@ -16,22 +16,33 @@
  */
 package org.jboss.weld.injection;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.List;
 
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.ObserverException;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.EventMetadata;
 
+import org.jboss.weld.bean.SessionBean;
 import org.jboss.weld.bean.builtin.BeanManagerProxy;
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
 import org.jboss.weld.bean.proxy.MethodHandler;
 import org.jboss.weld.bean.proxy.ProxyObject;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.CurrentEventMetadata;
+import org.jboss.weld.invokable.MethodHandleUtils;
+import org.jboss.weld.logging.InvokerLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.reflection.Reflections;
 
 /**
  * Encapsulates various strategies for invoking a method injection point. The default implementation supports all the possible
@@ -42,6 +53,11 @@ import org.jboss.weld.manager.BeanManagerImpl;
  * <li>an observer method with event parameter and a {@link BeanManager} injection point (common in extensions)</li>
  * <li>an observer method with event parameter and an {@link EventMetadata} injection point</li>
  * </ul>
+ * <p>
+ * Observer methods which only declare the event parameter, {@link BeanManager} and {@link EventMetadata} injection points are
+ * compiled into a {@link MethodHandle} with the injection points resolved upfront if enabled by
+ * {@link ConfigurationKey#OBSERVER_METHOD_HANDLE_DISPATCH}.
+ * </p>
  *
  * @author Jozef Hartinger
  * @author Martin Kouba
@@ -83,6 +99,13 @@ public abstract class MethodInvocationStrategy {
     }
 
     public static MethodInvocationStrategy forObserver(MethodInjectionPoint<?, ?> method, BeanManagerImpl manager) {
+        WeldConfiguration configuration = manager.getServices().get(WeldConfiguration.class);
+        if (configuration != null && configuration.getBooleanProperty(ConfigurationKey.OBSERVER_METHOD_HANDLE_DISPATCH)) {
+            MethodInvocationStrategy strategy = MethodHandleInvocationStrategy.compile(method, manager);
+            if (strategy != null) {
+                return strategy;
+            }
+        }
         List<? extends ParameterInjectionPoint<?, ?>> parameters = method.getParameterInjectionPoints();
         if (parameters.size() == 1 && parameters.get(0).getAnnotated().isAnnotationPresent(Observes.class)) {
             return OBSERVER_SIMPLE_STRATEGY;
@@ -225,4 +248,110 @@ public abstract class MethodInvocationStrategy {
             }
         }
     }
+
+    /**
+     * Invocation strategy that invokes an observer method through a {@link MethodHandle} compiled during bootstrap. The
+     * {@link BeanManager} injection points are bound upfront and the {@link EventMetadata} injection points are obtained from
+     * {@link CurrentEventMetadata}, so that no parameter resolution takes place during notification.
+     */
+    private static class MethodHandleInvocationStrategy extends MethodInvocationStrategy {
+
+        private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private static final MethodHandle PEEK_METADATA;
+
+        static {
+            try {
+                PEEK_METADATA = MethodHandles.lookup()
+                        .findVirtual(ThreadLocalStack.class, "peek", MethodType.methodType(Object.class))
+                        .asType(MethodType.methodType(EventMetadata.class, CurrentEventMetadata.class));
+            } catch (ReflectiveOperationException e) {
+                // should never happen
+                throw InvokerLogger.LOG.cannotLocateInternalMethod(e);
+            }
+        }
+
+        // (Object receiver, Object event)void
+        private final MethodHandle invoker;
+
+        private MethodHandleInvocationStrategy(MethodHandle invoker) {
+            super(ObserverException.class);
+            this.invoker = invoker;
+        }
+
+        /**
+         * @return the compiled strategy or null if the observer method cannot be compiled
+         */
+        static MethodInvocationStrategy compile(MethodInjectionPoint<?, ?> method, BeanManagerImpl manager) {
+            if (!(method instanceof StaticMethodInjectionPoint)) {
+                return null;
+            }
+            if (method.getBean() instanceof SessionBean) {
+                // The receiver of a session bean observer is an EJB proxy which does not extend the bean class
+                return null;
+            }
+            Method javaMethod = method.getAnnotated().getJavaMember();
+            int modifiers = javaMethod.getModifiers();
+            boolean isStatic = Modifier.isStatic(modifiers);
+            if (!isStatic && Reflections.isPackagePrivate(modifiers)) {
+                // Only a subclass declared in the same package may override the method, see VirtualMethodInjectionPoint
+                return null;
+            }
+            List<? extends ParameterInjectionPoint<?, ?>> parameters = method.getParameterInjectionPoints();
+            int eventParameterPosition = -1;
+            for (int i = 0; i < parameters.size(); i++) {
+                ParameterInjectionPoint<?, ?> parameter = parameters.get(i);
+                if (parameter.getAnnotated().isAnnotationPresent(Observes.class)
+                        || parameter.getAnnotated().isAnnotationPresent(ObservesAsync.class)) {
+                    eventParameterPosition = i;
+                } else if (!BeanManager.class.equals(parameter.getType()) && !EventMetadata.class.equals(parameter.getType())) {
+                    return null;
+                }
+            }
+            if (eventParameterPosition == -1) {
+                return null;
+            }
+            MethodHandle handle;
+            try {
+                handle = MethodHandleUtils.createMethodHandle(javaMethod);
+            } catch (RuntimeException e) {
+                // Fall back to reflection, e.g. if the declaring class is not accessible
+                return null;
+            }
+            int offset = isStatic ? 0 : 1;
+            // Bind the injection points starting from the last one so that the positions of the preceding ones do not change
+            MethodHandle peekMetadata = null;
+            for (int i = parameters.size() - 1; i >= 0; i--) {
+                if (i == eventParameterPosition) {
+                    continue;
+                }
+                if (BeanManager.class.equals(parameters.get(i).getType())) {
+                    handle = MethodHandles.insertArguments(handle, offset + i, new BeanManagerProxy(manager));
+                } else {
+                    if (peekMetadata == null) {
+                        peekMetadata = PEEK_METADATA.bindTo(manager.getServices().get(CurrentEventMetadata.class));
+                    }
+                    handle = MethodHandles.collectArguments(handle, offset + i, peekMetadata);
+                }
+            }
+            if (isStatic) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return new MethodHandleInvocationStrategy(handle.asType(INVOKER_TYPE));
+        }
+
+        @Override
+        public <T> void invoke(Object receiver, MethodInjectionPoint<?, ?> method, T instance, BeanManagerImpl manager,
+                CreationalContext<?> creationalContext) {
+            boolean interceptionContextStarted = startInterceptionContextIfNeeded(receiver, method);
+            try {
+                invoker.invokeExact(receiver, (Object) instance);
+            } catch (Throwable e) {
+                Exceptions.rethrowException(e, exceptionTypeToThrow);
+            }
+            if (interceptionContextStarted) {
+                endInterceptionContext();
+            }
+        }
+    }
 }
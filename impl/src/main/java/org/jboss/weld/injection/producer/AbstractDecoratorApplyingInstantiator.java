@@ -23,6 +23,7 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.Decorator;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
+import org.jboss.weld.Container;
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
 import org.jboss.weld.bean.proxy.DecorationHelper;
 import org.jboss.weld.bean.proxy.ProxyFactory;
@@ -33,6 +34,8 @@ import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.serialization.spi.ContextualStore;
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.Proxies;
 
 /**
  * Common functionality for an instantiator capable of applying decorators to a given instance.
@@ -45,7 +48,7 @@ import org.jboss.weld.serialization.spi.ContextualStore;
 public abstract class AbstractDecoratorApplyingInstantiator<T> extends ForwardingInstantiator<T> {
 
     private final Bean<T> bean;
-    private final Class<T> proxyClass;
+    private final LazyValueHolder<Class<T>> proxyClass;
     private final List<Decorator<?>> decorators;
 
     public AbstractDecoratorApplyingInstantiator(String contextId, Instantiator<T> delegate, Bean<T> bean,
@@ -53,9 +56,9 @@ public abstract class AbstractDecoratorApplyingInstantiator<T> extends Forwardin
         super(delegate);
         this.bean = bean;
         this.decorators = decorators;
-        ProxyFactory<T> factory = new ProxyFactory<T>(contextId, implementationClass, bean.getTypes(), bean, true);
-        // eagerly generate the proxy class
-        this.proxyClass = factory.getProxyClass();
+        // eagerly generate the proxy class, unless deferred generation is enabled
+        this.proxyClass = Proxies.generate(Container.instance(contextId).services(),
+                () -> new ProxyFactory<T>(contextId, implementationClass, bean.getTypes(), bean, true).getProxyClass());
     }
 
     @Override
@@ -70,7 +73,7 @@ public abstract class AbstractDecoratorApplyingInstantiator<T> extends Forwardin
     protected T getOuterDelegate(T instance, CreationalContext<T> creationalContext, InjectionPoint originalInjectionPoint,
             BeanManagerImpl manager) {
         TargetBeanInstance beanInstance = new TargetBeanInstance(bean, instance);
-        DecorationHelper<T> decorationHelper = new DecorationHelper<T>(beanInstance, bean, proxyClass, manager,
+        DecorationHelper<T> decorationHelper = new DecorationHelper<T>(beanInstance, bean, proxyClass.get(), manager,
                 manager.getServices().get(ContextualStore.class), decorators);
         DecorationHelper.push(decorationHelper);
         try {
@@ -95,7 +98,7 @@ public abstract class AbstractDecoratorApplyingInstantiator<T> extends Forwardin
     }
 
     public Class<T> getProxyClass() {
-        return proxyClass;
+        return proxyClass.get();
     }
 
     public List<Decorator<?>> getDecorators() {
@@ -19,6 +19,7 @@ package org.jboss.weld.injection.producer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
@@ -76,9 +77,10 @@ public class DecoratorInjectionTarget<T> extends BeanInjectionTarget<T> {
                     injectionPoints);
             return new SubclassedComponentInstantiator<T>(type, bean, originalConstructor, beanManager) {
                 @Override
-                protected Class<T> createEnhancedSubclass(EnhancedAnnotatedType<T> type, Bean<?> bean,
+                protected Supplier<Class<T>> prepareEnhancedSubclass(EnhancedAnnotatedType<T> type, Bean<?> bean,
                         BeanManagerImpl manager) {
-                    return new DecoratorProxyFactory<T>(manager.getContextId(), type.getJavaClass(), delegateInjectionPoint,
+                    Class<T> decoratorClass = type.getJavaClass();
+                    return () -> new DecoratorProxyFactory<T>(manager.getContextId(), decoratorClass, delegateInjectionPoint,
                             bean).getProxyClass();
                 }
             };
@@ -39,6 +39,7 @@ import jakarta.interceptor.InterceptorBinding;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedConstructor;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.DeploymentException;
 import org.jboss.weld.interceptor.builder.InterceptionModelBuilder;
@@ -101,6 +102,8 @@ public class InterceptionModelInitializer<T> {
         this.interceptorsApi = manager.getServices().get(InterceptorsApiAbstraction.class);
         this.timeoutAnnotation = manager.getServices().get(EjbSupport.class).getTimeoutAnnotation();
         this.configuration = manager.getServices().get(WeldConfiguration.class);
+        this.builder
+                .setMethodHandleDispatch(configuration.getBooleanProperty(ConfigurationKey.INTERCEPTOR_METHOD_HANDLE_DISPATCH));
     }
 
     public void init() {
@@ -21,6 +21,7 @@ import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.spi.AnnotatedMethod;
 import jakarta.enterprise.inject.spi.Bean;
@@ -41,6 +42,8 @@ import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.Proxies;
+import org.jboss.weld.util.ValueHolder;
 import org.jboss.weld.util.collections.WeldCollections;
 
 /**
@@ -72,33 +75,47 @@ public class SubclassedComponentInstantiator<T> extends AbstractInstantiator<T>
         return subclass.getDeclaredEnhancedConstructor(componentConstructor);
     }
 
-    private final ConstructorInjectionPoint<T> proxyClassConstructorInjectionPoint;
+    private final ValueHolder<ConstructorInjectionPoint<T>> proxyClassConstructorInjectionPoint;
     private final Constructor<T> componentClassConstructor;
 
     private SubclassedComponentInstantiator(ConstructorInjectionPoint<T> proxyClassConstructorInjectionPoint,
             Constructor<T> componentClassConstructor) {
-        this.proxyClassConstructorInjectionPoint = proxyClassConstructorInjectionPoint;
+        this.proxyClassConstructorInjectionPoint = () -> proxyClassConstructorInjectionPoint;
         this.componentClassConstructor = componentClassConstructor;
     }
 
     protected SubclassedComponentInstantiator(EnhancedAnnotatedType<T> type, Bean<T> bean,
             ConstructorInjectionPoint<T> originalConstructor, BeanManagerImpl manager) {
-        EnhancedAnnotatedConstructor<T> constructorForEnhancedSubclass = initEnhancedSubclass(manager, type, bean,
-                originalConstructor);
-        this.proxyClassConstructorInjectionPoint = new ProxyClassConstructorInjectionPointWrapper<T>(bean, type.getJavaClass(),
-                constructorForEnhancedSubclass, originalConstructor, manager);
+        // Only the metadata is processed here, the enhanced subclass may be generated later
+        Supplier<Class<T>> enhancedSubclass = prepareEnhancedSubclass(type, bean, manager);
+        Class<T> componentClass = type.getJavaClass();
+        String bdaId = type.slim().getIdentifier().getBdaId();
+        this.proxyClassConstructorInjectionPoint = Proxies.generate(manager.getServices(),
+                () -> new ProxyClassConstructorInjectionPointWrapper<T>(bean, componentClass,
+                        initEnhancedSubclass(manager, enhancedSubclass.get(), bdaId, originalConstructor), originalConstructor,
+                        manager));
         this.componentClassConstructor = originalConstructor.getAnnotated().getJavaMember();
     }
 
-    protected EnhancedAnnotatedConstructor<T> initEnhancedSubclass(BeanManagerImpl manager, EnhancedAnnotatedType<T> type,
-            Bean<?> bean, ConstructorInjectionPoint<T> originalConstructorInjectionPoint) {
+    private EnhancedAnnotatedConstructor<T> initEnhancedSubclass(BeanManagerImpl manager, Class<T> subclass, String bdaId,
+            ConstructorInjectionPoint<T> originalConstructorInjectionPoint) {
         ClassTransformer transformer = manager.getServices().get(ClassTransformer.class);
-        EnhancedAnnotatedType<T> enhancedSubclass = transformer
-                .getEnhancedAnnotatedType(createEnhancedSubclass(type, bean, manager), type.slim().getIdentifier().getBdaId());
+        EnhancedAnnotatedType<T> enhancedSubclass = transformer.getEnhancedAnnotatedType(subclass, bdaId);
         return findMatchingConstructor(originalConstructorInjectionPoint.getSignature(), enhancedSubclass);
     }
 
-    protected Class<T> createEnhancedSubclass(EnhancedAnnotatedType<T> type, Bean<?> bean, BeanManagerImpl manager) {
+    /**
+     * Processes the metadata needed to generate the enhanced subclass. The returned supplier generates the subclass and must
+     * not depend on the bootstrap-only services, as it may be invoked after the bootstrap is finished.
+     *
+     * @param type
+     * @param bean
+     * @param manager
+     * @return the supplier of the enhanced subclass
+     * @see org.jboss.weld.config.ConfigurationKey#DEFERRED_PROXY_GENERATION
+     */
+    protected Supplier<Class<T>> prepareEnhancedSubclass(EnhancedAnnotatedType<T> type, Bean<?> bean,
+            BeanManagerImpl manager) {
         Set<InterceptionModel> models = getInterceptionModelsForType(type, manager, bean);
         Set<MethodSignature> enhancedMethodSignatures = new HashSet<MethodSignature>();
         Set<MethodSignature> interceptedMethodSignatures = (models == null) ? enhancedMethodSignatures
@@ -122,7 +139,9 @@ public class SubclassedComponentInstantiator<T> extends AbstractInstantiator<T>
         } else {
             types = bean.getTypes();
         }
-        return new InterceptedSubclassFactory<T>(manager.getContextId(), type.getJavaClass(), types, bean,
+        Class<T> componentClass = type.getJavaClass();
+        Set<Type> beanTypes = types;
+        return () -> new InterceptedSubclassFactory<T>(manager.getContextId(), componentClass, beanTypes, bean,
                 enhancedMethodSignatures, interceptedMethodSignatures).getProxyClass();
     }
 
@@ -151,7 +170,7 @@ public class SubclassedComponentInstantiator<T> extends AbstractInstantiator<T>
 
     @Override
     public String toString() {
-        return "SubclassedComponentInstantiator for " + proxyClassConstructorInjectionPoint.getType();
+        return "SubclassedComponentInstantiator for " + componentClassConstructor.getDeclaringClass();
     }
 
     @Override
@@ -170,7 +189,7 @@ public class SubclassedComponentInstantiator<T> extends AbstractInstantiator<T>
      */
     @Override
     public ConstructorInjectionPoint<T> getConstructorInjectionPoint() {
-        return proxyClassConstructorInjectionPoint;
+        return proxyClassConstructorInjectionPoint.get();
     }
 
     @Override
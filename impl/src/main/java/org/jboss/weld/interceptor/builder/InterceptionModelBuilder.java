@@ -65,6 +65,8 @@ public class InterceptionModelBuilder {
 
     private Set<Annotation> classInterceptorBindings;
 
+    private boolean methodHandleDispatch;
+
     public InterceptionModelBuilder() {
         this.methodsIgnoringGlobalInterceptors = ImmutableSet.builder();
         this.allInterceptors = ImmutableSet.builder();
@@ -202,4 +204,12 @@ public class InterceptionModelBuilder {
         return memberInterceptorBindings.build();
     }
 
+    boolean isMethodHandleDispatch() {
+        return methodHandleDispatch;
+    }
+
+    public void setMethodHandleDispatch(boolean methodHandleDispatch) {
+        this.methodHandleDispatch = methodHandleDispatch;
+    }
+
 }
@@ -26,10 +26,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.weld.interceptor.proxy.InterceptionChain;
 import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableSet;
 
 /**
@@ -59,6 +62,8 @@ class InterceptionModelImpl implements InterceptionModel {
 
     private final Set<Annotation> classInterceptorBindings;
 
+    private final ComputingCache<Method, InterceptionChain> aroundInvokeChains;
+
     InterceptionModelImpl(InterceptionModelBuilder builder) {
         this.hasExternalNonConstructorInterceptors = builder.isHasExternalNonConstructorInterceptors();
         this.globalInterceptors = builder.getGlobalInterceptors();
@@ -68,6 +73,9 @@ class InterceptionModelImpl implements InterceptionModel {
         this.targetClassInterceptorMetadata = builder.getTargetClassInterceptorMetadata();
         this.memberInterceptorBindings = builder.getMemberInterceptorBindings();
         this.classInterceptorBindings = ImmutableSet.copyOf(builder.getClassInterceptorBindings());
+        final boolean methodHandleDispatch = builder.isMethodHandleDispatch();
+        this.aroundInvokeChains = ComputingCacheBuilder.newBuilder()
+                .<Method, InterceptionChain> build(method -> InterceptionChain.of(this, method, methodHandleDispatch));
     }
 
     @Override
@@ -149,4 +157,9 @@ class InterceptionModelImpl implements InterceptionModel {
         return memberInterceptorBindings.get(member);
     }
 
+    @Override
+    public InterceptionChain getAroundInvokeChain(Method method) {
+        return aroundInvokeChains.getValue(method);
+    }
+
 }
@@ -81,10 +81,24 @@ abstract class AbstractInvocationContext implements WeldInvocationContext {
         return contextData;
     }
 
+    /**
+     * The returned map contains the interceptor bindings. The backing {@link HashMap} is not allocated unless the map is
+     * modified or iterated.
+     *
+     * @param interceptorBindings
+     * @return the new context data
+     */
     protected static Map<String, Object> newContextData(Set<Annotation> interceptorBindings) {
-        Map<String, Object> result = new HashMap<String, Object>();
-        result.put(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
-        return result;
+        return new ContextDataMap(interceptorBindings);
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the context data is (or will be) created by {@link #newContextData(Set)} and thus contains
+     *         the interceptor bindings, <code>false</code> otherwise
+     */
+    boolean isInterceptorBindingsContextData() {
+        return contextData == null || contextData instanceof ContextDataMap;
     }
 
     @Override
@@ -21,7 +21,6 @@ import static org.jboss.weld.util.reflection.Reflections.unwrapInvocationTargetE
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -58,30 +57,33 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     public static AroundInvokeInvocationContext create(Object instance, Method method, Method proceed, Object[] args,
-            List<InterceptorMethodInvocation> chain,
-            Set<Annotation> interceptorBindings, Stack stack) {
+            InterceptionChain chain, InterceptionContext interceptionContext, Stack stack) {
         CombinedInterceptorAndDecoratorStackMethodHandler currentHandler = (stack == null) ? null : stack.peek();
         if (chain.size() == 1) {
-            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings,
-                    currentHandler);
+            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null,
+                    chain.getInterceptorBindings(), chain, currentHandler, stack);
         } else {
-            return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain,
-                    currentHandler);
+            return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, chain, interceptionContext,
+                    currentHandler, stack);
         }
     }
 
     final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
+    // the stack of the thread which started the interception, used to avoid the thread-local lookup in proceed()
+    final Stack stack;
 
     AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
             Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler,
+            Stack stack) {
         super(target, method, proceed, parameters, contextData, interceptorBindings);
         this.currentHandler = currentHandler;
+        this.stack = stack;
     }
 
     @Override
     public Object proceed() throws Exception {
-        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(currentHandler);
+        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(this.stack, currentHandler);
         try {
             return proceedInternal();
         } catch (InvocationTargetException e) {
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import java.lang.annotation.Annotation;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.weld.interceptor.WeldInvocationContext;
+
+/**
+ * The context data of an {@link AbstractInvocationContext}. Most interceptors never access the context data, therefore the
+ * backing {@link HashMap} is only allocated when the map is first modified or iterated. Until then, the map only contains the
+ * interceptor bindings stored under {@link WeldInvocationContext#INTERCEPTOR_BINDINGS_KEY}.
+ *
+ * <p>
+ * This class is not thread-safe, the same as the {@link HashMap} it replaces.
+ * </p>
+ */
+final class ContextDataMap extends AbstractMap<String, Object> {
+
+    private final Set<Annotation> interceptorBindings;
+
+    private Map<String, Object> delegate;
+
+    ContextDataMap(Set<Annotation> interceptorBindings) {
+        this.interceptorBindings = interceptorBindings;
+    }
+
+    private Map<String, Object> delegate() {
+        if (delegate == null) {
+            delegate = new HashMap<String, Object>();
+            delegate.put(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
+        }
+        return delegate;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (delegate == null) {
+            return WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY.equals(key) ? interceptorBindings : null;
+        }
+        return delegate.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (delegate == null) {
+            return WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY.equals(key);
+        }
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate == null ? 1 : delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate != null && delegate.isEmpty();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return delegate().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return delegate().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Object> map) {
+        delegate().putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        delegate().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        // the entry set view supports removal and Entry.setValue()
+        return delegate().entrySet();
+    }
+
+}
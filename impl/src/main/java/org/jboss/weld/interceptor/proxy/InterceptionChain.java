@@ -0,0 +1,355 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import static org.jboss.weld.interceptor.spi.model.InterceptionType.AROUND_INVOKE;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.interceptor.reader.AbstractInterceptorMetadata;
+import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
+import org.jboss.weld.interceptor.spi.model.InterceptionModel;
+import org.jboss.weld.invokable.MethodHandleUtils;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * An around-invoke interception chain of a business method. Unlike a list of {@link InterceptorMethodInvocation}s,
+ * the chain does not hold the interceptor instances. Instead, an interceptor instance is looked up in the
+ * {@link InterceptionContext} of the intercepted instance when the interceptor is invoked. Therefore, the chain is only
+ * computed once and shared by all the instances of the intercepted class.
+ * <p>
+ * If {@link ConfigurationKey#INTERCEPTOR_METHOD_HANDLE_DISPATCH} is enabled, the interceptor methods and the intercepted
+ * business method are invoked through {@link MethodHandle}s instead of reflection. The method handle of the business method is
+ * compiled when the chain is first used with a given proceed method since the intercepted subclass is not known in advance.
+ * </p>
+ *
+ * @see InterceptionModel#getAroundInvokeChain(Method)
+ */
+public final class InterceptionChain {
+
+    // (Object instance, InvocationContext ctx)Object
+    private static final MethodType INTERCEPTOR_METHOD_TYPE = MethodType.methodType(Object.class, Object.class,
+            InvocationContext.class);
+
+    // (Object instance, Object[] parameters)Object
+    private static final MethodType PROCEED_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     *
+     * @param model
+     * @param method
+     * @param methodHandleDispatch
+     * @return the around-invoke interception chain of the given method
+     */
+    public static InterceptionChain of(InterceptionModel model, Method method, boolean methodHandleDispatch) {
+        List<Link> links = new ArrayList<Link>();
+        for (InterceptorClassMetadata<?> interceptor : model.getInterceptors(AROUND_INVOKE, method)) {
+            if (interceptor instanceof AbstractInterceptorMetadata) {
+                AbstractInterceptorMetadata metadata = (AbstractInterceptorMetadata) interceptor;
+                for (Method interceptorMethod : metadata.getInterceptorMethods(AROUND_INVOKE)) {
+                    MethodHandle handle = methodHandleDispatch ? compile(interceptorMethod) : null;
+                    links.add(handle != null ? new CompiledInterceptorMethodLink(interceptor, interceptorMethod, handle)
+                            : new InterceptorMethodLink(interceptor, interceptorMethod));
+                }
+            } else {
+                links.add(new DelegatingLink(interceptor));
+            }
+        }
+        TargetClassInterceptorMetadata targetClassInterceptorMetadata = model.getTargetClassInterceptorMetadata();
+        if (targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(AROUND_INVOKE)) {
+            for (Method interceptorMethod : targetClassInterceptorMetadata.getInterceptorMethods(AROUND_INVOKE)) {
+                MethodHandle handle = methodHandleDispatch ? compile(interceptorMethod) : null;
+                links.add(handle != null ? new CompiledTargetClassMethodLink(interceptorMethod, handle)
+                        : new TargetClassMethodLink(interceptorMethod));
+            }
+        }
+        return new InterceptionChain(links.toArray(new Link[links.size()]), model.getMemberInterceptorBindings(method),
+                methodHandleDispatch);
+    }
+
+    /**
+     *
+     * @param interceptorMethod
+     * @return the method handle or <code>null</code> if the interceptor method is not accessible
+     */
+    private static MethodHandle compile(Method interceptorMethod) {
+        try {
+            return MethodHandleUtils.createMethodHandle(interceptorMethod).asType(INTERCEPTOR_METHOD_TYPE);
+        } catch (RuntimeException e) {
+            // Fall back to reflection
+            return null;
+        }
+    }
+
+    private final Link[] links;
+
+    private final Set<Annotation> interceptorBindings;
+
+    private final boolean methodHandleDispatch;
+
+    // the compiled business methods keyed by the proceed method, the chain may be shared by several intercepted subclasses
+    private final ConcurrentMap<Method, Proceed> proceeds;
+
+    private InterceptionChain(Link[] links, Set<Annotation> interceptorBindings, boolean methodHandleDispatch) {
+        this.links = links;
+        this.interceptorBindings = interceptorBindings;
+        this.methodHandleDispatch = methodHandleDispatch;
+        this.proceeds = new ConcurrentHashMap<>(4);
+    }
+
+    public boolean isEmpty() {
+        return links.length == 0;
+    }
+
+    public int size() {
+        return links.length;
+    }
+
+    /**
+     *
+     * @return the interceptor bindings of the intercepted method, may be <code>null</code>
+     */
+    public Set<Annotation> getInterceptorBindings() {
+        return interceptorBindings;
+    }
+
+    /**
+     * Invokes the interceptor method at the given position.
+     *
+     * @param position
+     * @param interceptionContext the interception context of the intercepted instance
+     * @param target the intercepted instance
+     * @param invocationContext
+     * @return the result of the interceptor method
+     * @throws Exception
+     */
+    Object invoke(int position, InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+            throws Exception {
+        return links[position].invoke(interceptionContext, target, invocationContext);
+    }
+
+    /**
+     * Invokes the intercepted business method, i.e. the method of the superclass of the intercepted subclass. Note that an
+     * exception thrown by the business method may be wrapped in an {@link java.lang.reflect.InvocationTargetException}.
+     *
+     * @param proceedMethod
+     * @param target the intercepted instance
+     * @param parameters
+     * @return the result of the business method
+     * @throws Exception
+     */
+    Object proceed(Method proceedMethod, Object target, Object[] parameters) throws Exception {
+        Proceed proceed = proceeds.get(proceedMethod);
+        if (proceed == null) {
+            if (!methodHandleDispatch) {
+                Reflections.ensureAccessible(proceedMethod, target);
+                return proceedMethod.invoke(target, parameters);
+            }
+            proceed = proceeds.computeIfAbsent(proceedMethod, (method) -> new Proceed(method, compileProceed(method)));
+        }
+        return proceed.invoke(target, parameters);
+    }
+
+    private static MethodHandle compileProceed(Method proceedMethod) {
+        try {
+            return MethodHandleUtils.createMethodHandle(proceedMethod)
+                    .asSpreader(Object[].class, proceedMethod.getParameterCount()).asType(PROCEED_TYPE);
+        } catch (RuntimeException e) {
+            // Fall back to reflection
+            Reflections.ensureAccessible(proceedMethod);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("InterceptionChain [");
+        for (int i = 0; i < links.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(links[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private interface Link {
+
+        Object invoke(InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+                throws Exception;
+
+    }
+
+    private static class InterceptorMethodLink implements Link {
+
+        final InterceptorClassMetadata<?> interceptor;
+
+        final Method method;
+
+        InterceptorMethodLink(InterceptorClassMetadata<?> interceptor, Method method) {
+            this.interceptor = interceptor;
+            this.method = method;
+        }
+
+        @Override
+        public Object invoke(InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+                throws Exception {
+            return method.invoke(interceptionContext.getInterceptorInstance(interceptor), invocationContext);
+        }
+
+        @Override
+        public String toString() {
+            return method.toString();
+        }
+
+    }
+
+    private static class CompiledInterceptorMethodLink extends InterceptorMethodLink {
+
+        private final MethodHandle handle;
+
+        CompiledInterceptorMethodLink(InterceptorClassMetadata<?> interceptor, Method method, MethodHandle handle) {
+            super(interceptor, method);
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke(InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+                throws Exception {
+            return invokeExact(handle, interceptionContext.getInterceptorInstance(interceptor), invocationContext);
+        }
+
+    }
+
+    private static class TargetClassMethodLink implements Link {
+
+        private final Method method;
+
+        TargetClassMethodLink(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Object invoke(InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+                throws Exception {
+            return method.invoke(target, invocationContext);
+        }
+
+        @Override
+        public String toString() {
+            return method.toString();
+        }
+
+    }
+
+    private static class CompiledTargetClassMethodLink extends TargetClassMethodLink {
+
+        private final MethodHandle handle;
+
+        CompiledTargetClassMethodLink(Method method, MethodHandle handle) {
+            super(method);
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke(InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+                throws Exception {
+            return invokeExact(handle, target, invocationContext);
+        }
+
+    }
+
+    /**
+     * Used for interceptors which are not represented by interceptor methods, e.g. custom
+     * {@link jakarta.enterprise.inject.spi.Interceptor} implementations. Such an interceptor provides a single
+     * {@link InterceptorMethodInvocation}.
+     */
+    private static class DelegatingLink implements Link {
+
+        private final InterceptorClassMetadata<?> interceptor;
+
+        DelegatingLink(InterceptorClassMetadata<?> interceptor) {
+            this.interceptor = interceptor;
+        }
+
+        @Override
+        public Object invoke(InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+                throws Exception {
+            return interceptor.getInterceptorInvocation(interceptionContext.getInterceptorInstance(interceptor), AROUND_INVOKE)
+                    .getInterceptorMethodInvocations().get(0).invoke(invocationContext);
+        }
+
+        @Override
+        public String toString() {
+            return interceptor.toString();
+        }
+
+    }
+
+    private static Object invokeExact(MethodHandle handle, Object instance, InvocationContext invocationContext)
+            throws Exception {
+        try {
+            return handle.invokeExact(instance, invocationContext);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // wrapped the same way as if invoked reflectively
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static class Proceed {
+
+        private final Method method;
+
+        // null if the method is not accessible
+        private final MethodHandle handle;
+
+        Proceed(Method method, MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+        }
+
+        Object invoke(Object target, Object[] parameters) throws Exception {
+            if (handle == null) {
+                return method.invoke(target, parameters);
+            }
+            try {
+                return handle.invokeExact(target, parameters);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+    }
+
+}
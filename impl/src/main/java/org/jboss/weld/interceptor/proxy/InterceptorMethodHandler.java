@@ -4,13 +4,9 @@ import static org.jboss.weld.interceptor.proxy.AroundInvokeInvocationContext.cre
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
@@ -29,11 +25,9 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     private static final long serialVersionUID = 1L;
 
     private final InterceptionContext ctx;
-    private final transient ConcurrentMap<Method, CachedInterceptionChain> cachedChains;
 
     public InterceptorMethodHandler(InterceptionContext ctx) {
         this.ctx = ctx;
-        this.cachedChains = new ConcurrentHashMap<Method, CachedInterceptionChain>();
     }
 
     @Override
@@ -42,75 +36,51 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     public Object invoke(Stack stack, Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
-        Reflections.ensureAccessible(proceed, self);
         if (proceed == null) {
             if (thisMethod.getName().equals(InterceptionUtils.POST_CONSTRUCT)) {
-                return executeInterception(self, null, null, null, InterceptionType.POST_CONSTRUCT, stack);
+                return executeLifecycleInterception(self, InterceptionType.POST_CONSTRUCT, stack);
             } else if (thisMethod.getName().equals(InterceptionUtils.PRE_DESTROY)) {
-                return executeInterception(self, null, null, null, InterceptionType.PRE_DESTROY, stack);
+                return executeLifecycleInterception(self, InterceptionType.PRE_DESTROY, stack);
             }
         } else {
             if (isInterceptorMethod(thisMethod)) {
+                Reflections.ensureAccessible(proceed, self);
                 return Reflections.invokeAndUnwrap(self, proceed, args);
             }
-            return executeInterception(self, thisMethod, proceed, args, InterceptionType.AROUND_INVOKE, stack);
+            return executeAroundInvoke(self, thisMethod, proceed, args, stack);
         }
         return null;
     }
 
-    protected Object executeInterception(Object instance, Method method, Method proceed, Object[] args,
-            InterceptionType interceptionType, Stack stack) throws Throwable {
-        CachedInterceptionChain chain = getInterceptionChain(instance, method, interceptionType);
-        if (chain.interceptorMethods.isEmpty()) {
+    protected Object executeLifecycleInterception(Object instance, InterceptionType interceptionType, Stack stack)
+            throws Throwable {
+        List<InterceptorMethodInvocation> interceptorMethods = ctx.buildInterceptorMethodInvocations(instance, null,
+                interceptionType);
+        if (interceptorMethods.isEmpty()) {
             // shortcut if there are no interceptors
-            if (proceed == null) {
-                return null;
-            } else {
-                return Reflections.invokeAndUnwrap(instance, proceed, args);
-            }
-        }
-        if (InterceptionType.AROUND_INVOKE == interceptionType) {
-            return executeAroundInvoke(instance, method, proceed, args, chain, stack);
-        } else {
-            return executeLifecycleInterception(instance, method, proceed, args, chain, stack);
+            return null;
         }
+        return new WeldInvocationContextImpl(instance, null, null, null, interceptorMethods,
+                ctx.getInterceptionModel().getClassInterceptorBindings(), stack).proceed();
     }
 
-    protected Object executeLifecycleInterception(Object instance, Method method, Method proceed, Object[] args,
-            CachedInterceptionChain chain, Stack stack) throws Throwable {
-        return new WeldInvocationContextImpl(instance, method, proceed, args, chain.interceptorMethods,
-                chain.interceptorBindings, stack).proceed();
-    }
-
-    protected Object executeAroundInvoke(Object instance, Method method, Method proceed, Object[] args,
-            CachedInterceptionChain chain, Stack stack) throws Throwable {
-        org.jboss.weld.interceptor.WeldInvocationContext ctx = create(instance, method, proceed, args, chain.interceptorMethods,
-                chain.interceptorBindings, stack);
+    protected Object executeAroundInvoke(Object instance, Method method, Method proceed, Object[] args, Stack stack)
+            throws Throwable {
+        // the chain is computed once per intercepted class and shared by all its instances
+        InterceptionChain chain = ctx.getInterceptionModel().getAroundInvokeChain(method);
         try {
-            return chain.interceptorMethods.get(0).invoke(ctx);
+            if (chain.isEmpty()) {
+                // shortcut if there are no interceptors
+                return chain.proceed(proceed, instance, args);
+            }
+            org.jboss.weld.interceptor.WeldInvocationContext invocationContext = create(instance, method, proceed, args,
+                    chain, ctx, stack);
+            return chain.invoke(0, ctx, instance, invocationContext);
         } catch (InvocationTargetException e) {
             throw e.getCause();
         }
     }
 
-    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, InterceptionType interceptionType) {
-        if (method != null) {
-            CachedInterceptionChain cachedChain = cachedChains.get(method);
-            if (cachedChain == null) {
-                cachedChain = new CachedInterceptionChain(
-                        ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx.getInterceptionModel()
-                                .getMemberInterceptorBindings(method));
-                CachedInterceptionChain old = cachedChains.putIfAbsent(method, cachedChain);
-                if (old != null) {
-                    cachedChain = old;
-                }
-            }
-            return cachedChain;
-        }
-        return new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, null, interceptionType),
-                ctx.getInterceptionModel().getClassInterceptorBindings());
-    }
-
     private boolean isInterceptorMethod(Method method) {
         return ctx.getInterceptionModel().getTargetClassInterceptorMetadata().isInterceptorMethod(method);
     }
@@ -118,15 +88,4 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     private Object readResolve() throws ObjectStreamException {
         return new InterceptorMethodHandler(ctx);
     }
-
-    private static class CachedInterceptionChain {
-
-        private final List<InterceptorMethodInvocation> interceptorMethods;
-        private final Set<Annotation> interceptorBindings;
-
-        public CachedInterceptionChain(List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings) {
-            this.interceptorMethods = chain;
-            this.interceptorBindings = interceptorBindings;
-        }
-    }
 }
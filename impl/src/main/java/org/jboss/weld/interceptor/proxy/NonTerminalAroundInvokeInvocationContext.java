@@ -18,13 +18,13 @@ package org.jboss.weld.interceptor.proxy;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.interceptor.WeldInvocationContext;
 
 /**
@@ -42,34 +42,37 @@ import org.jboss.weld.interceptor.WeldInvocationContext;
 class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
 
     private final int position;
-    private final List<InterceptorMethodInvocation> chain;
+    final InterceptionChain chain;
+    private final InterceptionContext interceptionContext;
 
     public NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
-            Set<Annotation> interceptorBindings,
-            List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        this(target, method, proceed, parameters, newContextData(interceptorBindings), interceptorBindings, 0, chain,
-                currentHandler);
+            InterceptionChain chain, InterceptionContext interceptionContext,
+            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler, Stack stack) {
+        this(target, method, proceed, parameters, newContextData(chain.getInterceptorBindings()),
+                chain.getInterceptorBindings(), 0, chain, interceptionContext, currentHandler, stack);
     }
 
     public NonTerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
         this(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData,
                 ctx.getInterceptorBindings(), ctx.position + 1,
-                ctx.chain, ctx.currentHandler);
+                ctx.chain, ctx.interceptionContext, ctx.currentHandler, ctx.stack);
     }
 
     private NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
             Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, int position, List<InterceptorMethodInvocation> chain,
-            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler);
+            Set<Annotation> interceptorBindings, int position, InterceptionChain chain,
+            InterceptionContext interceptionContext, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler,
+            Stack stack) {
+        super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler, stack);
         this.position = position;
         this.chain = chain;
+        this.interceptionContext = interceptionContext;
     }
 
     @Override
     public Object proceedInternal() throws Exception {
         WeldInvocationContext ctx = createNextContext();
-        return chain.get(position + 1).invoke(ctx);
+        return chain.invoke(position + 1, interceptionContext, getTarget(), ctx);
     }
 
     private WeldInvocationContext createNextContext() {
@@ -82,6 +85,7 @@ class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationCon
 
     @Override
     public String toString() {
-        return "NonTerminalAroundInvokeInvocationContext [method=" + method + ", interceptor=" + chain.get(position) + ']';
+        return "NonTerminalAroundInvokeInvocationContext [method=" + method + ", chain=" + chain + ", position=" + position
+                + ']';
     }
 }
@@ -25,6 +25,7 @@ import java.util.Set;
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 
 /**
  * The terminal {@link InvocationContext} in the interception chain. It is passed to the last interceptor in the chain and
@@ -38,21 +39,26 @@ import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandl
  */
 class TerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
 
+    private final InterceptionChain chain;
+
     public TerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
             Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+            Set<Annotation> interceptorBindings, InterceptionChain chain,
+            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler, Stack stack) {
         super(target, method, proceed, parameters, (contextData == null) ? null : new HashMap<String, Object>(contextData),
-                interceptorBindings, currentHandler);
+                interceptorBindings, currentHandler, stack);
+        this.chain = chain;
     }
 
     public TerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
         super(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData,
-                ctx.getInterceptorBindings(), ctx.currentHandler);
+                ctx.getInterceptorBindings(), ctx.currentHandler, ctx.stack);
+        this.chain = ctx.chain;
     }
 
     @Override
     public Object proceedInternal() throws Exception {
-        return getProceed().invoke(getTarget(), getParameters());
+        return chain.proceed(getProceed(), getTarget(), getParameters());
     }
 
     @Override
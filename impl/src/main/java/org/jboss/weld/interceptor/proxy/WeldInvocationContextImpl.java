@@ -55,6 +55,8 @@ public class WeldInvocationContextImpl extends ForwardingInvocationContext
     private int position;
     private final List<InterceptorMethodInvocation> chain;
     private final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
+    // the stack of the thread which started the interception, used to avoid the thread-local lookup in proceed()
+    private final Stack stack;
     private final InvocationContext delegate;
     private final Set<Annotation> interceptorBindings;
 
@@ -67,20 +69,30 @@ public class WeldInvocationContextImpl extends ForwardingInvocationContext
     public WeldInvocationContextImpl(Object target, Method targetMethod, Method proceed, Object[] parameters,
             List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings, Stack stack) {
         this(new SimpleInvocationContext(target, targetMethod, proceed, parameters, interceptorBindings), chain,
-                interceptorBindings, (stack == null) ? null : stack.peek());
+                interceptorBindings, (stack == null) ? null : stack.peek(), stack);
     }
 
     public WeldInvocationContextImpl(InvocationContext delegate, List<InterceptorMethodInvocation> chain,
             Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+        this(delegate, chain, interceptorBindings, currentHandler, null);
+    }
+
+    private WeldInvocationContextImpl(InvocationContext delegate, List<InterceptorMethodInvocation> chain,
+            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler,
+            Stack stack) {
         this.delegate = delegate;
         this.chain = chain;
         this.currentHandler = currentHandler;
+        this.stack = stack;
         if (interceptorBindings == null) {
             this.interceptorBindings = Collections.<Annotation> emptySet();
         } else {
             this.interceptorBindings = interceptorBindings;
         }
-        getContextData().put(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY, this.interceptorBindings);
+        if (!(delegate instanceof AbstractInvocationContext)
+                || !((AbstractInvocationContext) delegate).isInterceptorBindingsContextData()) {
+            getContextData().put(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY, this.interceptorBindings);
+        }
     }
 
     @Override
@@ -125,7 +137,7 @@ public class WeldInvocationContextImpl extends ForwardingInvocationContext
          */
 
         if (currentHandler != null && position != 0) {
-            stack = InterceptionDecorationContext.startIfNotOnTop(currentHandler);
+            stack = InterceptionDecorationContext.startIfNotOnTop(this.stack, currentHandler);
         }
 
         try {
@@ -25,6 +25,7 @@ import java.util.Set;
 
 import jakarta.interceptor.AroundConstruct;
 
+import org.jboss.weld.interceptor.proxy.InterceptionChain;
 import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 
@@ -95,4 +96,19 @@ public interface InterceptionModel {
      */
     Set<Annotation> getMemberInterceptorBindings(Member member);
 
+    /**
+     * Returns the around-invoke interception chain of the given business method. Implementations should compute the chain once
+     * per method so that it is shared by all the instances of the intercepted entity.
+     * <p>
+     * The default implementation builds a new chain from {@link #getInterceptors(InterceptionType, Method)} on every call and
+     * invokes the interceptor methods through reflection.
+     * </p>
+     *
+     * @param method
+     * @return the around-invoke interception chain
+     */
+    default InterceptionChain getAroundInvokeChain(Method method) {
+        return InterceptionChain.of(this, method, false);
+    }
+
 }
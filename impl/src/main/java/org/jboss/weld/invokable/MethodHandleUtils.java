@@ -18,7 +18,7 @@ import jakarta.enterprise.invoke.Invoker;
 
 import org.jboss.weld.logging.InvokerLogger;
 
-class MethodHandleUtils {
+public class MethodHandleUtils {
     private MethodHandleUtils() {
     }
 
@@ -99,7 +99,7 @@ class MethodHandleUtils {
         return MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
     }
 
-    static MethodHandle createMethodHandle(Method method) {
+    public static MethodHandle createMethodHandle(Method method) {
         try {
             return lookupFor(method).unreflect(method);
         } catch (ReflectiveOperationException e) {
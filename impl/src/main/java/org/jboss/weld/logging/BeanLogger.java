@@ -564,4 +564,16 @@ public interface BeanLogger extends WeldLogger {
 
     @Message(id = 1582, value = "Instance type argument must not be a wildcard with lower bound: {0}", format = Format.MESSAGE_FORMAT)
     IllegalArgumentException instanceTypeArgumentWithLowerBound(Object injectionPoint);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1583, value = "Pregenerated proxy class {0} loaded from the proxy catalog", format = Format.MESSAGE_FORMAT)
+    void pregeneratedProxyClassLoaded(Object param1);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1584, value = "Unable to read the proxy catalog {0}", format = Format.MESSAGE_FORMAT)
+    void cannotReadProxyCatalog(Object param1, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1585, value = "Pregenerated proxy class {0} does not match the fingerprint computed at runtime and will be generated again", format = Format.MESSAGE_FORMAT)
+    void stalePregeneratedProxyClass(Object param1);
 }
@@ -352,4 +352,19 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 185, value = "Archive trimming is permitted only for explicit bean archives. Found trimmed bean archive with discovery mode {1} and with URL {0}", format = Format.MESSAGE_FORMAT)
     DeploymentException trimmingNonExplicitBeanArchive(Object beansXmlUrl, Object beansXmlDiscoveryMode);
 
+    @Message(id = 186, value = "Thread pool type VIRTUAL requires virtual threads which are not supported by the current Java runtime: {0}", format = Format.MESSAGE_FORMAT)
+    DeploymentException virtualThreadsNotSupported(Object javaVersion, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 187, value = "Bootstrap profile: {0}", format = Format.MESSAGE_FORMAT)
+    void bootstrapProfile(Object profile);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 188, value = "Bootstrap profile exported to {0}", format = Format.MESSAGE_FORMAT)
+    void bootstrapProfileExported(Object path);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 189, value = "Unable to export the bootstrap profile to {0}", format = Format.MESSAGE_FORMAT)
+    void unableToExportBootstrapProfile(Object path, @Cause Throwable cause);
+
 }
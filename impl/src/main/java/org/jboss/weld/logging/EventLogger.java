@@ -118,4 +118,10 @@ public interface EventLogger extends WeldLogger {
 
     @Message(id = 423, value = "Event type argument must not be a wildcard without lower bound: {0}", format = Format.MESSAGE_FORMAT)
     IllegalArgumentException eventTypeArgumentWithoutLowerBound(Object injectionPoint);
+
+    @Message(id = 424, value = "Invalid input value for asynchronous observer notification batch window: {0}. Has to be a non-negative number of milliseconds, i.e. a parseable String, java.lang.Long or long.", format = Format.MESSAGE_FORMAT)
+    IllegalArgumentException invalidInputValueForBatchWindow(Object value);
+
+    @Message(id = 425, value = "Asynchronous observer notification with a positive batch window requires an implementation of ExecutorServices which provides an instance of ScheduledExecutorServices.", format = Format.MESSAGE_FORMAT)
+    UnsupportedOperationException noScheduledExecutorServicesProvidedForBatchWindow();
 }
@@ -38,6 +38,7 @@ import jakarta.enterprise.inject.spi.InterceptionFactory;
 import jakarta.inject.Provider;
 
 import org.jboss.weld.bean.AbstractProducerBean;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.events.WeldEvent;
 import org.jboss.weld.inject.WeldInstance;
@@ -46,6 +47,7 @@ import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Primitives;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableSet;
@@ -200,7 +202,10 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     public AbstractTypeSafeBeanResolver(BeanManagerImpl beanManager, final Iterable<T> beans) {
         super(beans, beanManager.getServices().get(WeldConfiguration.class));
         this.beanManager = beanManager;
-        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
+        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder()
+                .setMaxSize(beanManager.getServices().get(WeldConfiguration.class)
+                        .getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .recordStatistics().build(new BeanDisambiguation());
         this.store = beanManager.getServices().get(MetaAnnotationStore.class);
         // beansByType stores a map of a type to all beans that are assignable to
         // that type. This means that it most cases we do not need to loop through
@@ -343,6 +348,19 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         this.beansByType.clear();
     }
 
+    /**
+     *
+     * @return the hit, miss and eviction counts of the disambiguation cache
+     */
+    public CacheStatistics getDisambiguationCacheStatistics() {
+        return disambiguatedBeans.getStatistics();
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + "Disambiguation cache statistics: " + disambiguatedBeans.getStatistics() + '\n';
+    }
+
     MetaAnnotationStore getStore() {
         return store;
     }
@@ -22,8 +22,11 @@ import java.util.function.Function;
 
 import jakarta.enterprise.inject.spi.Bean;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 
@@ -63,7 +66,10 @@ public class NameBasedResolver {
      * Constructor
      */
     public NameBasedResolver(BeanManagerImpl manager, Iterable<? extends Bean<?>> allBeans) {
-        this.resolvedNames = ComputingCacheBuilder.newBuilder().build(new NameToBeanSet(manager, allBeans));
+        this.resolvedNames = ComputingCacheBuilder.newBuilder()
+                .setMaxSize(manager.getServices().get(WeldConfiguration.class)
+                        .getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .recordStatistics().build(new NameToBeanSet(manager, allBeans));
     }
 
     /**
@@ -84,6 +90,14 @@ public class NameBasedResolver {
         return resolvedNames.getValue(name);
     }
 
+    /**
+     *
+     * @return the hit, miss and eviction counts of the resolution cache
+     */
+    public CacheStatistics getCacheStatistics() {
+        return resolvedNames.getStatistics();
+    }
+
     /**
      * Gets a string representation
      *
@@ -94,6 +108,7 @@ public class NameBasedResolver {
         StringBuilder buffer = new StringBuilder();
         buffer.append("Resolver\n");
         buffer.append("Resolved names points: ").append(resolvedNames.size()).append('\n');
+        buffer.append("Cache statistics: ").append(resolvedNames.getStatistics()).append('\n');
         return buffer.toString();
     }
 
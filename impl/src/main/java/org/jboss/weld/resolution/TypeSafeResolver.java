@@ -26,6 +26,7 @@ import java.util.function.Function;
 
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableList;
@@ -67,7 +68,8 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
         this.resolved = ComputingCacheBuilder.newBuilder()
-                .setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+                .setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).recordStatistics()
+                .build(resolverFunction);
         this.allBeans = allBeans;
     }
 
@@ -144,6 +146,14 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return resolved.getValueIfPresent(wrap(resolvable)) != null;
     }
 
+    /**
+     *
+     * @return the hit, miss and eviction counts of the resolution cache
+     */
+    public CacheStatistics getCacheStatistics() {
+        return resolved.getStatistics();
+    }
+
     /**
      * Gets a string representation
      *
@@ -154,6 +164,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         StringBuilder sb = new StringBuilder();
         sb.append("Resolver\n");
         sb.append("Resolved injection points: ").append(resolved.size()).append('\n');
+        sb.append("Cache statistics: ").append(resolved.getStatistics()).append('\n');
         return sb.toString();
     }
 }
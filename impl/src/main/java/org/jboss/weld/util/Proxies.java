@@ -31,11 +31,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.UnproxyableResolutionException;
 import org.jboss.weld.logging.UtilLogger;
@@ -263,6 +265,22 @@ public class Proxies {
         return null;
     }
 
+    /**
+     * The value is computed immediately, unless {@link ConfigurationKey#DEFERRED_PROXY_GENERATION} is enabled. In that case, it
+     * is computed when first requested.
+     *
+     * @param services
+     * @param generator the function that generates a proxy class or a component that requires one
+     * @return the holder of the value
+     */
+    public static <V> LazyValueHolder<V> generate(ServiceRegistry services, Supplier<V> generator) {
+        LazyValueHolder<V> holder = LazyValueHolder.forSupplier(generator);
+        if (!services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.DEFERRED_PROXY_GENERATION)) {
+            holder.get();
+        }
+        return holder;
+    }
+
     public static Object getDeclaringBeanInfo(Bean<?> bean) {
         return (bean != null) ? bean : "<unknownjakarta.enterprise.inject.spi.Bean instance>";
     }
@@ -0,0 +1,325 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.weld.util.ValueHolder;
+
+/**
+ * A reentrant {@link ComputingCache} with a maximum size and a segmented eviction policy.
+ * <p>
+ * A new entry is appended to the probationary queue. A cache hit only marks the entry as referenced. When the maximum size
+ * is exceeded, a single thread takes entries from the head of the probationary queue until the cache is shrunk by
+ * {@value #EVICTION_RATIO_PERCENT}% of its maximum size. A referenced entry is promoted to the protected queue, an entry
+ * which was not requested again is evicted. The protected queue may hold up to {@value #PROTECTED_RATIO_PERCENT}% of the
+ * maximum size. Once it overflows, its head is demoted to the head of the probationary queue, unless it was referenced since
+ * its promotion, in which case it gets a second chance at the tail of the protected queue. Protected entries are only evicted
+ * if there are no probationary entries left. Hence a burst of one-off lookups does not evict the entries which are requested
+ * repeatedly, while entries which were requested repeatedly a long time ago do not stay forever.
+ * <p>
+ * Every entry taken from a queue either is evicted, or consumes its referenced mark, so the cost of an eviction does not
+ * depend on the size of the cache. Invalidated entries are skipped when they reach the head of a queue, or purged once the
+ * probationary queue grows beyond twice the maximum size.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see ReentrantMapBackedComputingCache
+ */
+class BoundedComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
+
+    static final int EVICTION_RATIO_PERCENT = 10;
+
+    static final int PROTECTED_RATIO_PERCENT = 80;
+
+    private final ConcurrentMap<K, Node<K, V>> map;
+    private final long maxSize;
+    private final long evictionThreshold;
+    private final long protectedMaxSize;
+    private final Function<K, ValueHolder<V>> function;
+    private final StatisticsRecorder statistics;
+    private final Deque<Node<K, V>> probationary;
+    // Number of nodes in the probationary queue, including the invalidated ones
+    private final AtomicLong probationarySize;
+    // Guarded by evictionLock
+    private final Deque<Node<K, V>> protectedEntries;
+    private final ReentrantLock evictionLock;
+
+    BoundedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction,
+            long maxSize, StatisticsRecorder statistics) {
+        this.map = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.evictionThreshold = maxSize - (maxSize * EVICTION_RATIO_PERCENT / 100);
+        this.protectedMaxSize = maxSize * PROTECTED_RATIO_PERCENT / 100;
+        this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        this.statistics = statistics;
+        this.probationary = new ConcurrentLinkedDeque<>();
+        this.probationarySize = new AtomicLong();
+        this.protectedEntries = new ArrayDeque<>();
+        this.evictionLock = new ReentrantLock();
+    }
+
+    @Override
+    public V getValue(final K key) {
+        Node<K, V> node = map.get(key);
+        if (node != null) {
+            statistics.recordHit();
+            node.touch();
+        } else {
+            statistics.recordMiss();
+            node = new Node<>(key, function.apply(key));
+            Node<K, V> previous = map.putIfAbsent(key, node);
+            if (previous != null) {
+                node = previous;
+                node.touch();
+            } else {
+                probationary.offerLast(node);
+                long queued = probationarySize.incrementAndGet();
+                if (map.size() > maxSize || queued > 2 * maxSize) {
+                    evict();
+                }
+            }
+        }
+        return node.holder.get();
+    }
+
+    private void evict() {
+        // Only a single thread evicts, the others proceed and may temporarily exceed the bound
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long excess = map.size() - evictionThreshold;
+            int evicted = 0;
+            while (evicted < excess) {
+                Node<K, V> victim = nextVictim();
+                if (victim == null) {
+                    break;
+                }
+                if (map.remove(victim.key, victim)) {
+                    evicted++;
+                }
+            }
+            statistics.recordEvictions(evicted);
+            if (probationarySize.get() > 2 * maxSize) {
+                purgeInvalidated();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private Node<K, V> nextVictim() {
+        Node<K, V> node;
+        while ((node = pollProbationary()) != null) {
+            if (!isCurrent(node)) {
+                continue;
+            }
+            if (!node.referenced) {
+                return node;
+            }
+            // Requested again since it was added - promote
+            node.referenced = false;
+            protectedEntries.addLast(node);
+            if (protectedEntries.size() > protectedMaxSize) {
+                demote();
+            }
+        }
+        // Only protected entries are left
+        while ((node = protectedEntries.pollFirst()) != null) {
+            if (isCurrent(node)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private void demote() {
+        for (int i = protectedEntries.size(); i > 0 && protectedEntries.size() > protectedMaxSize; i--) {
+            Node<K, V> node = protectedEntries.pollFirst();
+            if (!isCurrent(node)) {
+                continue;
+            }
+            if (node.referenced) {
+                // Second chance
+                node.referenced = false;
+                protectedEntries.addLast(node);
+            } else {
+                // The least recently promoted entry competes with the new entries from now on and is evicted before them
+                probationary.offerFirst(node);
+                probationarySize.incrementAndGet();
+            }
+        }
+    }
+
+    private Node<K, V> pollProbationary() {
+        Node<K, V> node = probationary.pollFirst();
+        if (node != null) {
+            probationarySize.decrementAndGet();
+        }
+        return node;
+    }
+
+    private void purgeInvalidated() {
+        for (Iterator<Node<K, V>> iterator = probationary.iterator(); iterator.hasNext();) {
+            if (!isCurrent(iterator.next())) {
+                iterator.remove();
+                probationarySize.decrementAndGet();
+            }
+        }
+        protectedEntries.removeIf(node -> !isCurrent(node));
+    }
+
+    private boolean isCurrent(Node<K, V> node) {
+        return map.get(node.key) == node;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getCastValue(Object key) {
+        return (T) getValue((K) key);
+    }
+
+    @Override
+    public V getValueIfPresent(K key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        return node.holder.getIfPresent();
+    }
+
+    @Override
+    public long size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            map.clear();
+            probationary.clear();
+            probationarySize.set(0);
+            protectedEntries.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        map.remove(key);
+    }
+
+    @Override
+    public Iterable<V> getAllPresentValues() {
+        return this;
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    @Override
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (Node<K, V> node : map.values()) {
+            V value = node.holder.getIfPresent();
+            if (value != null) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<V>() {
+
+            private final Iterator<Node<K, V>> delegate = map.values().iterator();
+            private V next = findNext();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            private V findNext() {
+                while (delegate.hasNext()) {
+                    V next = delegate.next().holder.getIfPresent();
+                    if (next != null) {
+                        return next;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                V current = next;
+                this.next = findNext();
+                return current;
+            }
+        };
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+
+        private final ValueHolder<V> holder;
+
+        private volatile boolean referenced;
+
+        private Node(K key, ValueHolder<V> holder) {
+            this.key = key;
+            this.holder = holder;
+        }
+
+        private void touch() {
+            // Avoid writes to shared memory if nothing changed
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(holder);
+        }
+    }
+
+}
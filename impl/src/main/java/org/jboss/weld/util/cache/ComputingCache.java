@@ -81,4 +81,11 @@ public interface ComputingCache<K, V> {
      */
     void forEachValue(Consumer<? super V> consumer);
 
+    /**
+     *
+     * @return a snapshot of the statistics of this cache
+     * @see ComputingCacheBuilder#recordStatistics()
+     */
+    CacheStatistics getStatistics();
+
 }
@@ -18,7 +18,10 @@ package org.jboss.weld.util.cache;
 
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.ValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +36,8 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private boolean recordStatistics;
+
     private ComputingCacheBuilder() {
     }
 
@@ -45,9 +50,12 @@ public final class ComputingCacheBuilder {
     }
 
     /**
+     * The cache will not grow beyond the given size. Once the size is exceeded, the least recently used entries are evicted
+     * and entries requested only once are evicted first.
      *
      * @param maxSize
      * @return self
+     * @see BoundedComputingCache
      */
     public ComputingCacheBuilder setMaxSize(long maxSize) {
         this.maxSize = maxSize;
@@ -64,15 +72,29 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * The cache should record the number of hits, misses and evictions.
+     *
+     * @return self
+     * @see ComputingCache#getStatistics()
+     */
+    public ComputingCacheBuilder recordStatistics() {
+        this.recordStatistics = true;
+        return this;
+    }
+
     /**
      *
      * @param computingFunction
      * @return a new ComputingCache instance
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
-        if (weakValues) {
-            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
+        Function<Supplier<V>, ValueHolder<V>> valueHolderFunction = weakValues ? WeakLazyValueHolder::forSupplier
+                : LazyValueHolder::forSupplier;
+        StatisticsRecorder statistics = recordStatistics ? new StatisticsRecorder() : StatisticsRecorder.DISABLED;
+        if (maxSize != null) {
+            return new BoundedComputingCache<>(computingFunction, valueHolderFunction, maxSize, statistics);
         }
-        return new ReentrantMapBackedComputingCache<>(computingFunction, maxSize);
+        return new ReentrantMapBackedComputingCache<>(computingFunction, valueHolderFunction, statistics);
     }
 }
@@ -29,7 +29,7 @@ import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.ValueHolder;
 
 /**
- * A {@link ComputingCache} backed by a {@link ConcurrentHashMap} which intentionally does not use
+ * An unbounded {@link ComputingCache} backed by a {@link ConcurrentHashMap} which intentionally does not use
  * {@link Map#computeIfAbsent(Object, Function)}
  * and is reentrant.
  *
@@ -39,37 +39,33 @@ import org.jboss.weld.util.ValueHolder;
  * @param <V> the value type
  * @see ValueHolder
  * @see LazyValueHolder
+ * @see BoundedComputingCache
  */
 class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
 
     private final ConcurrentMap<K, ValueHolder<V>> map;
-    private final Long maxSize;
     private final Function<K, ValueHolder<V>> function;
-
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Long maxSize) {
-        this(computingFunction, LazyValueHolder::forSupplier, maxSize);
-    }
+    private final StatisticsRecorder statistics;
 
     ReentrantMapBackedComputingCache(Function<K, V> computingFunction,
-            Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+            Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, StatisticsRecorder statistics) {
         this.map = new ConcurrentHashMap<>();
-        this.maxSize = maxSize;
         this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        this.statistics = statistics;
     }
 
     @Override
     public V getValue(final K key) {
         ValueHolder<V> value = map.get(key);
         if (value == null) {
+            statistics.recordMiss();
             value = function.apply(key);
             ValueHolder<V> previous = map.putIfAbsent(key, value);
             if (previous != null) {
                 value = previous;
             }
-            // finally, check that we are not over the bound
-            if (maxSize != null && size() > maxSize) {
-                clear();
-            }
+        } else {
+            statistics.recordHit();
         }
         return value.get();
     }
@@ -109,6 +105,11 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
         return this;
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
     @Override
     public String toString() {
         return map.toString();
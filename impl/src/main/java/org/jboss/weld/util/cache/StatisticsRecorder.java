@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the statistics of a {@link ComputingCache}.
+ *
+ * @see CacheStatistics
+ */
+class StatisticsRecorder {
+
+    /**
+     * Records nothing.
+     */
+    static final StatisticsRecorder DISABLED = new StatisticsRecorder() {
+
+        @Override
+        void recordHit() {
+        }
+
+        @Override
+        void recordMiss() {
+        }
+
+        @Override
+        void recordEvictions(int count) {
+        }
+
+        @Override
+        CacheStatistics snapshot() {
+            return CacheStatistics.EMPTY;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEvictions(int count) {
+        evictions.add(count);
+    }
+
+    CacheStatistics snapshot() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+}
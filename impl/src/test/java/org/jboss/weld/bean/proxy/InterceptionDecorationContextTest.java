@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
+import org.junit.Test;
+
+public class InterceptionDecorationContextTest {
+
+    private static final CombinedInterceptorAndDecoratorStackMethodHandler HANDLER =
+            new CombinedInterceptorAndDecoratorStackMethodHandler();
+
+    @Test
+    public void testStartWithCurrentStack() {
+        Stack stack = InterceptionDecorationContext.startIfNotOnTop(HANDLER);
+        assertNotNull(stack);
+        try {
+            // the handler is on top already
+            assertNull(InterceptionDecorationContext.startIfNotOnTop(stack, HANDLER));
+            Stack nested = InterceptionDecorationContext.startIfNotOnTop(stack,
+                    CombinedInterceptorAndDecoratorStackMethodHandler.NULL_INSTANCE);
+            assertSame(stack, nested);
+            assertSame(CombinedInterceptorAndDecoratorStackMethodHandler.NULL_INSTANCE, InterceptionDecorationContext.peek());
+            nested.end();
+            assertSame(HANDLER, InterceptionDecorationContext.peek());
+        } finally {
+            stack.end();
+        }
+        assertTrue(InterceptionDecorationContext.empty());
+    }
+
+    @Test
+    public void testStartWithInvalidStack() {
+        Stack stack = InterceptionDecorationContext.startIfNotOnTop(HANDLER);
+        stack.end();
+        // the stack was removed once it got empty
+        Stack current = InterceptionDecorationContext.startIfNotOnTop(stack, HANDLER);
+        assertNotNull(current);
+        assertNotSame(stack, current);
+        current.end();
+    }
+
+    @Test
+    public void testStartWithStackOfDifferentThread() throws InterruptedException {
+        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(HANDLER);
+        final AtomicReference<Stack> current = new AtomicReference<>();
+        final AtomicReference<Boolean> handlerOnTop = new AtomicReference<>();
+        try {
+            Thread thread = new Thread(() -> {
+                Stack result = InterceptionDecorationContext.startIfNotOnTop(stack, HANDLER);
+                current.set(result);
+                handlerOnTop.set(InterceptionDecorationContext.peek() == HANDLER);
+                result.end();
+            });
+            thread.start();
+            thread.join();
+        } finally {
+            stack.end();
+        }
+        assertNotNull(current.get());
+        assertNotSame(stack, current.get());
+        assertTrue(handlerOnTop.get());
+        assertTrue(InterceptionDecorationContext.empty());
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.weld.interceptor.WeldInvocationContext;
+import org.junit.Test;
+
+public class ContextDataMapTest {
+
+    private static final Set<Annotation> BINDINGS = Collections.emptySet();
+
+    @Test
+    public void testReadWithoutModification() {
+        Map<String, Object> contextData = new ContextDataMap(BINDINGS);
+        assertSame(BINDINGS, contextData.get(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY));
+        assertTrue(contextData.containsKey(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY));
+        assertFalse(contextData.containsKey("foo"));
+        assertNull(contextData.get("foo"));
+        assertEquals(1, contextData.size());
+        assertFalse(contextData.isEmpty());
+    }
+
+    @Test
+    public void testModification() {
+        Map<String, Object> contextData = new ContextDataMap(BINDINGS);
+        assertNull(contextData.put("foo", "bar"));
+        assertEquals("bar", contextData.get("foo"));
+        assertSame(BINDINGS, contextData.get(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY));
+        assertEquals(2, contextData.size());
+        assertEquals("bar", contextData.remove("foo"));
+        contextData.clear();
+        assertTrue(contextData.isEmpty());
+        assertNull(contextData.get(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY));
+    }
+
+    @Test
+    public void testEquality() {
+        Map<String, Object> expected = new HashMap<String, Object>();
+        expected.put(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY, BINDINGS);
+        Map<String, Object> contextData = new ContextDataMap(BINDINGS);
+        assertEquals(expected, contextData);
+        assertEquals(contextData, expected);
+        assertEquals(expected.hashCode(), contextData.hashCode());
+    }
+
+}
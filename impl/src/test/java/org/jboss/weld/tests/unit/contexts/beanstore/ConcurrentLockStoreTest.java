@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts.beanstore;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.contexts.beanstore.ConcurrentLockStore;
+import org.jboss.weld.contexts.beanstore.LockStore;
+import org.jboss.weld.contexts.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentLockStoreTest {
+
+    @Test
+    public void testLockIsReentrant() {
+        LockStore store = new ConcurrentLockStore();
+        BeanIdentifier id = new StringBeanIdentifier("foo");
+        LockedBean outer = store.lock(id);
+        LockedBean inner = store.lock(id);
+        Assert.assertSame(outer, inner);
+        inner.unlock();
+        outer.unlock();
+        // A released lock is discarded
+        LockedBean next = store.lock(id);
+        Assert.assertNotSame(outer, next);
+        next.unlock();
+    }
+
+    @Test
+    public void testMutualExclusion() throws Exception {
+        LockStore store = new ConcurrentLockStore();
+        BeanIdentifier id = new StringBeanIdentifier("foo");
+        int threads = 8;
+        int iterations = 10000;
+        AtomicInteger holders = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < iterations; j++) {
+                        LockedBean lock = store.lock(id);
+                        try {
+                            if (holders.incrementAndGet() != 1) {
+                                violations.incrementAndGet();
+                            }
+                            holders.decrementAndGet();
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(0, violations.get());
+    }
+
+    @Test
+    public void testDifferentBeansDoNotBlock() throws Exception {
+        LockStore store = new ConcurrentLockStore();
+        LockedBean foo = store.lock(new StringBeanIdentifier("foo"));
+        try {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                executor.submit(() -> store.lock(new StringBeanIdentifier("bar")).unlock()).get(10, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            foo.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanAttributes;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bean.AbstractBeanIdentifier;
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.contexts.beanstore.ConcurrentIndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.ContextBeanIdentifierIndex;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.LockStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class IndexedBeanStoreTest {
+
+    private static final BeanIdentifier ALPHA = new StringBeanIdentifier("alpha");
+    private static final BeanIdentifier BRAVO = new StringBeanIdentifier("bravo");
+    private static final BeanIdentifier CHARLIE = new StringBeanIdentifier("charlie");
+    private static final BeanIdentifier DELTA = new StringBeanIdentifier("delta");
+
+    @Test
+    public void testIndexedAndFallbackInstances() {
+        ContextBeanIdentifierIndex index = buildIndex();
+        testIndexedAndFallbackInstances(new IndexedBeanStore(index, RequestScoped.class));
+        testIndexedAndFallbackInstances(
+                new ConcurrentIndexedBeanStore(index, RequestScoped.class, LockStore.Type.SYNCHRONIZED));
+    }
+
+    @Test
+    public void testPositionsAssignedPerScope() {
+        buildIndex();
+        // Both scopes start at the first position
+        assertEquals(0, ((AbstractBeanIdentifier) ALPHA).getSlot());
+        assertEquals(1, ((AbstractBeanIdentifier) BRAVO).getSlot());
+        assertEquals(0, ((AbstractBeanIdentifier) DELTA).getSlot());
+        assertEquals(-1, ((AbstractBeanIdentifier) CHARLIE).getSlot());
+    }
+
+    @Test
+    public void testIdentifierOfDifferentScope() {
+        ContextBeanIdentifierIndex index = buildIndex();
+        BeanStore store = new IndexedBeanStore(index, RequestScoped.class);
+        ContextualInstance<String> alpha = instance("alpha");
+        ContextualInstance<String> delta = instance("delta");
+        store.put(ALPHA, alpha);
+        // DELTA has the same position within the application scope but must not override ALPHA
+        store.put(DELTA, delta);
+        assertSame(alpha, store.get(ALPHA));
+        assertSame(delta, store.get(DELTA));
+        assertEquals(ids(ALPHA, DELTA), ids(store));
+    }
+
+    @Test
+    public void testEqualIdentifierWithoutPosition() {
+        ContextBeanIdentifierIndex index = buildIndex();
+        BeanStore store = new IndexedBeanStore(index, RequestScoped.class);
+        ContextualInstance<String> stale = instance("stale");
+        ContextualInstance<String> alpha = instance("alpha");
+        // e.g. an instance fetched from the backing storage of a bound context
+        store.put(new StringBeanIdentifier("alpha"), stale);
+        assertSame(stale, store.get(ALPHA));
+        store.put(ALPHA, alpha);
+        assertSame(alpha, store.get(ALPHA));
+        assertEquals(ids(ALPHA), ids(store));
+    }
+
+    @Test
+    public void testInstancePutBeforeIndexBuilt() {
+        ContextBeanIdentifierIndex index = new ContextBeanIdentifierIndex();
+        testInstancePutBeforeIndexBuilt(new IndexedBeanStore(index, RequestScoped.class), index);
+        index = new ContextBeanIdentifierIndex();
+        testInstancePutBeforeIndexBuilt(new ConcurrentIndexedBeanStore(index, RequestScoped.class, LockStore.Type.SYNCHRONIZED),
+                index);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        ContextBeanIdentifierIndex index = buildIndex();
+        testIteratorRemove(new IndexedBeanStore(index, RequestScoped.class));
+        testIteratorRemove(new ConcurrentIndexedBeanStore(index, RequestScoped.class, LockStore.Type.SYNCHRONIZED));
+    }
+
+    private void testIndexedAndFallbackInstances(BeanStore store) {
+        assertFalse(store.iterator().hasNext());
+        ContextualInstance<String> alpha = instance("alpha");
+        ContextualInstance<String> charlie = instance("charlie");
+        store.put(ALPHA, alpha);
+        // Not indexed
+        store.put(CHARLIE, charlie);
+        assertSame(alpha, store.get(ALPHA));
+        assertSame(charlie, store.get(CHARLIE));
+        assertNull(store.get(BRAVO));
+        assertTrue(store.contains(ALPHA));
+        assertFalse(store.contains(BRAVO));
+        assertEquals(ids(ALPHA, CHARLIE), ids(store));
+        assertSame(alpha, store.remove(ALPHA));
+        assertNull(store.remove(ALPHA));
+        assertFalse(store.contains(ALPHA));
+        store.put(BRAVO, instance("bravo"));
+        assertEquals(ids(BRAVO, CHARLIE), ids(store));
+        store.clear();
+        assertFalse(store.iterator().hasNext());
+        assertNull(store.get(CHARLIE));
+    }
+
+    private void testInstancePutBeforeIndexBuilt(BeanStore store, ContextBeanIdentifierIndex index) {
+        ContextualInstance<String> alpha = instance("alpha");
+        store.put(ALPHA, alpha);
+        index.build(beans());
+        assertSame(alpha, store.get(ALPHA));
+        assertEquals(ids(ALPHA), ids(store));
+        ContextualInstance<String> bravo = instance("bravo");
+        store.put(BRAVO, bravo);
+        assertSame(bravo, store.get(BRAVO));
+        assertSame(alpha, store.remove(ALPHA));
+        assertEquals(ids(BRAVO), ids(store));
+    }
+
+    private void testIteratorRemove(BeanStore store) {
+        store.put(ALPHA, instance("alpha"));
+        store.put(BRAVO, instance("bravo"));
+        store.put(CHARLIE, instance("charlie"));
+        Iterator<BeanIdentifier> iterator = store.iterator();
+        while (iterator.hasNext()) {
+            BeanIdentifier id = iterator.next();
+            if (!id.equals(BRAVO)) {
+                iterator.remove();
+            }
+        }
+        assertEquals(ids(BRAVO), ids(store));
+    }
+
+    private static ContextBeanIdentifierIndex buildIndex() {
+        ContextBeanIdentifierIndex index = new ContextBeanIdentifierIndex();
+        index.build(beans());
+        return index;
+    }
+
+    private static Set<Bean<?>> beans() {
+        Set<Bean<?>> beans = new HashSet<Bean<?>>();
+        beans.add(DummyBean.of(ALPHA, RequestScoped.class));
+        beans.add(DummyBean.of(BRAVO, RequestScoped.class));
+        beans.add(DummyBean.of(DELTA, ApplicationScoped.class));
+        return beans;
+    }
+
+    private static Set<BeanIdentifier> ids(BeanIdentifier... ids) {
+        Set<BeanIdentifier> result = new HashSet<BeanIdentifier>();
+        for (BeanIdentifier id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static Set<BeanIdentifier> ids(BeanStore store) {
+        Set<BeanIdentifier> result = new HashSet<BeanIdentifier>();
+        for (BeanIdentifier id : store) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static ContextualInstance<String> instance(final String value) {
+        return new ContextualInstance<String>() {
+
+            @Override
+            public String getInstance() {
+                return value;
+            }
+
+            @Override
+            public CreationalContext<String> getCreationalContext() {
+                return null;
+            }
+
+            @Override
+            public Contextual<String> getContextual() {
+                return null;
+            }
+        };
+    }
+
+    private static class DummyBean<T> extends CommonBean<T> {
+
+        private final Class<? extends Annotation> scope;
+
+        static <T> DummyBean<T> of(BeanIdentifier id, Class<? extends Annotation> scope) {
+            return new DummyBean<>(null, id, scope);
+        }
+
+        protected DummyBean(BeanAttributes<T> attributes, BeanIdentifier identifier, Class<? extends Annotation> scope) {
+            super(attributes, identifier);
+            this.scope = scope;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return scope;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return null;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return null;
+        }
+
+        @Override
+        public T create(CreationalContext<T> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(T instance, CreationalContext<T> creationalContext) {
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.contexts.cache.RequestScopedItem;
+import org.junit.After;
+import org.junit.Test;
+
+public class RequestScopedCacheTest {
+
+    @After
+    public void cleanup() {
+        RequestScopedCache.endRequest();
+    }
+
+    @Test
+    public void testItemsInvalidatedAtEndOfEachRequest() {
+        AtomicInteger invalidations = new AtomicInteger();
+        RequestScopedItem item = new CountingItem(invalidations);
+        assertFalse(RequestScopedCache.addItemIfActive(item));
+        for (int i = 1; i <= 3; i++) {
+            RequestScopedCache.beginRequest();
+            assertTrue(RequestScopedCache.isActive());
+            // More items than the initial capacity
+            for (int j = 0; j < 100; j++) {
+                assertTrue(RequestScopedCache.addItemIfActive(item));
+            }
+            RequestScopedCache.endRequest();
+            assertFalse(RequestScopedCache.isActive());
+            assertEquals(i * 100, invalidations.get());
+        }
+        // Ending an inactive cache is a no-op
+        RequestScopedCache.endRequest();
+        assertEquals(300, invalidations.get());
+    }
+
+    @Test
+    public void testInvalidateKeepsCacheActive() {
+        AtomicInteger invalidations = new AtomicInteger();
+        RequestScopedCache.beginRequest();
+        RequestScopedCache.addItem(new CountingItem(invalidations));
+        RequestScopedCache.invalidate();
+        assertTrue(RequestScopedCache.isActive());
+        assertEquals(1, invalidations.get());
+        RequestScopedCache.endRequest();
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    public void testItemAddedDuringInvalidationIsIgnored() {
+        final AtomicInteger invalidations = new AtomicInteger();
+        RequestScopedCache.beginRequest();
+        RequestScopedCache.addItem(new RequestScopedItem() {
+            @Override
+            public void invalidate() {
+                invalidations.incrementAndGet();
+                assertFalse(RequestScopedCache.addItemIfActive(this));
+            }
+        });
+        RequestScopedCache.endRequest();
+        RequestScopedCache.beginRequest();
+        RequestScopedCache.endRequest();
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    public void testCachedInstances() {
+        Object[] keys = new Object[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Object();
+        }
+        assertFalse(RequestScopedCache.putInstanceIfActive(keys[0], "foo"));
+        assertNull(RequestScopedCache.getInstance(keys[0]));
+        for (int request = 0; request < 2; request++) {
+            RequestScopedCache.beginRequest();
+            for (int i = 0; i < keys.length; i++) {
+                assertNull(RequestScopedCache.getInstance(keys[i]));
+                assertTrue(RequestScopedCache.putInstanceIfActive(keys[i], request + ":" + i));
+            }
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(request + ":" + i, RequestScopedCache.getInstance(keys[i]));
+            }
+            RequestScopedCache.invalidate();
+            assertNull(RequestScopedCache.getInstance(keys[0]));
+            RequestScopedCache.putInstanceIfActive(keys[0], "bar");
+            assertEquals("bar", RequestScopedCache.getInstance(keys[0]));
+            RequestScopedCache.endRequest();
+            assertNull(RequestScopedCache.getInstance(keys[0]));
+        }
+    }
+
+    @Test
+    public void testNoThreadLocalRemainsAfterEndRequest() throws Exception {
+        RequestScopedCache.beginRequest();
+        RequestScopedCache.addItem(new CountingItem(new AtomicInteger()));
+        assertNotNull(getRegistry());
+        RequestScopedCache.endRequest();
+        assertNull(getRegistry());
+        // Invalidation within a request does not retain the registry either
+        RequestScopedCache.beginRequest();
+        RequestScopedCache.invalidate();
+        RequestScopedCache.endRequest();
+        assertNull(getRegistry());
+    }
+
+    @Test
+    public void testRegistryTakenFromPool() throws Exception {
+        RequestScopedCache.beginRequest();
+        Object registry = getRegistry();
+        RequestScopedCache.invalidate();
+        assertTrue(registry == getRegistry());
+        RequestScopedCache.endRequest();
+        assertNull(getRegistry());
+        RequestScopedCache.beginRequest();
+        assertTrue(registry == getRegistry());
+        RequestScopedCache.endRequest();
+    }
+
+    @Test
+    public void testRetainedRegistryReused() throws Exception {
+        try {
+            RequestScopedCache.beginRequest(true);
+            Object registry = getRegistry();
+            RequestScopedCache.invalidate();
+            assertTrue(registry == getRegistry());
+            RequestScopedCache.endRequest();
+            assertTrue(registry == getRegistry());
+            RequestScopedCache.beginRequest(true);
+            assertTrue(registry == getRegistry());
+            RequestScopedCache.endRequest();
+            // A request which is not retained removes the registry
+            RequestScopedCache.beginRequest(false);
+            RequestScopedCache.endRequest();
+            assertNull(getRegistry());
+        } finally {
+            RequestScopedCache.beginRequest();
+            RequestScopedCache.endRequest();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddItemWhenNotActive() {
+        RequestScopedCache.beginRequest();
+        RequestScopedCache.endRequest();
+        RequestScopedCache.addItem(new CountingItem(new AtomicInteger()));
+    }
+
+    private static Object getRegistry() throws Exception {
+        Field cache = RequestScopedCache.class.getDeclaredField("CACHE");
+        cache.setAccessible(true);
+        return ((ThreadLocal<?>) cache.get(null)).get();
+    }
+
+    private static class CountingItem implements RequestScopedItem {
+
+        private final AtomicInteger invalidations;
+
+        CountingItem(AtomicInteger invalidations) {
+            this.invalidations = invalidations;
+        }
+
+        @Override
+        public void invalidate() {
+            invalidations.incrementAndGet();
+        }
+    }
+
+}
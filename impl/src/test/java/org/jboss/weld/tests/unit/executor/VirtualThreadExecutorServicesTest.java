@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.executor.VirtualThreadExecutorServices;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VirtualThreadExecutorServicesTest {
+
+    @Before
+    public void checkVirtualThreadsSupported() {
+        Assume.assumeTrue(Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    public void testTasksExecutedInVirtualThreads() throws Exception {
+        VirtualThreadExecutorServices executorServices = new VirtualThreadExecutorServices(0);
+        try {
+            String name = executorServices.getTaskExecutor().submit(() -> Thread.currentThread().toString()).get(10,
+                    TimeUnit.SECONDS);
+            assertTrue(name, name.contains("weld-virtual-worker-"));
+        } finally {
+            executorServices.cleanup();
+        }
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        final int limit = 2;
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(limit);
+        VirtualThreadExecutorServices executorServices = new VirtualThreadExecutorServices(limit);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                tasks.add(() -> {
+                    int current = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(current, Math::max);
+                    started.countDown();
+                    // Give the other tasks a chance to exceed the limit
+                    started.await(10, TimeUnit.SECONDS);
+                    Thread.sleep(5);
+                    running.decrementAndGet();
+                    return null;
+                });
+            }
+            assertEquals(16, executorServices.invokeAllAndCheckForExceptions(tasks).size());
+            assertEquals(limit, maxRunning.get());
+        } finally {
+            executorServices.cleanup();
+        }
+    }
+
+}
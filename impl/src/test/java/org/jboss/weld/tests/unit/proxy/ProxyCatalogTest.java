@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.weld.bean.proxy.ProxyCatalog;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProxyCatalogTest {
+
+    private static final byte[] FOO = { 1, 2, 3 };
+
+    private static final byte[] BAR = { 4, 5 };
+
+    private static final String FINGERPRINT = "abc=";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testCatalogInJar() throws IOException {
+        File jar = folder.newFile("proxies.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(ProxyCatalog.getClassFileLocation("org.acme.Foo$Proxy$_$$_WeldClientProxy")));
+            out.write(FOO);
+            out.putNextEntry(new JarEntry(ProxyCatalog.CATALOG_NAME));
+            out.write((ProxyCatalog.HEADER + "\norg.acme.Foo$Proxy$_$$_WeldClientProxy " + FINGERPRINT + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        ProxyCatalog catalog = createCatalog(jar);
+        assertTrue(catalog.contains("org.acme.Foo$Proxy$_$$_WeldClientProxy"));
+        assertArrayEquals(FOO, catalog.getBytecode("org.acme.Foo$Proxy$_$$_WeldClientProxy", FINGERPRINT));
+        assertFalse(catalog.contains("org.acme.Bar$Proxy$_$$_WeldClientProxy"));
+        assertNull(catalog.getBytecode("org.acme.Bar$Proxy$_$$_WeldClientProxy", FINGERPRINT));
+    }
+
+    @Test
+    public void testStaleClassIgnored() throws IOException {
+        File directory = createCatalogDirectory("stale", ProxyCatalog.HEADER, "org.acme.Bar_$$_WeldSubclass", BAR);
+        ProxyCatalog catalog = createCatalog(directory);
+        assertTrue(catalog.contains("org.acme.Bar_$$_WeldSubclass"));
+        assertNull(catalog.getBytecode("org.acme.Bar_$$_WeldSubclass", "def="));
+        assertArrayEquals(BAR, catalog.getBytecode("org.acme.Bar_$$_WeldSubclass", FINGERPRINT));
+    }
+
+    @Test
+    public void testFingerprint() {
+        List<Class<?>> classes = Arrays.asList(ProxyCatalogTest.class, Runnable.class);
+        String fingerprint = ProxyCatalog.getFingerprint(classes, "ignoreFinalMethods=false");
+        assertEquals(fingerprint, ProxyCatalog.getFingerprint(classes, "ignoreFinalMethods=false"));
+        assertNotEquals(fingerprint, ProxyCatalog.getFingerprint(classes, "ignoreFinalMethods=true"));
+        assertNotEquals(fingerprint, ProxyCatalog.getFingerprint(classes.subList(0, 1), "ignoreFinalMethods=false"));
+    }
+
+    @Test
+    public void testFirstCatalogWins() throws IOException {
+        File first = createCatalogDirectory("first", ProxyCatalog.HEADER, "org.acme.Bar_$$_WeldSubclass", FOO);
+        File second = createCatalogDirectory("second", ProxyCatalog.HEADER, "org.acme.Bar_$$_WeldSubclass", BAR);
+        ProxyCatalog catalog = createCatalog(first, second);
+        assertArrayEquals(FOO, catalog.getBytecode("org.acme.Bar_$$_WeldSubclass", FINGERPRINT));
+    }
+
+    @Test
+    public void testUnsupportedFormatIgnored() throws IOException {
+        File directory = createCatalogDirectory("invalid", "weld-proxies:0", "org.acme.Bar_$$_WeldSubclass", BAR);
+        assertNull(createCatalog(directory).getBytecode("org.acme.Bar_$$_WeldSubclass", FINGERPRINT));
+    }
+
+    private File createCatalogDirectory(String name, String header, String className, byte[] bytecode) throws IOException {
+        Path root = folder.newFolder(name).toPath();
+        Path classFile = root.resolve(ProxyCatalog.getClassFileLocation(className));
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, bytecode);
+        Files.write(root.resolve(ProxyCatalog.CATALOG_NAME),
+                (header + "\n" + className + " " + FINGERPRINT + "\n").getBytes(StandardCharsets.UTF_8));
+        return root.toFile();
+    }
+
+    private ProxyCatalog createCatalog(File... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toURI().toURL();
+        }
+        return new ProxyCatalog(new ClassLoaderResourceLoader(new URLClassLoader(urls, null)));
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link ComputingCacheBuilder#setMaxSize(long)}
+ */
+public class BoundedComputingCacheTest {
+
+    @Test
+    public void testSizeIsBounded() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(100).build(String::valueOf);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(String.valueOf(i), cache.getValue(i));
+            Assert.assertTrue(cache.size() <= 100);
+        }
+    }
+
+    @Test
+    public void testBurstDoesNotEvictFrequentlyUsedEntries() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(100).build(key -> {
+            computations.incrementAndGet();
+            return String.valueOf(key);
+        });
+        // Warm entries are requested repeatedly
+        for (int i = 0; i < 20; i++) {
+            cache.getValue(i);
+            cache.getValue(i);
+        }
+        // A burst of one-off lookups
+        for (int i = 1000; i < 2000; i++) {
+            cache.getValue(i);
+        }
+        int computed = computations.get();
+        for (int i = 0; i < 20; i++) {
+            Assert.assertNotNull(cache.getValueIfPresent(i));
+            cache.getValue(i);
+        }
+        Assert.assertEquals(computed, computations.get());
+    }
+
+    @Test
+    public void testStaleProtectedEntriesDemoted() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).build(String::valueOf);
+        // All the entries are promoted
+        for (int i = 0; i < 10; i++) {
+            cache.getValue(i);
+            cache.getValue(i);
+        }
+        for (int i = 2; i < 10; i++) {
+            cache.getValue(i);
+        }
+        // The protected segment overflows and the least recently used entries 0 and 1 are demoted and evicted first
+        cache.getValue(10);
+        Assert.assertNull(cache.getValueIfPresent(0));
+        Assert.assertNull(cache.getValueIfPresent(1));
+        Assert.assertNotNull(cache.getValueIfPresent(10));
+        for (int i = 2; i < 10; i++) {
+            Assert.assertNotNull(cache.getValueIfPresent(i));
+        }
+    }
+
+    @Test
+    public void testInvalidatedEntriesPurged() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).build(String::valueOf);
+        for (int i = 0; i < 1000; i++) {
+            cache.getValue(i % 5);
+            cache.invalidate(i % 5);
+        }
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(String.valueOf(i), cache.getValue(i));
+            Assert.assertTrue(cache.size() <= 10);
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).recordStatistics()
+                .build(String::valueOf);
+        for (int i = 0; i < 20; i++) {
+            cache.getValue(i);
+        }
+        cache.getValue(19);
+        CacheStatistics statistics = cache.getStatistics();
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(20, statistics.getMissCount());
+        Assert.assertEquals(20 - cache.size(), statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testStatisticsNotRecordedByDefault() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().build(String::valueOf);
+        cache.getValue(1);
+        cache.getValue(1);
+        Assert.assertEquals(0, cache.getStatistics().getHitCount());
+        Assert.assertEquals(0, cache.getStatistics().getMissCount());
+    }
+
+}
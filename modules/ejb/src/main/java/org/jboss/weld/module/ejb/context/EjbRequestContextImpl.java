@@ -5,6 +5,8 @@ import java.lang.annotation.Annotation;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.interceptor.InvocationContext;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.ejb.EjbRequestContext;
 import org.jboss.weld.contexts.AbstractBoundContext;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
@@ -16,9 +18,13 @@ public class EjbRequestContextImpl extends AbstractBoundContext<InvocationContex
 
     private final NamingScheme namingScheme;
 
+    private final boolean retainRequestScopedCache;
+
     public EjbRequestContextImpl(String contextId) {
         super(contextId, false);
         this.namingScheme = new SimpleNamingScheme(EjbRequestContext.class.getName());
+        this.retainRequestScopedCache = getServiceRegistry().getRequired(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.RETAIN_REQUEST_SCOPED_CACHE);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -38,7 +44,7 @@ public class EjbRequestContextImpl extends AbstractBoundContext<InvocationContex
     @Override
     public void activate() {
         super.activate();
-        RequestScopedCache.beginRequest();
+        RequestScopedCache.beginRequest(retainRequestScopedCache);
     }
 
     @Override
@@ -39,6 +39,8 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
 
     private final boolean resetHttpSessionAttributeOnBeanAccess;
 
+    private final LockStore.Type lockStoreType;
+
     /**
      *
      * @param namingScheme
@@ -47,8 +49,10 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
     public AbstractSessionBeanStore(NamingScheme namingScheme, boolean attributeLazyFetchingEnabled,
             ServiceRegistry serviceRegistry) {
         super(namingScheme, attributeLazyFetchingEnabled);
-        this.resetHttpSessionAttributeOnBeanAccess = serviceRegistry.get(WeldConfiguration.class)
+        WeldConfiguration configuration = serviceRegistry.get(WeldConfiguration.class);
+        this.resetHttpSessionAttributeOnBeanAccess = configuration
                 .getBooleanProperty(ConfigurationKey.RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS);
+        this.lockStoreType = LockStore.Type.from(configuration);
     }
 
     protected Iterator<String> getAttributeNames() {
@@ -116,7 +120,7 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
             }
             HttpSession session = getSession(false);
             if (session == null) {
-                lockStore = new LockStore();
+                lockStore = lockStoreType.create();
                 CURRENT_LOCK_STORE.set(lockStore);
                 try {
                     session = getSession(true);
@@ -133,7 +137,7 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
                 synchronized (AbstractSessionBeanStore.class) {
                     lockStore = (LockStore) session.getAttribute(SESSION_KEY);
                     if (lockStore == null) {
-                        lockStore = new LockStore();
+                        lockStore = lockStoreType.create();
                         session.setAttribute(SESSION_KEY, lockStore);
                     }
                 }
@@ -21,6 +21,8 @@ import java.lang.annotation.Annotation;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.http.HttpRequestContext;
 import org.jboss.weld.contexts.AbstractBoundContext;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
@@ -36,12 +38,16 @@ public class HttpRequestContextImpl extends AbstractBoundContext<HttpServletRequ
 
     private final NamingScheme namingScheme;
 
+    private final boolean retainRequestScopedCache;
+
     /**
      * Constructor
      */
     public HttpRequestContextImpl(String contextId) {
         super(contextId, false);
         this.namingScheme = new SimpleNamingScheme(HttpRequestContext.class.getName());
+        this.retainRequestScopedCache = getServiceRegistry().getRequired(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.RETAIN_REQUEST_SCOPED_CACHE);
     }
 
     public boolean associate(HttpServletRequest request) {
@@ -64,7 +70,7 @@ public class HttpRequestContextImpl extends AbstractBoundContext<HttpServletRequ
     @Override
     public void activate() {
         super.activate();
-        RequestScopedCache.beginRequest();
+        RequestScopedCache.beginRequest(retainRequestScopedCache);
     }
 
     @Override